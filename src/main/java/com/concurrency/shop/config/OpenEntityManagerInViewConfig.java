@@ -0,0 +1,33 @@
+package com.concurrency.shop.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+
+import java.util.Set;
+
+/**
+ * OSIV(spring.jpa.open-in-view) 적용 범위 - 대량 주문은 제외
+ * - OSIV는 요청 전체에서 EntityManager 하나를 공유 → 대량 주문의 주문별 트랜잭션도 같은 1차 캐시를 재사용
+ *   → 요청이 끝날 때까지 엔티티가 쌓이고, 앞 주문에서 읽은 사용자/쿠폰이 다시 읽히지 않아 다른 요청의 변경을 덮어씀
+ * - 제외한 경로는 트랜잭션마다 새 EntityManager 사용 (주문 응답은 지연 로딩 없이 만들어짐)
+ * - 이 필터가 등록되면 Spring Boot 기본 OSIV 인터셉터는 등록되지 않음
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.jpa", name = "open-in-view", havingValue = "true", matchIfMissing = true)
+public class OpenEntityManagerInViewConfig {
+
+    static final Set<String> EXCLUDED_PATHS = Set.of("/api/v2/orders/bulk");
+
+    @Bean
+    public OpenEntityManagerInViewFilter openEntityManagerInViewFilter() {
+        return new OpenEntityManagerInViewFilter() {
+            @Override
+            protected boolean shouldNotFilter(HttpServletRequest request) {
+                return EXCLUDED_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.concurrency.shop.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감지 - JFR jdk.VirtualThreadPinned 이벤트 스트리밍 (Java 21, vthreads 프로필)
+ * - 가상 스레드가 synchronized 블록/네이티브 프레임 안에서 threshold 이상 블로킹되면 캐리어 스레드가 묶여 처리량이 떨어짐
+ * - 고정을 일으킨 첫 번째 비 JDK 프레임(드라이버, Redisson, 우리 코드)별로 카운터 shop.vthreads.pinned{frame} 증가
+ * - 프레임마다 처음 감지될 때 한 번 스택을 로그로 남김
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningDetector {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+    private static final int LOGGED_FRAMES = 15;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long thresholdMillis;
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningDetector(MeterRegistry meterRegistry,
+                                        @Value("${shop.diagnostics.pinning.enabled:false}") boolean enabled,
+                                        @Value("${shop.diagnostics.pinning.threshold-ms:20}") long thresholdMillis) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        if (Runtime.version().feature() < 21) {
+            log.warn("[VThreads] 가상 스레드 고정 감지는 Java 21 이상에서만 동작합니다 (현재: {})", Runtime.version());
+            return;
+        }
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMillis)).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("[VThreads] 가상 스레드 고정 감지 시작 - 기준: {}ms", thresholdMillis);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String frame = pinningFrame(frames);
+
+        meterRegistry.counter("shop.vthreads.pinned", "frame", frame).increment();
+        if (reportedFrames.add(frame)) {
+            log.warn("[VThreads] 캐리어 스레드 고정 감지 - {} ({}ms)\n{}", frame, event.getDuration().toMillis(),
+                frames.stream().limit(LOGGED_FRAMES).map(this::describe).collect(Collectors.joining("\n")));
+        }
+    }
+
+    private String pinningFrame(List<RecordedFrame> frames) {
+        return frames.stream()
+            .filter(RecordedFrame::isJavaFrame)
+            .filter(frame -> JDK_PACKAGES.stream().noneMatch(frame.getMethod().getType().getName()::startsWith))
+            .findFirst()
+            .map(this::describe)
+            .orElse("unknown");
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
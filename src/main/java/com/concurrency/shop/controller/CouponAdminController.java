@@ -0,0 +1,60 @@
+package com.concurrency.shop.controller;
+
+import com.concurrency.shop.dto.CouponIssueJobResponse;
+import com.concurrency.shop.service.v2.CouponIssueJobService;
+import com.concurrency.shop.service.v2.CouponTokenPoolService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 쿠폰 운영 API (대량 발급 작업, 선착순 토큰 풀)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/coupons")
+@RequiredArgsConstructor
+public class CouponAdminController {
+
+    private final CouponIssueJobService couponIssueJobService;
+    private final CouponTokenPoolService couponTokenPoolService;
+
+    /**
+     * 전체 사용자 대상 대량 발급 작업 시작 (비동기, 진행 상황은 작업 조회로 확인)
+     */
+    @PostMapping("/{couponId}/issue-jobs")
+    public ResponseEntity<CouponIssueJobResponse> startIssueJob(@PathVariable Long couponId,
+                                                                @RequestParam(required = false) Integer chunkSize,
+                                                                @RequestParam(required = false) Integer workerCount) {
+        log.info("[Admin API] 쿠폰 대량 발급 요청 - 쿠폰 ID: {}, 청크: {}, 워커: {}", couponId, chunkSize, workerCount);
+
+        return ResponseEntity.accepted()
+            .body(new CouponIssueJobResponse(couponIssueJobService.start(couponId, chunkSize, workerCount)));
+    }
+
+    @GetMapping("/issue-jobs/{jobId}")
+    public ResponseEntity<CouponIssueJobResponse> getIssueJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(new CouponIssueJobResponse(couponIssueJobService.getJob(jobId)));
+    }
+
+    /**
+     * 실패/중단된 작업을 체크포인트부터 재개
+     */
+    @PostMapping("/issue-jobs/{jobId}/resume")
+    public ResponseEntity<CouponIssueJobResponse> resumeIssueJob(@PathVariable Long jobId) {
+        log.info("[Admin API] 쿠폰 대량 발급 재개 요청 - 작업 ID: {}", jobId);
+
+        return ResponseEntity.accepted().body(new CouponIssueJobResponse(couponIssueJobService.resume(jobId)));
+    }
+
+    /**
+     * 선착순 토큰 풀 적재 (기존 토큰은 교체)
+     */
+    @PutMapping("/{couponId}/token-pool")
+    public ResponseEntity<Long> fillTokenPool(@PathVariable Long couponId, @RequestParam Integer count) {
+        log.info("[Admin API] 쿠폰 토큰 풀 적재 요청 - 쿠폰 ID: {}, 토큰 수: {}", couponId, count);
+
+        return ResponseEntity.ok(couponTokenPoolService.fill(couponId, count));
+    }
+}
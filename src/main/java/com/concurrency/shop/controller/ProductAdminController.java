@@ -0,0 +1,58 @@
+package com.concurrency.shop.controller;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.dto.StockResponse;
+import com.concurrency.shop.service.v2.StripedStockService;
+import com.concurrency.shop.waitingroom.HotProductRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+/**
+ * 상품 운영 설정 API
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/products")
+@RequiredArgsConstructor
+public class ProductAdminController {
+
+    private final ProductRepository productRepository;
+    private final StripedStockService stripedStockService;
+    private final HotProductRegistry hotProductRegistry;
+
+    /**
+     * 재고 샤드 개수 변경 (1: 분할 해제, 2 이상: 재고 분할)
+     */
+    @PutMapping("/{productId}/stock-shards")
+    public ResponseEntity<StockResponse> changeStockShardCount(@PathVariable Long productId,
+                                                               @RequestParam Integer shardCount) {
+        log.info("[Admin API] 재고 샤드 변경 요청 - 상품 ID: {}, 샤드 수: {}", productId, shardCount);
+
+        Integer totalStock = stripedStockService.changeShardCount(productId, shardCount);
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+
+        return ResponseEntity.ok(new StockResponse(product, totalStock));
+    }
+
+    /**
+     * 대기열 대상(인기) 상품 지정/해제 - 지정된 상품이 포함된 V2 주문은 대기열 입장 토큰 필요
+     */
+    @PutMapping("/{productId}/hot")
+    public ResponseEntity<Set<Long>> markHot(@PathVariable Long productId,
+                                            @RequestParam(defaultValue = "true") boolean enabled) {
+        log.info("[Admin API] 대기열 대상 상품 변경 요청 - 상품 ID: {}, 대상: {}", productId, enabled);
+
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId);
+        }
+        hotProductRegistry.mark(productId, enabled);
+
+        return ResponseEntity.ok(hotProductRegistry.getHotProductIds());
+    }
+}
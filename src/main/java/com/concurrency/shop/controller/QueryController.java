@@ -9,13 +9,22 @@ import com.concurrency.shop.domain.product.ProductRepository;
 import com.concurrency.shop.domain.user.User;
 import com.concurrency.shop.domain.user.UserRepository;
 import com.concurrency.shop.dto.OrderResponse;
+import com.concurrency.shop.dto.PointHistoryPageResponse;
 import com.concurrency.shop.dto.StockResponse;
+import com.concurrency.shop.service.PointHistoryQueryService;
+import com.concurrency.shop.service.v2.PointLedgerService;
+import com.concurrency.shop.service.v2.StripedStockService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,13 +42,18 @@ public class QueryController {
     private final UserRepository userRepository;
     private final CouponRepository couponRepository;
     private final OrderRepository orderRepository;
+    private final StripedStockService stripedStockService;
+    private final PointLedgerService pointLedgerService;
+    private final PointHistoryQueryService pointHistoryQueryService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/products/{productId}/stock")
     public ResponseEntity<StockResponse> getStock(@PathVariable Long productId) {
         Product product = productRepository.findById(productId)
             .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
 
-        return ResponseEntity.ok(new StockResponse(product));
+        // 재고 분할 상품은 샤드 합계가 실제 재고
+        return ResponseEntity.ok(new StockResponse(product, stripedStockService.getTotalStock(product)));
     }
 
     @GetMapping("/products")
@@ -56,11 +70,40 @@ public class QueryController {
         response.put("userId", user.getId());
         response.put("username", user.getUsername());
         response.put("grade", user.getGrade());
-        response.put("pointBalance", user.getPointBalance());
+        // 스냅샷 + 이후 원장 증감 (원장 기록이 없는 사용자는 users.point_balance와 같음)
+        response.put("pointBalance", pointLedgerService.getBalance(userId));
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 포인트 이력 최신순 페이지 조회 - 응답의 nextCursor를 다음 요청의 cursor로 전달 (size는 최대 100)
+     */
+    @GetMapping("/users/{userId}/point-histories")
+    public ResponseEntity<PointHistoryPageResponse> getPointHistories(@PathVariable Long userId,
+                                                                      @RequestParam(defaultValue = "20") int size,
+                                                                      @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(pointHistoryQueryService.getPage(userId, size, cursor));
+    }
+
+    /**
+     * 포인트 이력 전체 내보내기 (NDJSON 스트리밍 - 한 줄에 이력 한 건)
+     */
+    @GetMapping(value = "/users/{userId}/point-histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPointHistories(@PathVariable Long userId) {
+        log.info("[Query API] 포인트 이력 내보내기 - 사용자 ID: {}", userId);
+
+        StreamingResponseBody body = outputStream -> pointHistoryQueryService.export(userId, history -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(history));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @GetMapping("/users")
     public ResponseEntity<List<User>> getAllUsers() {
         return ResponseEntity.ok(userRepository.findAll());
@@ -3,6 +3,7 @@ package com.concurrency.shop.controller.v1;
 import com.concurrency.shop.domain.order.Order;
 import com.concurrency.shop.dto.OrderRequest;
 import com.concurrency.shop.dto.OrderResponse;
+import com.concurrency.shop.idempotency.IdempotencyService;
 import com.concurrency.shop.service.v1.OrderServiceV1;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,18 +20,22 @@ import org.springframework.web.bind.annotation.*;
 public class OrderControllerV1 {
 
     private final OrderServiceV1 orderServiceV1;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest request) {
+    public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest request,
+                                                     @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         log.info("[V1 API] 주문 생성 요청 - 사용자 ID: {}", request.getUserId());
 
-        try {
-            Order order = orderServiceV1.createOrder(request);
-            return ResponseEntity.ok(new OrderResponse(order));
-        } catch (Exception e) {
-            log.error("[V1 API] 주문 생성 실패", e);
-            throw e;
-        }
+        return ResponseEntity.ok(idempotencyService.execute("order:v1", idempotencyKey, request, OrderResponse.class, () -> {
+            try {
+                Order order = orderServiceV1.createOrder(request);
+                return new OrderResponse(order);
+            } catch (Exception e) {
+                log.error("[V1 API] 주문 생성 실패", e);
+                throw e;
+            }
+        }));
     }
 
     @PostMapping("/{orderId}/cancel")
@@ -0,0 +1,26 @@
+package com.concurrency.shop.controller.v2;
+
+import com.concurrency.shop.service.v2.CouponTokenPoolService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * V2: 선착순 쿠폰 발급 API (Redis 토큰 풀 LPOP)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v2/coupons")
+@RequiredArgsConstructor
+public class CouponControllerV2 {
+
+    private final CouponTokenPoolService couponTokenPoolService;
+
+    @PostMapping("/{couponId}/claim")
+    public ResponseEntity<String> claim(@PathVariable Long couponId, @RequestParam Long userId) {
+        log.info("[V2 API] 선착순 쿠폰 발급 요청 - 쿠폰 ID: {}, 사용자 ID: {}", couponId, userId);
+
+        return ResponseEntity.ok(couponTokenPoolService.claim(couponId, userId));
+    }
+}
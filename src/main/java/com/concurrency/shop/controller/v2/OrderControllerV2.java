@@ -3,11 +3,26 @@ package com.concurrency.shop.controller.v2;
 import com.concurrency.shop.domain.order.Order;
 import com.concurrency.shop.dto.OrderRequest;
 import com.concurrency.shop.dto.OrderResponse;
+import com.concurrency.shop.dto.OrderTicketResponse;
+import com.concurrency.shop.idempotency.IdempotencyService;
+import com.concurrency.shop.intake.BulkOrderService;
+import com.concurrency.shop.intake.OrderIntakeService;
+import com.concurrency.shop.service.v2.AsyncOrderService;
+import com.concurrency.shop.service.v2.ConcurrencyMode;
 import com.concurrency.shop.service.v2.OrderServiceV2;
+import com.concurrency.shop.waitingroom.WaitingRoomService;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.CompletionException;
 
 /**
  * V2: 동시성 처리가 적용된 주문 API
@@ -18,19 +33,118 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class OrderControllerV2 {
 
+    private static final long ASYNC_RESPONSE_MARGIN_MILLIS = 30_000L;
+
     private final OrderServiceV2 orderServiceV2;
+    private final AsyncOrderService asyncOrderService;
+    private final WaitingRoomService waitingRoomService;
+    private final OrderIntakeService orderIntakeService;
+    private final BulkOrderService bulkOrderService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest request) {
-        log.info("[V2 API] 주문 생성 요청 - 사용자 ID: {}", request.getUserId());
+    public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest request,
+                                                     @RequestParam(defaultValue = "PESSIMISTIC") ConcurrencyMode mode,
+                                                     @RequestHeader(value = WaitingRoomService.ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
+                                                     @RequestHeader(value = IdempotencyService.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        log.info("[V2 API] 주문 생성 요청 - 사용자 ID: {}, 모드: {}", request.getUserId(), mode);
+
+        // 같은 Idempotency-Key 재시도는 입장 토큰/락/DB 없이 첫 요청의 응답을 받음
+        return ResponseEntity.ok(idempotencyService.execute("order:v2", idempotencyKey, request, OrderResponse.class,
+            () -> placeOrder(request, mode, admissionToken)));
+    }
+
+    private OrderResponse placeOrder(OrderRequest request, ConcurrencyMode mode, String admissionToken) {
+        // 인기 상품 주문은 대기열 입장 토큰이 있어야 진행 (없으면 락 대기 없이 즉시 429)
+        boolean gated = waitingRoomService.requiresAdmission(request);
+        if (gated) {
+            waitingRoomService.consumeAdmission(request.getUserId(), admissionToken);
+        }
 
+        long startedAt = System.currentTimeMillis();
         try {
-            Order order = orderServiceV2.createOrder(request);
-            return ResponseEntity.ok(new OrderResponse(order));
+            Order order = mode == ConcurrencyMode.OPTIMISTIC
+                ? orderServiceV2.createOrderOptimistic(request)
+                : orderServiceV2.createOrder(request);
+            return new OrderResponse(order);
         } catch (Exception e) {
             log.error("[V2 API] 주문 생성 실패", e);
             throw e;
+        } finally {
+            if (gated) {
+                // 입장 속도 조절(AIMD) 입력값
+                waitingRoomService.recordOrderLatency(System.currentTimeMillis() - startedAt);
+            }
+        }
+    }
+
+    /**
+     * 비동기 주문 - 락 대기 동안 Tomcat 워커 스레드를 반납 (락 획득 후 DB 작업만 전용 실행기에서 수행)
+     */
+    @PostMapping("/async")
+    public DeferredResult<ResponseEntity<OrderResponse>> createOrderAsync(@RequestBody OrderRequest request,
+                                                                         @RequestHeader(value = WaitingRoomService.ADMISSION_TOKEN_HEADER, required = false) String admissionToken) {
+        log.info("[V2 API] 비동기 주문 생성 요청 - 사용자 ID: {}", request.getUserId());
+
+        boolean gated = waitingRoomService.requiresAdmission(request);
+        if (gated) {
+            waitingRoomService.consumeAdmission(request.getUserId(), admissionToken);
+        }
+
+        DeferredResult<ResponseEntity<OrderResponse>> result =
+            new DeferredResult<>(asyncOrderService.getLockWaitMillis() + ASYNC_RESPONSE_MARGIN_MILLIS);
+        long startedAt = System.currentTimeMillis();
+
+        asyncOrderService.createOrder(request).whenComplete((order, e) -> {
+            if (gated) {
+                waitingRoomService.recordOrderLatency(System.currentTimeMillis() - startedAt);
+            }
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                log.error("[V2 API] 비동기 주문 생성 실패", cause);
+                result.setErrorResult(cause);
+            } else {
+                result.setResult(ResponseEntity.ok(new OrderResponse(order)));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 주문 접수 - 대기열에 기록하고 바로 202 + 접수증 반환 (처리는 파티션별 워커가 묶어서 수행)
+     */
+    @PostMapping("/intake")
+    public ResponseEntity<OrderTicketResponse> submitOrder(@RequestBody OrderRequest request,
+                                                           @RequestHeader(value = WaitingRoomService.ADMISSION_TOKEN_HEADER, required = false) String admissionToken) {
+        log.info("[V2 API] 주문 접수 요청 - 사용자 ID: {}", request.getUserId());
+
+        if (waitingRoomService.requiresAdmission(request)) {
+            waitingRoomService.consumeAdmission(request.getUserId(), admissionToken);
         }
+
+        OrderTicketResponse ticket = orderIntakeService.submit(request);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v2/orders/intake/" + ticket.getTicketId()))
+            .body(ticket);
+    }
+
+    @GetMapping("/intake/{ticketId}")
+    public ResponseEntity<OrderTicketResponse> getTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(orderIntakeService.getTicket(ticketId));
+    }
+
+    /**
+     * 대량 주문 - NDJSON(한 줄에 주문 1건)을 읽으며 청크 단위로 처리하고, 주문별 결과를 NDJSON으로 바로 내보냄
+     * 청크마다 결과를 flush하므로 비동기 요청 제한 시간 없이 요청 스레드에서 직접 응답을 씀
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void createOrdersBulk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.info("[V2 API] 대량 주문 요청");
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        bulkOrderService.process(request.getInputStream(), response.getOutputStream());
     }
 
     @PostMapping("/{orderId}/cancel")
@@ -0,0 +1,46 @@
+package com.concurrency.shop.controller.v2;
+
+import com.concurrency.shop.service.v2.CombiningPointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * V2: 포인트 사용/적립 API (같은 사용자의 동시 요청은 CombiningPointService가 묶어서 반영)
+ * - 트랜잭션 없이 호출해야 결합됨 → 이 컨트롤러에는 @Transactional을 붙이지 않음
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v2/users/{userId}/points")
+@RequiredArgsConstructor
+public class PointControllerV2 {
+
+    private final CombiningPointService combiningPointService;
+
+    @PostMapping("/use")
+    public ResponseEntity<Map<String, Object>> use(@PathVariable Long userId, @RequestParam Long points) {
+        log.info("[V2 API] 포인트 사용 요청 - 사용자 ID: {}, 포인트: {}", userId, points);
+        validatePoints(points);
+
+        combiningPointService.usePoints(userId, points, null);
+        return ResponseEntity.ok(Map.of("userId", userId, "used", points));
+    }
+
+    @PostMapping("/earn")
+    public ResponseEntity<Map<String, Object>> earn(@PathVariable Long userId, @RequestParam Long points) {
+        log.info("[V2 API] 포인트 적립 요청 - 사용자 ID: {}, 포인트: {}", userId, points);
+        validatePoints(points);
+
+        combiningPointService.earnPoints(userId, points, null);
+        return ResponseEntity.ok(Map.of("userId", userId, "earned", points));
+    }
+
+    private void validatePoints(Long points) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("포인트는 0보다 커야 합니다: " + points);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.concurrency.shop.controller.v2;
+
+import com.concurrency.shop.domain.reservation.StockReservation;
+import com.concurrency.shop.dto.ReservationRequest;
+import com.concurrency.shop.dto.ReservationResponse;
+import com.concurrency.shop.service.v2.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * V2: 재고 예약 API (예약 → 확정, 미확정 시 만료 후 재고 자동 복구)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v2/reservations")
+@RequiredArgsConstructor
+public class StockReservationControllerV2 {
+
+    private final StockReservationService stockReservationService;
+
+    @PostMapping
+    public ResponseEntity<ReservationResponse> reserve(@RequestBody ReservationRequest request) {
+        log.info("[V2 API] 재고 예약 요청 - 사용자 ID: {}, 상품 ID: {}, 수량: {}",
+            request.getUserId(), request.getProductId(), request.getQuantity());
+
+        StockReservation reservation = stockReservationService.reserve(
+            request.getUserId(), request.getProductId(), request.getQuantity());
+        return ResponseEntity.ok(new ReservationResponse(reservation));
+    }
+
+    @PostMapping("/{reservationId}/confirm")
+    public ResponseEntity<Void> confirm(@PathVariable Long reservationId) {
+        log.info("[V2 API] 예약 확정 요청 - 예약 ID: {}", reservationId);
+
+        stockReservationService.confirm(reservationId);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/{reservationId}/cancel")
+    public ResponseEntity<Void> cancel(@PathVariable Long reservationId) {
+        log.info("[V2 API] 예약 취소 요청 - 예약 ID: {}", reservationId);
+
+        stockReservationService.cancel(reservationId);
+        return ResponseEntity.ok().build();
+    }
+}
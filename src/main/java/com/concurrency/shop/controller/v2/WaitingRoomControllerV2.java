@@ -0,0 +1,42 @@
+package com.concurrency.shop.controller.v2;
+
+import com.concurrency.shop.dto.WaitingTicketResponse;
+import com.concurrency.shop.waitingroom.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * V2: 인기 상품 주문 대기열 API
+ * 1. POST /tickets 로 대기열 진입
+ * 2. GET /tickets/{userId} 폴링 또는 /events 구독으로 순번 확인
+ * 3. 입장하면 받은 토큰을 X-Admission-Token 헤더에 담아 주문
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v2/waiting-room")
+@RequiredArgsConstructor
+public class WaitingRoomControllerV2 {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @PostMapping("/tickets")
+    public ResponseEntity<WaitingTicketResponse> enter(@RequestParam Long userId) {
+        log.info("[V2 API] 대기열 진입 요청 - 사용자 ID: {}", userId);
+        return ResponseEntity.ok(waitingRoomService.enter(userId));
+    }
+
+    @GetMapping("/tickets/{userId}")
+    public ResponseEntity<WaitingTicketResponse> getTicket(@PathVariable Long userId) {
+        return ResponseEntity.ok(waitingRoomService.getTicket(userId));
+    }
+
+    @GetMapping(value = "/tickets/{userId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long userId) {
+        log.info("[V2 API] 대기열 순번 구독 - 사용자 ID: {}", userId);
+        return waitingRoomService.subscribe(userId);
+    }
+}
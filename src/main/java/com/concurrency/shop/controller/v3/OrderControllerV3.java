@@ -0,0 +1,48 @@
+package com.concurrency.shop.controller.v3;
+
+import com.concurrency.shop.domain.order.Order;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.dto.OrderResponse;
+import com.concurrency.shop.service.v3.OrderServiceV3;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * V3: Redis 재고 엔진을 사용하는 주문 API (V2와 처리량 비교용)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v3/orders")
+@RequiredArgsConstructor
+public class OrderControllerV3 {
+
+    private final OrderServiceV3 orderServiceV3;
+
+    @PostMapping
+    public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest request) {
+        log.info("[V3 API] 주문 생성 요청 - 사용자 ID: {}", request.getUserId());
+
+        try {
+            Order order = orderServiceV3.createOrder(request);
+            return ResponseEntity.ok(new OrderResponse(order));
+        } catch (Exception e) {
+            log.error("[V3 API] 주문 생성 실패", e);
+            throw e;
+        }
+    }
+
+    @PostMapping("/{orderId}/cancel")
+    public ResponseEntity<Void> cancelOrder(@PathVariable Long orderId) {
+        log.info("[V3 API] 주문 취소 요청 - 주문 ID: {}", orderId);
+
+        try {
+            orderServiceV3.cancelOrder(orderId);
+            return ResponseEntity.ok().build();
+        } catch (Exception e) {
+            log.error("[V3 API] 주문 취소 실패", e);
+            throw e;
+        }
+    }
+}
@@ -31,6 +31,12 @@ public class Coupon {
     @Column(nullable = false)
     private Integer usedCount = 0;
 
+    /**
+     * 낙관적 락 버전 (findByIdWithOptimisticLock 사용 시 충돌 감지)
+     */
+    @Version
+    private long version;
+
     public Coupon(String name, CouponType type, Long discountValue, Integer totalAvailableCount) {
         this.name = name;
         this.type = type;
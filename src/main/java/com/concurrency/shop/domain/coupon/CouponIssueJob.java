@@ -0,0 +1,108 @@
+package com.concurrency.shop.domain.coupon;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 대량 발급 작업 - 사용자 ID 오름차순으로 발급하며 체크포인트(lastUserId)를 기록
+ * - 실패/중단 시 lastUserId 다음 사용자부터 재개
+ */
+@Entity
+@Table(name = "coupon_issue_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponIssueJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long couponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CouponIssueJobStatus status;
+
+    /**
+     * 여기까지(포함) 발급이 끝난 사용자 ID
+     */
+    @Column(nullable = false)
+    private Long lastUserId;
+
+    @Column(nullable = false)
+    private Long processedCount;
+
+    @Column(nullable = false)
+    private Long issuedCount;
+
+    @Column(nullable = false)
+    private Integer chunkSize;
+
+    @Column(nullable = false)
+    private Integer workerCount;
+
+    /**
+     * 실행에 걸린 시간 누적 (재개 시 이어서 합산)
+     */
+    @Column(nullable = false)
+    private Long elapsedMillis;
+
+    @Column(length = 500)
+    private String failureMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+
+    public CouponIssueJob(Long couponId, Integer chunkSize, Integer workerCount) {
+        this.couponId = couponId;
+        this.status = CouponIssueJobStatus.READY;
+        this.lastUserId = 0L;
+        this.processedCount = 0L;
+        this.issuedCount = 0L;
+        this.chunkSize = chunkSize;
+        this.workerCount = workerCount;
+        this.elapsedMillis = 0L;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        if (this.status == CouponIssueJobStatus.COMPLETED) {
+            throw new IllegalStateException("이미 완료된 발급 작업입니다: " + this.id);
+        }
+        this.status = CouponIssueJobStatus.RUNNING;
+        this.failureMessage = null;
+        this.finishedAt = null;
+    }
+
+    public void checkpoint(Long lastUserId, long processed, long issued, long elapsedMillis) {
+        this.lastUserId = lastUserId;
+        this.processedCount += processed;
+        this.issuedCount += issued;
+        this.elapsedMillis += elapsedMillis;
+    }
+
+    public void complete() {
+        this.status = CouponIssueJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String message) {
+        this.status = CouponIssueJobStatus.FAILED;
+        this.failureMessage = message != null && message.length() > 500 ? message.substring(0, 500) : message;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 초당 처리 행 수
+     */
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? 0 : processedCount * 1000.0 / elapsedMillis;
+    }
+}
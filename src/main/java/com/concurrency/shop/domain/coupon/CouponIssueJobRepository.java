@@ -0,0 +1,6 @@
+package com.concurrency.shop.domain.coupon;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CouponIssueJobRepository extends JpaRepository<CouponIssueJob, Long> {
+}
@@ -0,0 +1,8 @@
+package com.concurrency.shop.domain.coupon;
+
+public enum CouponIssueJobStatus {
+    READY,      // 생성됨
+    RUNNING,    // 발급 중
+    COMPLETED,  // 완료
+    FAILED      // 실패 - 체크포인트부터 재개 가능
+}
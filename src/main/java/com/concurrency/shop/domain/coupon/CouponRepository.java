@@ -3,6 +3,7 @@ package com.concurrency.shop.domain.coupon;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,4 +18,11 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT c FROM Coupon c WHERE c.id = :id")
     Optional<Coupon> findByIdWithOptimisticLock(@Param("id") Long id);
+
+    /**
+     * 사용 횟수를 계산된 값으로 덮어씀 - 버전 검증/증가 없음 (V1 Lost Update 재현용)
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.usedCount = :usedCount WHERE c.id = :id")
+    int overwriteUsedCount(@Param("id") Long id, @Param("usedCount") Integer usedCount);
 }
@@ -0,0 +1,34 @@
+package com.concurrency.shop.domain.coupon;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쿠폰 사용 횟수 증감분(delta)을 JDBC 배치로 반영하는 Repository
+ * - 엔티티를 조회하지 않고 UPDATE만 수행, 쿠폰 ID 순으로 정렬해 반영
+ * - 낙관적 락 사용 경로가 변경을 감지하도록 version 증가
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponUsageJdbcRepository {
+
+    private static final String APPLY_USED_COUNT_DELTA_SQL =
+        "UPDATE coupons SET used_count = used_count + ?, version = version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void applyUsedCountDeltas(Map<Long, Long> deltasByCouponId) {
+        List<Object[]> batchArgs = deltasByCouponId.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+            .toList();
+
+        jdbcTemplate.batchUpdate(APPLY_USED_COUNT_DELTA_SQL, batchArgs);
+    }
+}
@@ -0,0 +1,45 @@
+package com.concurrency.shop.domain.coupon;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 사용자 쿠폰 대량 발급용 JDBC Repository
+ * - IDENTITY 전략이라 Hibernate INSERT 배치가 꺼지므로 다중 행 INSERT 한 문장으로 직접 작성
+ * - INSERT IGNORE + (user_id, coupon_id) 유니크 제약으로 이미 발급된 사용자는 건너뜀 (재실행/재개 시 중복 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCouponJdbcRepository {
+
+    private static final String INSERT_IGNORE_PREFIX = "INSERT IGNORE INTO user_coupons (user_id, coupon_id, used) VALUES ";
+    private static final String VALUES_ROW = "(?, ?, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 실제로 발급된(새로 INSERT된) 행 수
+     */
+    public int insertIgnore(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_IGNORE_PREFIX.length() + userIds.size() * (VALUES_ROW.length() + 1))
+            .append(INSERT_IGNORE_PREFIX);
+        Object[] args = new Object[userIds.size() * 2];
+        for (int i = 0; i < userIds.size(); i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(VALUES_ROW);
+            args[i * 2] = userIds.get(i);
+            args[i * 2 + 1] = couponId;
+        }
+
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+}
@@ -13,4 +13,7 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
     @Query("SELECT uc FROM UserCoupon uc WHERE uc.user.id = :userId AND uc.coupon.id = :couponId AND uc.used = false")
     List<UserCoupon> findAvailableCouponByUserAndCoupon(@Param("userId") Long userId, @Param("couponId") Long couponId);
+
+    @Query("SELECT COUNT(uc) FROM UserCoupon uc WHERE uc.coupon.id = :couponId")
+    long countByCouponId(@Param("couponId") Long couponId);
 }
@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(
+    name = "orders",
+    uniqueConstraints = @UniqueConstraint(name = "uk_orders_ticket_id", columnNames = "ticket_id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order {
@@ -51,7 +54,15 @@ public class Order {
     @Column(nullable = false)
     private LocalDateTime orderDate;
 
+    // 주문 접수/대량 주문으로 생성된 주문의 접수증 ID (접수증당 주문 1건)
+    @Column(length = 64)
+    private String ticketId;
+
     public Order(User user, Long couponId) {
+        this(user, couponId, null);
+    }
+
+    public Order(User user, Long couponId, String ticketId) {
         this.user = user;
         this.couponId = couponId;
         this.status = OrderStatus.PENDING;
@@ -61,11 +72,14 @@ public class Order {
         this.pointRewarded = 0L;
         this.finalAmount = 0L;
         this.orderDate = LocalDateTime.now();
+        this.ticketId = ticketId;
     }
 
     public void addOrderItem(OrderItem orderItem) {
         this.orderItems.add(orderItem);
         orderItem.setOrder(this);
+        // 쿠폰 할인/적립 포인트 계산이 calculateAmounts 전에 상품 합계를 읽음
+        this.totalAmount += orderItem.getTotalPrice();
     }
 
     public void calculateAmounts(Long discountAmount, Long pointUsed, Long pointRewarded) {
@@ -0,0 +1,33 @@
+package com.concurrency.shop.domain.point;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 잔액 스냅샷 - 원장의 lastEntryId까지 반영한 잔액
+ * - PointSnapshotCompactor가 주기적으로 전진시킴
+ * - 스냅샷이 없는 사용자는 users.point_balance를 시작 잔액으로 사용
+ */
+@Entity
+@Table(name = "point_balance_snapshots")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointBalanceSnapshot {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long balance;
+
+    @Column(nullable = false)
+    private Long lastEntryId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
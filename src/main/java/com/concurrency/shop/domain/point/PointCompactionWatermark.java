@@ -0,0 +1,29 @@
+package com.concurrency.shop.domain.point;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 압축 워터마크 (단일 행) - lastEntryId 이하의 원장은 모든 사용자의 스냅샷에 반영됨
+ * - 압축 대상 조회가 원장 전체가 아니라 lastEntryId 이후 구간만 읽도록 하는 하한
+ * - PointSnapshotCompactor가 상한까지 남은 대상이 없음을 확인한 뒤에만 전진 (감소하지 않음)
+ */
+@Entity
+@Table(name = "point_compaction_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointCompactionWatermark {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long lastEntryId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,55 @@
+package com.concurrency.shop.domain.point;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 적립 아웃박스 - 주문 트랜잭션 안에서 "포인트 적립" 이벤트만 기록
+ * - 릴레이가 PENDING 이벤트를 SKIP LOCKED로 가져가 사용자별로 묶어 적립
+ * - order_id 유니크: 주문당 적립 이벤트는 하나
+ * - (status, id) 인덱스로 대기 이벤트만 순서대로 조회
+ */
+@Entity
+@Table(
+    name = "point_earn_outbox",
+    uniqueConstraints = @UniqueConstraint(name = "uk_point_earn_outbox_order_id", columnNames = "order_id"),
+    indexes = @Index(name = "idx_point_earn_outbox_status_id", columnList = "status, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointEarnOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long points;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PointEarnOutboxStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    public PointEarnOutbox(Long orderId, Long userId, Long points) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.points = points;
+        this.status = PointEarnOutboxStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,40 @@
+package com.concurrency.shop.domain.point;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PointEarnOutboxRepository extends JpaRepository<PointEarnOutbox, Long> {
+
+    /**
+     * 대기 중인 적립 이벤트를 잠금 (다른 릴레이가 잠근 행은 건너뜀)
+     * 반환: [order_id, user_id, points]
+     */
+    @Query(value = "SELECT order_id, user_id, points FROM point_earn_outbox " +
+        "WHERE status = 'PENDING' " +
+        "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true)
+    List<Object[]> lockPending(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE PointEarnOutbox o SET o.status = :status, o.processedAt = :now WHERE o.orderId IN :orderIds")
+    int updateStatus(@Param("orderIds") Collection<Long> orderIds,
+                     @Param("status") PointEarnOutboxStatus status,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 현재 상태가 from일 때만 변경 (릴레이와 주문 취소가 동시에 실행되어도 한쪽만 성공)
+     */
+    @Modifying
+    @Query("UPDATE PointEarnOutbox o SET o.status = :to, o.processedAt = :now " +
+        "WHERE o.orderId = :orderId AND o.status = :from")
+    int changeStatus(@Param("orderId") Long orderId,
+                     @Param("from") PointEarnOutboxStatus from,
+                     @Param("to") PointEarnOutboxStatus to,
+                     @Param("now") LocalDateTime now);
+}
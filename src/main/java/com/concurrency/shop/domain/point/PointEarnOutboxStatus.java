@@ -0,0 +1,7 @@
+package com.concurrency.shop.domain.point;
+
+public enum PointEarnOutboxStatus {
+    PENDING,    // 적립 대기
+    PROCESSED,  // 적립 반영 완료
+    CANCELLED   // 반영 전 주문 취소
+}
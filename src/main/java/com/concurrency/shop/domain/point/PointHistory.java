@@ -8,8 +8,23 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 포인트 이력
+ * - (user_id, created_at, id) 인덱스로 사용자별 최신순 Keyset 페이지 조회 (정렬/범위 조건을 인덱스로만 처리)
+ * - 조회 컬럼(type, amount, balance_after, order_id)까지 인덱스에 포함 → 커버링 인덱스라 테이블 행을 읽지 않음
+ * - (order_id, type) 인덱스로 주문별 이력/이미 적립된 주문 확인을 테이블 전체 스캔 없이 조회
+ */
 @Entity
-@Table(name = "point_histories")
+@Table(
+    name = "point_histories",
+    indexes = {
+        @Index(
+            name = "idx_point_histories_user_id_created_at_id_covering",
+            columnList = "user_id, created_at, id, type, amount, balance_after, order_id"
+        ),
+        @Index(name = "idx_point_histories_order_id_type", columnList = "order_id, type")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PointHistory {
@@ -0,0 +1,42 @@
+package com.concurrency.shop.domain.point;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 포인트 이력 일괄 INSERT Repository
+ * - IDENTITY 전략이라 Hibernate INSERT 배치가 꺼지므로 JDBC 배치로 직접 작성
+ * - rewriteBatchedStatements=true 이므로 드라이버가 다중 행 INSERT 한 문장으로 합쳐 전송
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointHistoryJdbcRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO point_histories (user_id, type, amount, balance_after, order_id, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<PointHistory> histories) {
+        if (histories.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = histories.stream()
+            .map(history -> new Object[]{
+                history.getUser().getId(),
+                history.getType().name(),
+                history.getAmount(),
+                history.getBalanceAfter(),
+                history.getOrderId(),
+                Timestamp.valueOf(history.getCreatedAt())
+            })
+            .toList();
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
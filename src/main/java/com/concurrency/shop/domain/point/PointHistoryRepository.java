@@ -1,9 +1,13 @@
 package com.concurrency.shop.domain.point;
 
+import com.concurrency.shop.dto.PointHistoryResponse;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
@@ -13,4 +17,29 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
 
     @Query("SELECT ph FROM PointHistory ph WHERE ph.orderId = :orderId")
     List<PointHistory> findByOrderId(@Param("orderId") Long orderId);
+
+    @Query("SELECT ph.orderId FROM PointHistory ph WHERE ph.type = :type AND ph.orderId IN :orderIds")
+    List<Long> findOrderIdsByTypeAndOrderIdIn(@Param("type") PointType type, @Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 최신순 첫 페이지 (User 연관관계를 로딩하지 않는 DTO 프로젝션)
+     */
+    @Query("SELECT new com.concurrency.shop.dto.PointHistoryResponse(" +
+        "ph.id, ph.type, ph.amount, ph.balanceAfter, ph.orderId, ph.createdAt) " +
+        "FROM PointHistory ph WHERE ph.user.id = :userId " +
+        "ORDER BY ph.createdAt DESC, ph.id DESC")
+    List<PointHistoryResponse> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 커서 (createdAt, id) 다음 페이지 - OFFSET 없이 인덱스 범위 조회
+     */
+    @Query("SELECT new com.concurrency.shop.dto.PointHistoryResponse(" +
+        "ph.id, ph.type, ph.amount, ph.balanceAfter, ph.orderId, ph.createdAt) " +
+        "FROM PointHistory ph WHERE ph.user.id = :userId " +
+        "AND (ph.createdAt < :createdAt OR (ph.createdAt = :createdAt AND ph.id < :id)) " +
+        "ORDER BY ph.createdAt DESC, ph.id DESC")
+    List<PointHistoryResponse> findPageByUserIdAfter(@Param("userId") Long userId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
 }
@@ -0,0 +1,46 @@
+package com.concurrency.shop.domain.point;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 - 추가만 하는(append-only) 증감 기록
+ * - amount: 적립/환불은 양수, 사용/회수는 음수
+ * - 잔액 = 최신 스냅샷 잔액 + 스냅샷 이후(id > lastEntryId) 증감 합계
+ * - (user_id, id) 인덱스로 스냅샷 이후 증감만 범위 조회
+ * - (order_id, type) 유니크: 주문별 적립/환불/회수는 한 번만 기록 (order_id가 없는 행은 제약 대상 아님)
+ */
+@Entity
+@Table(
+    name = "point_ledger",
+    uniqueConstraints = @UniqueConstraint(name = "uk_point_ledger_order_id_type", columnNames = {"order_id", "type"}),
+    indexes = @Index(name = "idx_point_ledger_user_id_id", columnList = "user_id, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PointType type;
+
+    @Column(nullable = false)
+    private Long amount;
+
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
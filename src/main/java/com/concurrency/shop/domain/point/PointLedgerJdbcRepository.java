@@ -0,0 +1,191 @@
+package com.concurrency.shop.domain.point;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 원장/스냅샷 JDBC Repository
+ * - 적립/환불: 잔액을 읽지 않고 INSERT만 수행 (사용자 행 락 없음)
+ * - 사용/회수: 잔액 계산과 INSERT를 한 문장(INSERT ... SELECT ... WHERE 잔액 >= 금액)으로 처리하는 조건부 추가
+ * - 스냅샷 전진: last_entry_id가 읽은 값 그대로일 때만 갱신 (여러 인스턴스가 동시에 압축해도 중복 반영 없음)
+ * - 압축 대상 조회는 원장 행에 공유 락을 거는 잠금 읽기 → ID는 발급됐지만 아직 커밋되지 않은 행이 있으면 커밋될 때까지 대기
+ * - 압축 상한/대상 조회는 워터마크(point_compaction_watermark) 이후 ID 구간만 PK로 읽음 (created_at 인덱스/원장 전체 스캔 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointLedgerJdbcRepository {
+
+    /**
+     * 스냅샷(없으면 users.point_balance) + 스냅샷 이후 원장 증감 합계
+     */
+    private static final String BALANCE_EXPRESSION = """
+        COALESCE(s.balance, u.point_balance) + COALESCE((
+            SELECT SUM(l.amount) FROM point_ledger l
+            WHERE l.user_id = u.id AND l.id > COALESCE(s.last_entry_id, 0)
+        ), 0)
+        """;
+
+    private static final String SELECT_BALANCE_SQL = "SELECT " + BALANCE_EXPRESSION + """
+        FROM users u LEFT JOIN point_balance_snapshots s ON s.user_id = u.id
+        WHERE u.id = ?
+        """;
+
+    private static final String APPEND_SQL =
+        "INSERT INTO point_ledger (user_id, type, amount, order_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String APPEND_IGNORE_SQL =
+        "INSERT IGNORE INTO point_ledger (user_id, type, amount, order_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String APPEND_IF_SUFFICIENT_SQL = """
+        INSERT INTO point_ledger (user_id, type, amount, order_id, created_at)
+        SELECT u.id, ?, ?, ?, ?
+        FROM users u LEFT JOIN point_balance_snapshots s ON s.user_id = u.id
+        WHERE u.id = ?
+          AND (""" + BALANCE_EXPRESSION + ") >= ?";
+
+    private static final long WATERMARK_ID = 1L;
+
+    private static final String SELECT_WATERMARK_SQL =
+        "SELECT last_entry_id FROM point_compaction_watermark WHERE id = ?";
+
+    private static final String ADVANCE_WATERMARK_SQL = """
+        INSERT INTO point_compaction_watermark (id, last_entry_id, updated_at) VALUES (?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            last_entry_id = GREATEST(last_entry_id, VALUES(last_entry_id)),
+            updated_at = VALUES(updated_at)
+        """;
+
+    private static final String SELECT_MAX_ENTRY_ID_BEFORE_SQL =
+        "SELECT MAX(id) FROM point_ledger WHERE id > ? AND created_at < ?";
+
+    private static final String SELECT_COMPACTION_CANDIDATES_SQL = """
+        SELECT l.user_id, s.last_entry_id, SUM(l.amount), MAX(l.id)
+        FROM point_ledger l LEFT JOIN point_balance_snapshots s ON s.user_id = l.user_id
+        WHERE l.id > ? AND l.id > COALESCE(s.last_entry_id, 0) AND l.id <= ?
+        GROUP BY l.user_id, s.last_entry_id
+        ORDER BY l.user_id
+        LIMIT ?
+        LOCK IN SHARE MODE
+        """;
+
+    private static final String ADVANCE_SNAPSHOT_SQL = """
+        UPDATE point_balance_snapshots
+        SET balance = balance + ?, last_entry_id = ?, updated_at = ?
+        WHERE user_id = ? AND last_entry_id = ?
+        """;
+
+    private static final String CREATE_SNAPSHOT_SQL = """
+        INSERT IGNORE INTO point_balance_snapshots (user_id, balance, last_entry_id, updated_at)
+        SELECT u.id, u.point_balance + ?, ?, ? FROM users u WHERE u.id = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<Long> findBalance(Long userId) {
+        return jdbcTemplate.queryForList(SELECT_BALANCE_SQL, Long.class, userId).stream().findFirst();
+    }
+
+    public void append(Long userId, PointType type, long amount, Long orderId) {
+        jdbcTemplate.update(APPEND_SQL, userId, type.name(), amount, orderId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 여러 건을 배치로 추가 - 같은 (orderId, type)이 이미 있으면 건너뜀 (재처리해도 중복 반영 없음)
+     */
+    @Transactional
+    public void appendAllIgnoringDuplicates(PointType type, List<LedgerAppend> appends) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = appends.stream()
+            .sorted(Comparator.comparing(LedgerAppend::userId))
+            .map(append -> new Object[]{append.userId(), type.name(), append.amount(), append.orderId(), now})
+            .toList();
+
+        jdbcTemplate.batchUpdate(APPEND_IGNORE_SQL, batchArgs);
+    }
+
+    /**
+     * 잔액이 required 이상일 때만 추가
+     * @return 추가 여부
+     */
+    public boolean appendIfSufficient(Long userId, PointType type, long amount, Long orderId, long required) {
+        return jdbcTemplate.update(APPEND_IF_SUFFICIENT_SQL,
+            type.name(), amount, orderId, Timestamp.valueOf(LocalDateTime.now()), userId, required) == 1;
+    }
+
+    /**
+     * 압축 워터마크 - 이 ID 이하의 원장은 모든 사용자의 스냅샷에 반영됨 (압축한 적 없으면 0)
+     */
+    public long findCompactionWatermark() {
+        return jdbcTemplate.queryForList(SELECT_WATERMARK_SQL, Long.class, WATERMARK_ID).stream()
+            .findFirst()
+            .orElse(0L);
+    }
+
+    /**
+     * 워터마크를 lastEntryId로 전진 (더 큰 값이 이미 있으면 유지)
+     */
+    public void advanceCompactionWatermark(long lastEntryId) {
+        jdbcTemplate.update(ADVANCE_WATERMARK_SQL, WATERMARK_ID, lastEntryId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * watermark 이후 createdAt 이전에 추가된 원장 중 가장 큰 ID (압축 상한, 없으면 watermark)
+     * PK 범위(id > watermark)만 읽으므로 created_at 조건은 압축되지 않은 구간에만 적용됨
+     */
+    public long findMaxEntryIdBefore(long watermark, LocalDateTime createdAt) {
+        Long maxId = jdbcTemplate.queryForObject(
+            SELECT_MAX_ENTRY_ID_BEFORE_SQL, Long.class, watermark, Timestamp.valueOf(createdAt));
+        return maxId != null ? maxId : watermark;
+    }
+
+    /**
+     * 스냅샷 이후 (watermark, maxEntryId] 구간에 증감이 있는 사용자
+     * - 잠금 읽기라 maxEntryId 이하의 미커밋 행은 커밋(또는 롤백)이 끝난 뒤 최신 상태로 합산됨
+     *   (일관된 읽기였다면 늦게 커밋된 작은 ID를 건너뛴 채 스냅샷이 그 뒤로 전진해 영영 반영되지 않음)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<SnapshotDelta> findCompactionCandidates(long watermark, long maxEntryId, int limit) {
+        return jdbcTemplate.query(SELECT_COMPACTION_CANDIDATES_SQL,
+            (rs, rowNum) -> new SnapshotDelta(
+                rs.getLong(1),
+                rs.getObject(2, Long.class),
+                rs.getLong(3),
+                rs.getLong(4)),
+            watermark, maxEntryId, limit);
+    }
+
+    @Transactional
+    public void advanceSnapshots(List<SnapshotDelta> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> createArgs = deltas.stream()
+            .filter(delta -> delta.lastEntryId() == null)
+            .map(delta -> new Object[]{delta.amount(), delta.maxEntryId(), now, delta.userId()})
+            .toList();
+        List<Object[]> advanceArgs = deltas.stream()
+            .filter(delta -> delta.lastEntryId() != null)
+            .map(delta -> new Object[]{delta.amount(), delta.maxEntryId(), now, delta.userId(), delta.lastEntryId()})
+            .toList();
+
+        jdbcTemplate.batchUpdate(CREATE_SNAPSHOT_SQL, createArgs);
+        jdbcTemplate.batchUpdate(ADVANCE_SNAPSHOT_SQL, advanceArgs);
+    }
+
+    /**
+     * @param lastEntryId 현재 스냅샷의 마지막 원장 ID (스냅샷 없으면 null)
+     * @param amount      스냅샷 이후 maxEntryId까지 증감 합계
+     */
+    public record SnapshotDelta(Long userId, Long lastEntryId, long amount, long maxEntryId) {
+    }
+
+    public record LedgerAppend(Long userId, long amount, Long orderId) {
+    }
+}
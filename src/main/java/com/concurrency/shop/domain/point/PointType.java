@@ -3,5 +3,6 @@ package com.concurrency.shop.domain.point;
 public enum PointType {
     EARN,        // 적립
     USE,         // 사용
-    REFUND       // 환불
+    REFUND,      // 환불
+    REVOKE       // 적립 회수 (주문 취소)
 }
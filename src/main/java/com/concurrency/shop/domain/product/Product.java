@@ -24,10 +24,23 @@ public class Product {
     @Column(nullable = false)
     private Integer stockQuantity;
 
+    /**
+     * 재고 분할(Striped) 개수 - 1이면 products 행 하나로 관리, 2 이상이면 stock_shards에 분산 저장
+     */
+    @Column(nullable = false)
+    private Integer stockShardCount = 1;
+
+    /**
+     * 낙관적 락 버전 (findByIdWithOptimisticLock 사용 시 충돌 감지)
+     */
+    @Version
+    private long version;
+
     public Product(String name, Long price, Integer stockQuantity) {
         this.name = name;
         this.price = price;
         this.stockQuantity = stockQuantity;
+        this.stockShardCount = 1;
     }
 
     public void decreaseStock(Integer quantity) {
@@ -43,4 +56,27 @@ public class Product {
     public void increaseStock(Integer quantity) {
         this.stockQuantity += quantity;
     }
+
+    public boolean isStockStriped() {
+        return this.stockShardCount > 1;
+    }
+
+    /**
+     * 재고를 샤드로 옮김 - 이후 재고 수량은 stock_shards 합계로 관리
+     */
+    public void stripeStock(Integer shardCount) {
+        if (shardCount < 2) {
+            throw new IllegalArgumentException("재고 샤드 개수는 2 이상이어야 합니다: " + shardCount);
+        }
+        this.stockShardCount = shardCount;
+        this.stockQuantity = 0;
+    }
+
+    /**
+     * 샤드에 분산된 재고를 다시 상품 행으로 합침
+     */
+    public void unstripeStock(Integer totalStock) {
+        this.stockShardCount = 1;
+        this.stockQuantity = totalStock;
+    }
 }
@@ -3,9 +3,12 @@ package com.concurrency.shop.domain.product;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -23,7 +26,29 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithPessimisticLock(@Param("id") Long id);
 
+    /**
+     * 여러 상품을 한 번의 SELECT ... WHERE id IN (...) ORDER BY id FOR UPDATE로 잠금
+     * - 항상 id 오름차순으로 락을 잡아 겹치는 장바구니끼리 교착 상태가 생기지 않음
+     * - 재고 분할(Striped) 상품은 샤드 행으로 관리하므로 제외
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids AND p.stockShardCount <= 1 ORDER BY p.id")
+    List<Product> findAllByIdInWithPessimisticLock(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND p.stockShardCount > 1")
+    List<Long> findStripedIdsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithOptimisticLock(@Param("id") Long id);
+
+    @Query("SELECT p.stockShardCount FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockShardCountById(@Param("id") Long id);
+
+    /**
+     * 재고 수량을 계산된 값으로 덮어씀 - 버전 검증/증가 없음 (V1 Lost Update 재현용)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = :stockQuantity WHERE p.id = :id")
+    int overwriteStockQuantity(@Param("id") Long id, @Param("stockQuantity") Integer stockQuantity);
 }
@@ -0,0 +1,45 @@
+package com.concurrency.shop.domain.product;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 증감분(delta)을 JDBC 배치로 반영하는 Repository
+ * - 엔티티를 조회하지 않고 UPDATE만 수행
+ * - 상품 ID 순으로 정렬해 반영하여 다른 배치와의 데드락 방지
+ * - 낙관적 락 사용 경로가 변경을 감지하도록 version 증가
+ * - 재고가 음수가 되는 변경분은 반영하지 않고 예외 (배치 전체 롤백)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+    private static final String APPLY_STOCK_DELTA_SQL =
+        "UPDATE products SET stock_quantity = stock_quantity + ?, version = version + 1 " +
+            "WHERE id = ? AND stock_quantity + ? >= 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void applyStockDeltas(Map<Long, Long> deltasByProductId) {
+        List<Object[]> batchArgs = deltasByProductId.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+            .toList();
+
+        int[] updated = jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA_SQL, batchArgs);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                throw new DataIntegrityViolationException(
+                    "재고가 음수가 되거나 상품이 없어 변경분을 반영할 수 없습니다 - 상품 ID: " + batchArgs.get(i)[1]
+                        + ", 변경분: " + batchArgs.get(i)[0]);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.concurrency.shop.domain.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 재고 샤드 - 인기 상품의 재고를 여러 행으로 나눠 행 락 경합을 분산
+ */
+@Entity
+@Table(
+    name = "stock_shards",
+    uniqueConstraints = @UniqueConstraint(name = "uk_stock_shards_product_shard", columnNames = {"product_id", "shard_no"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    public StockShard(Product product, Integer shardNo, Integer quantity) {
+        this.product = product;
+        this.shardNo = shardNo;
+        this.quantity = quantity;
+    }
+}
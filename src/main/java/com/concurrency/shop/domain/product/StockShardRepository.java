@@ -0,0 +1,59 @@
+package com.concurrency.shop.domain.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface StockShardRepository extends JpaRepository<StockShard, Long> {
+
+    /**
+     * 샤드 재고가 충분할 때만 차감 (조건부 UPDATE - 해당 샤드 행만 잠김)
+     */
+    @Modifying
+    @Query("UPDATE StockShard s SET s.quantity = s.quantity - :quantity " +
+        "WHERE s.product.id = :productId AND s.shardNo = :shardNo AND s.quantity >= :quantity")
+    int decreaseIfAvailable(@Param("productId") Long productId,
+                            @Param("shardNo") Integer shardNo,
+                            @Param("quantity") Integer quantity);
+
+    @Modifying
+    @Query("UPDATE StockShard s SET s.quantity = s.quantity + :quantity " +
+        "WHERE s.product.id = :productId AND s.shardNo = :shardNo")
+    int increase(@Param("productId") Long productId,
+                 @Param("shardNo") Integer shardNo,
+                 @Param("quantity") Integer quantity);
+
+    /**
+     * 상품의 샤드별 재고 - [shard_no, quantity] (잠금 없는 읽기, 차감할 샤드 고르기용)
+     */
+    @Query(value = "SELECT shard_no, quantity FROM stock_shards WHERE product_id = :productId", nativeQuery = true)
+    List<Object[]> findQuantitiesByProductId(@Param("productId") Long productId);
+
+    /**
+     * 상품의 모든 샤드를 샤드 번호 순으로 잠금 - [shard_no, quantity]
+     * 엔티티를 영속성 컨텍스트에 올리지 않아 이후 조건부 UPDATE와 값이 어긋나지 않음
+     * 조건부 UPDATE와 같은 인덱스로 잠가야 함 - 행이 적어 클러스터 인덱스 전체를 읽으면 UPDATE와 잠금 순서가 뒤바뀌어 교착
+     */
+    @Query(value = "SELECT shard_no, quantity FROM stock_shards FORCE INDEX (uk_stock_shards_product_shard) " +
+        "WHERE product_id = :productId ORDER BY shard_no FOR UPDATE",
+        nativeQuery = true)
+    List<Object[]> lockAllByProductId(@Param("productId") Long productId);
+
+    /**
+     * 다른 트랜잭션이 잡고 있지 않은 샤드만 샤드 번호 순으로 잠금 - [shard_no, quantity] (기다리지 않음)
+     */
+    @Query(value = "SELECT shard_no, quantity FROM stock_shards FORCE INDEX (uk_stock_shards_product_shard) " +
+        "WHERE product_id = :productId ORDER BY shard_no FOR UPDATE SKIP LOCKED",
+        nativeQuery = true)
+    List<Object[]> lockUnlockedByProductId(@Param("productId") Long productId);
+
+    @Query("SELECT COALESCE(SUM(s.quantity), 0) FROM StockShard s WHERE s.product.id = :productId")
+    Long sumQuantityByProductId(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("DELETE FROM StockShard s WHERE s.product.id = :productId")
+    int deleteAllByProductId(@Param("productId") Long productId);
+}
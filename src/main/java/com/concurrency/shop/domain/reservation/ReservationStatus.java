@@ -0,0 +1,8 @@
+package com.concurrency.shop.domain.reservation;
+
+public enum ReservationStatus {
+    RESERVED,   // 재고 확보 (만료 전까지 유지)
+    CONFIRMED,  // 확정 - 재고 차감 확정
+    CANCELLED,  // 사용자 취소 - 재고 복구
+    EXPIRED     // 만료 - 스위퍼가 재고 일괄 복구
+}
@@ -0,0 +1,72 @@
+package com.concurrency.shop.domain.reservation;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 - 결제 전까지 재고를 일정 시간 확보
+ * - 확정(CONFIRMED)하지 않으면 expiresAt 이후 스위퍼가 만료 처리하고 재고를 복구
+ * - (status, expires_at) 인덱스로 만료 대상만 범위 조회
+ * - 주문 접수 배치 처리의 재고 선점도 접수증(ticketId)별로 기록 → 주문과 함께 확정, 장애로 남으면 만료 후 복구
+ */
+@Entity
+@Table(
+    name = "stock_reservations",
+    indexes = {
+        @Index(name = "idx_stock_reservations_status_expires_at", columnList = "status, expires_at"),
+        @Index(name = "idx_stock_reservations_ticket_id", columnList = "ticket_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 주문 접수 선점이면 접수증 ID
+    @Column(length = 64)
+    private String ticketId;
+
+    public StockReservation(User user, Product product, Integer quantity, LocalDateTime expiresAt) {
+        this(user, product, quantity, expiresAt, null);
+    }
+
+    public StockReservation(User user, Product product, Integer quantity, LocalDateTime expiresAt, String ticketId) {
+        this.user = user;
+        this.product = product;
+        this.quantity = quantity;
+        this.status = ReservationStatus.RESERVED;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+        this.ticketId = ticketId;
+    }
+}
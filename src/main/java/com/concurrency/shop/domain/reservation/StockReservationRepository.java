@@ -0,0 +1,67 @@
+package com.concurrency.shop.domain.reservation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * 만료된 예약을 만료 시각 순으로 잠금 - [id, product_id, quantity, ticket_id]
+     * SKIP LOCKED: 다른 스위퍼/확정 요청이 잡고 있는 행은 건너뛰어 서로 기다리지 않음
+     */
+    @Query(value = "SELECT id, product_id, quantity, ticket_id FROM stock_reservations " +
+        "WHERE status = 'RESERVED' AND expires_at <= :now " +
+        "ORDER BY expires_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+        nativeQuery = true)
+    List<Object[]> lockExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :status WHERE r.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") ReservationStatus status);
+
+    /**
+     * 만료 전인 예약만 상태 변경 (조건부 UPDATE - 확정/취소/만료가 동시에 실행되어도 한쪽만 성공)
+     */
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to " +
+        "WHERE r.id = :id AND r.status = :from AND r.expiresAt > :now")
+    int changeStatusIfNotExpired(@Param("id") Long id,
+                                 @Param("from") ReservationStatus from,
+                                 @Param("to") ReservationStatus to,
+                                 @Param("now") LocalDateTime now);
+
+    /**
+     * 만료 전인 RESERVED 선점이 남아 있는 접수증 ID
+     */
+    @Query("SELECT DISTINCT r.ticketId FROM StockReservation r " +
+        "WHERE r.ticketId IN :ticketIds AND r.status = :status AND r.expiresAt > :now")
+    List<String> findTicketIdsByStatus(@Param("ticketIds") Collection<String> ticketIds,
+                                       @Param("status") ReservationStatus status,
+                                       @Param("now") LocalDateTime now);
+
+    /**
+     * 접수증의 만료 전 선점을 한 번에 상태 변경 (조건부 UPDATE - 같은 접수증을 두 워커가 처리해도 한쪽만 성공)
+     */
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :to " +
+        "WHERE r.ticketId = :ticketId AND r.status = :from AND r.expiresAt > :now")
+    int changeTicketStatusIfNotExpired(@Param("ticketId") String ticketId,
+                                       @Param("from") ReservationStatus from,
+                                       @Param("to") ReservationStatus to,
+                                       @Param("now") LocalDateTime now);
+
+    /**
+     * 접수증의 RESERVED 선점을 잠금 - [id, product_id, quantity]
+     * SKIP LOCKED: 스위퍼가 잡고 있는 행은 스위퍼가 복구하므로 건너뜀
+     */
+    @Query(value = "SELECT id, product_id, quantity FROM stock_reservations " +
+        "WHERE ticket_id = :ticketId AND status = 'RESERVED' FOR UPDATE SKIP LOCKED",
+        nativeQuery = true)
+    List<Object[]> lockReservedByTicketId(@Param("ticketId") String ticketId);
+}
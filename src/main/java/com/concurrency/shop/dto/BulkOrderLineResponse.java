@@ -0,0 +1,30 @@
+package com.concurrency.shop.dto;
+
+import com.concurrency.shop.intake.OrderTicketStatus;
+import lombok.Getter;
+
+/**
+ * 대량 주문 결과 한 줄 (NDJSON) - line은 요청 본문의 줄 번호(1부터)
+ */
+@Getter
+public class BulkOrderLineResponse {
+    private final int line;
+    private final OrderTicketStatus status;
+    private final OrderResponse order;
+    private final String error;
+
+    private BulkOrderLineResponse(int line, OrderTicketStatus status, OrderResponse order, String error) {
+        this.line = line;
+        this.status = status;
+        this.order = order;
+        this.error = error;
+    }
+
+    public static BulkOrderLineResponse completed(int line, OrderResponse order) {
+        return new BulkOrderLineResponse(line, OrderTicketStatus.COMPLETED, order, null);
+    }
+
+    public static BulkOrderLineResponse failed(int line, String error) {
+        return new BulkOrderLineResponse(line, OrderTicketStatus.FAILED, null, error);
+    }
+}
@@ -0,0 +1,38 @@
+package com.concurrency.shop.dto;
+
+import com.concurrency.shop.domain.coupon.CouponIssueJob;
+import com.concurrency.shop.domain.coupon.CouponIssueJobStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CouponIssueJobResponse {
+    private final Long jobId;
+    private final Long couponId;
+    private final CouponIssueJobStatus status;
+    private final Long lastUserId;
+    private final Long processedCount;
+    private final Long issuedCount;
+    private final Integer chunkSize;
+    private final Integer workerCount;
+    private final Long elapsedMillis;
+    private final Double rowsPerSecond;
+    private final String failureMessage;
+    private final LocalDateTime finishedAt;
+
+    public CouponIssueJobResponse(CouponIssueJob job) {
+        this.jobId = job.getId();
+        this.couponId = job.getCouponId();
+        this.status = job.getStatus();
+        this.lastUserId = job.getLastUserId();
+        this.processedCount = job.getProcessedCount();
+        this.issuedCount = job.getIssuedCount();
+        this.chunkSize = job.getChunkSize();
+        this.workerCount = job.getWorkerCount();
+        this.elapsedMillis = job.getElapsedMillis();
+        this.rowsPerSecond = job.getRowsPerSecond();
+        this.failureMessage = job.getFailureMessage();
+        this.finishedAt = job.getFinishedAt();
+    }
+}
@@ -4,7 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Getter
 @NoArgsConstructor
@@ -14,4 +17,80 @@ public class OrderRequest {
     private List<OrderItemRequest> items;
     private Long couponId;
     private Long pointsToUse;
+
+    /**
+     * 요청 형식 검증 (DB 조회 없이) - 주문 접수/대량 주문에서 처리 전에 걸러냄
+     */
+    public void validate() {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 ID는 필수입니다");
+        }
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("주문 상품이 없습니다");
+        }
+        for (OrderItemRequest item : items) {
+            if (item.getProductId() == null || item.getQuantity() == null || item.getQuantity() < 1) {
+                throw new IllegalArgumentException(
+                    "상품 ID와 1 이상의 수량이 필요합니다: " + item.getProductId() + ", " + item.getQuantity());
+            }
+        }
+        if (pointsToUse != null && pointsToUse < 0) {
+            throw new IllegalArgumentException("사용 포인트는 0 이상이어야 합니다: " + pointsToUse);
+        }
+    }
+
+    /**
+     * 상품 ID별 주문 수량 (같은 상품이 여러 줄이면 합산, 상품 ID 오름차순)
+     */
+    public Map<Long, Integer> quantitiesByProductId() {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItemRequest item : items) {
+            quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * 주문이 실제로 건드리는 리소스의 락 키 (상품별 재고, 쿠폰, 포인트 사용 시 사용자 포인트)
+     * 같은 사용자라도 겹치는 리소스가 없는 주문은 병렬로 처리됨
+     */
+    public List<String> lockKeys() {
+        List<String> keys = new ArrayList<>();
+        for (Long productId : quantitiesByProductId().keySet()) {
+            keys.add("order:product:" + productId);
+        }
+        if (couponId != null) {
+            keys.add("order:coupon:" + couponId);
+        }
+        if (pointsToUse != null && pointsToUse > 0) {
+            keys.add("user:point:" + userId);
+        }
+        return keys;
+    }
+
+    /**
+     * 주문 V3의 락 키 (사용자별 주문 생성 + 포인트 사용 시 사용자 포인트)
+     * 포인트를 쓰지 않는 주문은 사용자 포인트 락을 잡지 않음 (다른 포인트 작업과 불필요하게 직렬화되지 않도록)
+     */
+    public List<String> userOrderLockKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add("order:create:user:" + userId);
+        if (pointsToUse != null && pointsToUse > 0) {
+            keys.add("user:point:" + userId);
+        }
+        return keys;
+    }
+
+    /**
+     * 재고를 미리 선점한 주문의 락 키 (상품 제외, 쿠폰 + 사용자 포인트)
+     * 포인트 사용/적립이 같은 트랜잭션에서 일어나므로 사용자 포인트 키는 항상 포함
+     */
+    public List<String> reservedStockLockKeys() {
+        List<String> keys = new ArrayList<>();
+        if (couponId != null) {
+            keys.add("order:coupon:" + couponId);
+        }
+        keys.add("user:point:" + userId);
+        return keys;
+    }
 }
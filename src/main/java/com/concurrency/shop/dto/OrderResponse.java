@@ -2,6 +2,8 @@ package com.concurrency.shop.dto;
 
 import com.concurrency.shop.domain.order.Order;
 import com.concurrency.shop.domain.order.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -29,4 +31,28 @@ public class OrderResponse {
         this.finalAmount = order.getFinalAmount();
         this.orderDate = order.getOrderDate();
     }
+
+    /**
+     * 저장된 응답 복원 (Idempotency-Key 재시도 응답)
+     */
+    @JsonCreator
+    public OrderResponse(@JsonProperty("orderId") Long orderId,
+                         @JsonProperty("userId") Long userId,
+                         @JsonProperty("status") OrderStatus status,
+                         @JsonProperty("totalAmount") Long totalAmount,
+                         @JsonProperty("discountAmount") Long discountAmount,
+                         @JsonProperty("pointUsed") Long pointUsed,
+                         @JsonProperty("pointRewarded") Long pointRewarded,
+                         @JsonProperty("finalAmount") Long finalAmount,
+                         @JsonProperty("orderDate") LocalDateTime orderDate) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.discountAmount = discountAmount;
+        this.pointUsed = pointUsed;
+        this.pointRewarded = pointRewarded;
+        this.finalAmount = finalAmount;
+        this.orderDate = orderDate;
+    }
 }
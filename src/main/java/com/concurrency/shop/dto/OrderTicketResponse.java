@@ -0,0 +1,31 @@
+package com.concurrency.shop.dto;
+
+import com.concurrency.shop.intake.OrderTicketStatus;
+import lombok.Getter;
+
+@Getter
+public class OrderTicketResponse {
+    private final String ticketId;
+    private final OrderTicketStatus status;
+    private final OrderResponse order;
+    private final String error;
+
+    private OrderTicketResponse(String ticketId, OrderTicketStatus status, OrderResponse order, String error) {
+        this.ticketId = ticketId;
+        this.status = status;
+        this.order = order;
+        this.error = error;
+    }
+
+    public static OrderTicketResponse queued(String ticketId) {
+        return new OrderTicketResponse(ticketId, OrderTicketStatus.QUEUED, null, null);
+    }
+
+    public static OrderTicketResponse completed(String ticketId, OrderResponse order) {
+        return new OrderTicketResponse(ticketId, OrderTicketStatus.COMPLETED, order, null);
+    }
+
+    public static OrderTicketResponse failed(String ticketId, String error) {
+        return new OrderTicketResponse(ticketId, OrderTicketStatus.FAILED, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package com.concurrency.shop.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class PointHistoryPageResponse {
+    private final List<PointHistoryResponse> histories;
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private final String nextCursor;
+
+    public PointHistoryPageResponse(List<PointHistoryResponse> histories, String nextCursor) {
+        this.histories = histories;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.concurrency.shop.dto;
+
+import com.concurrency.shop.domain.point.PointType;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class PointHistoryResponse {
+    private final Long historyId;
+    private final PointType type;
+    private final Long amount;
+    private final Long balanceAfter;
+    private final Long orderId;
+    private final LocalDateTime createdAt;
+
+    public PointHistoryResponse(Long historyId, PointType type, Long amount, Long balanceAfter,
+                                Long orderId, LocalDateTime createdAt) {
+        this.historyId = historyId;
+        this.type = type;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.orderId = orderId;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.concurrency.shop.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationRequest {
+    private Long userId;
+    private Long productId;
+    private Integer quantity;
+}
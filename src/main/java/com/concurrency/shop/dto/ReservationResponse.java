@@ -0,0 +1,26 @@
+package com.concurrency.shop.dto;
+
+import com.concurrency.shop.domain.reservation.ReservationStatus;
+import com.concurrency.shop.domain.reservation.StockReservation;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ReservationResponse {
+    private final Long reservationId;
+    private final Long userId;
+    private final Long productId;
+    private final Integer quantity;
+    private final ReservationStatus status;
+    private final LocalDateTime expiresAt;
+
+    public ReservationResponse(StockReservation reservation) {
+        this.reservationId = reservation.getId();
+        this.userId = reservation.getUser().getId();
+        this.productId = reservation.getProduct().getId();
+        this.quantity = reservation.getQuantity();
+        this.status = reservation.getStatus();
+        this.expiresAt = reservation.getExpiresAt();
+    }
+}
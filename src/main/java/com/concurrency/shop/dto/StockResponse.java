@@ -10,8 +10,12 @@ public class StockResponse {
     private final Integer stockQuantity;
 
     public StockResponse(Product product) {
+        this(product, product.getStockQuantity());
+    }
+
+    public StockResponse(Product product, Integer stockQuantity) {
         this.productId = product.getId();
         this.productName = product.getName();
-        this.stockQuantity = product.getStockQuantity();
+        this.stockQuantity = stockQuantity;
     }
 }
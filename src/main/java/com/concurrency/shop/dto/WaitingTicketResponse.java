@@ -0,0 +1,30 @@
+package com.concurrency.shop.dto;
+
+import lombok.Getter;
+
+@Getter
+public class WaitingTicketResponse {
+    private final Long userId;
+    private final boolean admitted;
+    private final Integer position;
+    private final Long estimatedWaitSeconds;
+    private final String admissionToken;
+
+    private WaitingTicketResponse(Long userId, boolean admitted, Integer position,
+                                  Long estimatedWaitSeconds, String admissionToken) {
+        this.userId = userId;
+        this.admitted = admitted;
+        this.position = position;
+        this.estimatedWaitSeconds = estimatedWaitSeconds;
+        this.admissionToken = admissionToken;
+    }
+
+    public static WaitingTicketResponse waiting(Long userId, int position, double admissionRatePerSecond) {
+        return new WaitingTicketResponse(userId, false, position,
+            (long) Math.ceil(position / Math.max(admissionRatePerSecond, 1.0)), null);
+    }
+
+    public static WaitingTicketResponse admitted(Long userId, String admissionToken) {
+        return new WaitingTicketResponse(userId, true, null, 0L, admissionToken);
+    }
+}
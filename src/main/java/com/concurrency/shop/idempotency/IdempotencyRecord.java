@@ -0,0 +1,29 @@
+package com.concurrency.shop.idempotency;
+
+import java.util.UUID;
+
+/**
+ * Idempotency-Key 하나의 처리 상태 (Redis에는 JSON으로 저장)
+ *
+ * @param requestHash 첫 요청 본문의 해시 - 같은 키로 다른 요청을 보내면 거절
+ * @param response    직렬화한 응답 (COMPLETED일 때만)
+ * @param token       처리 중 표시를 남긴 요청의 식별자 (IN_PROGRESS일 때만) - 그 요청만 표시를 연장/삭제/완료로 교체
+ */
+record IdempotencyRecord(Status status, String requestHash, String response, String token) {
+
+    enum Status {
+        IN_PROGRESS, COMPLETED
+    }
+
+    static IdempotencyRecord inProgress(String requestHash) {
+        return new IdempotencyRecord(Status.IN_PROGRESS, requestHash, null, UUID.randomUUID().toString());
+    }
+
+    static IdempotencyRecord completed(String requestHash, String response) {
+        return new IdempotencyRecord(Status.COMPLETED, requestHash, response, null);
+    }
+
+    boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+}
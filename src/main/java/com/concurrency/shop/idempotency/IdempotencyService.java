@@ -0,0 +1,270 @@
+package com.concurrency.shop.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 처리 - 클라이언트 재시도가 주문을 다시 실행하지 않도록 첫 요청의 응답을 저장해 돌려줌
+ * - 첫 요청: Redis(idempotency:{scope}:{key})에 요청별 토큰을 담은 처리 중 표시를 SET NX로 기록 → 실행 → 응답을 ttl 동안 저장
+ * - 처리 중 표시는 실행하는 동안 주기적으로 연장 (in-progress-ttl보다 오래 걸려도 중복 요청이 실행되지 않음)
+ * - 표시의 연장/삭제/완료 응답으로 교체는 Lua로 토큰이 같을 때만 수행 → 표시가 만료된 뒤 느리게 끝난 요청이 다른 요청의 기록을 지우거나 덮지 않음
+ * - 완료 후 재시도: 로컬 Caffeine 캐시 → Redis 순으로 저장된 응답 반환 (락/DB 접근 없음)
+ * - 처리 중 재시도: 첫 요청이 끝날 때까지 기다렸다가 같은 응답 반환 (wait-ms 초과 시 409)
+ * - 실패한 요청은 자기 표시를 지움 → 아무 효과도 남기지 않았으므로 같은 키로 다시 시도 가능
+ * - 같은 키로 본문이 다른 요청을 보내면 422
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MILLIS = 50L;
+
+    /**
+     * KEYS[1]: 기록 키, ARGV[1]: 내 처리 중 표시, ARGV[2]: 완료 기록, ARGV[3]: 보관 시간(ms)
+     * 반환: 1 = 교체, 0 = 내 표시가 아님 (만료되어 다른 요청이 차지했거나 지워짐)
+     */
+    private static final String REPLACE_IF_OWNER_SCRIPT = """
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+        return 1
+        """;
+
+    /**
+     * KEYS[1]: 기록 키, ARGV[1]: 내 처리 중 표시
+     */
+    private static final String DELETE_IF_OWNER_SCRIPT = """
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        return redis.call('DEL', KEYS[1])
+        """;
+
+    /**
+     * KEYS[1]: 기록 키, ARGV[1]: 내 처리 중 표시, ARGV[2]: 연장할 만료 시간(ms)
+     */
+    private static final String RENEW_IF_OWNER_SCRIPT = """
+        if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+            return 0
+        end
+        return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        """;
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration ttl;
+    private final Duration inProgressTtl;
+    private final long waitMillis;
+    private final Cache<String, IdempotencyRecord> localRecords;
+    // 이 노드에서 실행 중인 첫 요청의 기록 키 → 처리 중 표시 (주기적으로 연장)
+    private final Map<String, String> inProgress = new ConcurrentHashMap<>();
+
+    public IdempotencyService(RedissonClient redissonClient,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${shop.idempotency.ttl-seconds:86400}") long ttlSeconds,
+                              @Value("${shop.idempotency.in-progress-ttl-seconds:60}") long inProgressTtlSeconds,
+                              @Value("${shop.idempotency.wait-ms:15000}") long waitMillis,
+                              @Value("${shop.idempotency.local.max-size:10000}") long localMaxSize,
+                              @Value("${shop.idempotency.local.ttl-seconds:60}") long localTtlSeconds) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+        this.waitMillis = waitMillis;
+        this.localRecords = Caffeine.newBuilder()
+            .maximumSize(localMaxSize)
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+            .build();
+    }
+
+    /**
+     * @param scope   엔드포인트 구분 (예: order:v2) - 같은 키라도 엔드포인트가 다르면 별개 요청
+     * @param key     Idempotency-Key 헤더 값 (없으면 action을 그대로 실행)
+     * @param request 요청 본문 (같은 키의 요청이 같은 요청인지 확인)
+     */
+    public <T> T execute(String scope, String key, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                IDEMPOTENCY_KEY_HEADER + "는 1~" + MAX_KEY_LENGTH + "자여야 합니다");
+        }
+        String recordKey = KEY_PREFIX + scope + ":" + key;
+        String requestHash = hash(request);
+
+        // 1. 재시도 폭주는 로컬 캐시에서 흡수
+        IdempotencyRecord local = localRecords.getIfPresent(recordKey);
+        if (local != null) {
+            verifySameRequest(local, requestHash, key);
+            count("replayed-local");
+            return read(local.response(), responseType);
+        }
+
+        RBucket<String> bucket = redissonClient.getBucket(recordKey, StringCodec.INSTANCE);
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (true) {
+            // 2. 처리 중 표시를 먼저 기록한 요청만 실행
+            String marker = write(IdempotencyRecord.inProgress(requestHash));
+            if (bucket.setIfAbsent(marker, inProgressTtl)) {
+                return executeFirst(recordKey, marker, requestHash, action);
+            }
+
+            // 3. 저장된 응답 반환, 처리 중이면 대기 (첫 요청이 실패해 표시가 지워지면 다시 2단계)
+            String stored = bucket.get();
+            if (stored != null) {
+                IdempotencyRecord record = read(stored, IdempotencyRecord.class);
+                verifySameRequest(record, requestHash, key);
+                if (record.isCompleted()) {
+                    localRecords.put(recordKey, record);
+                    count("replayed-redis");
+                    return read(record.response(), responseType);
+                }
+            }
+            if (System.currentTimeMillis() > deadline) {
+                count("conflict");
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "같은 " + IDEMPOTENCY_KEY_HEADER + " 요청이 아직 처리 중입니다: " + key);
+            }
+            sleep(key);
+        }
+    }
+
+    /**
+     * 실행 중인 첫 요청의 처리 중 표시 연장 (in-progress-ttl 안에 여러 번 실행되도록 renew-interval-ms 설정)
+     */
+    @Scheduled(fixedDelayString = "${shop.idempotency.renew-interval-ms:20000}")
+    public void renewInProgress() {
+        inProgress.forEach((recordKey, marker) -> {
+            try {
+                if (runIfOwner(RENEW_IF_OWNER_SCRIPT, recordKey, marker, String.valueOf(inProgressTtl.toMillis())) == 0) {
+                    log.warn("[Idempotency] 처리 중 표시를 잃었습니다 (만료 또는 삭제) - 키: {}", recordKey);
+                    inProgress.remove(recordKey, marker);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[Idempotency] 처리 중 표시 연장 실패 - 키: {}", recordKey, e);
+            }
+        });
+    }
+
+    private <T> T executeFirst(String recordKey, String marker, String requestHash, Supplier<T> action) {
+        inProgress.put(recordKey, marker);
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            inProgress.remove(recordKey, marker);
+            try {
+                runIfOwner(DELETE_IF_OWNER_SCRIPT, recordKey, marker);
+            } catch (RuntimeException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw e;
+        }
+
+        IdempotencyRecord completed = IdempotencyRecord.completed(requestHash, write(response));
+        try {
+            if (runIfOwner(REPLACE_IF_OWNER_SCRIPT, recordKey, marker, write(completed), String.valueOf(ttl.toMillis())) == 0) {
+                // 표시가 만료되어 다른 요청이 같은 키를 차지함 → 그 요청의 기록을 덮지 않음
+                log.warn("[Idempotency] 처리 중 표시를 잃어 응답을 저장하지 않음 - 키: {}", recordKey);
+                count("executed-unowned");
+                return response;
+            }
+        } catch (RuntimeException e) {
+            // 요청 자체는 성공했으므로 응답은 그대로 반환 (연장을 멈추므로 처리 중 표시는 in-progress-ttl 뒤 만료)
+            log.error("[Idempotency] 응답 저장 실패 - 키: {}", recordKey, e);
+        } finally {
+            inProgress.remove(recordKey, marker);
+        }
+        localRecords.put(recordKey, completed);
+        count("executed");
+        return response;
+    }
+
+    private long runIfOwner(String script, String recordKey, String marker, Object... args) {
+        Object[] scriptArgs = new Object[args.length + 1];
+        scriptArgs[0] = marker;
+        System.arraycopy(args, 0, scriptArgs, 1, args.length);
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+            RScript.Mode.READ_WRITE,
+            script,
+            RScript.ReturnType.INTEGER,
+            List.of(recordKey),
+            scriptArgs
+        );
+        return result;
+    }
+
+    private void verifySameRequest(IdempotencyRecord record, String requestHash, String key) {
+        if (!record.requestHash().equals(requestHash)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                "같은 " + IDEMPOTENCY_KEY_HEADER + "로 다른 요청을 보낼 수 없습니다: " + key);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청을 직렬화할 수 없습니다", e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("멱등 응답을 직렬화할 수 없습니다", e);
+        }
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 멱등 응답을 읽을 수 없습니다", e);
+        }
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("shop.idempotency.requests", "result", result).increment();
+    }
+
+    private void sleep(String key) {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "같은 " + IDEMPOTENCY_KEY_HEADER + " 요청을 기다리는 중 중단되었습니다: " + key);
+        }
+    }
+}
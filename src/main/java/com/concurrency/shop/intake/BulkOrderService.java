@@ -0,0 +1,157 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.dto.BulkOrderLineResponse;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.dto.OrderResponse;
+import com.concurrency.shop.waitingroom.WaitingRoomService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대량 주문 (NDJSON 요청 → NDJSON 결과)
+ * - 요청 본문을 한 줄씩 읽어 chunk-size건씩 OrderBatchProcessor로 처리 → 청크마다 상품별 수량을 합산해 재고를 한 번에 선점
+ * - 쿠폰/포인트/주문 저장은 주문마다 별도 트랜잭션 → 한 주문의 실패가 같은 청크의 다른 주문에 영향을 주지 않음
+ * - 줄마다 접수증 ID를 발급해 선점을 기록 → 처리 도중 장애로 주문되지 않은 선점은 만료 후 예약 스위퍼가 복구
+ * - 결과는 요청 줄 순서대로 청크가 끝날 때마다 내보냄 (읽을 수 없는 줄, 대기열 대상 상품 주문은 해당 줄만 실패)
+ */
+@Slf4j
+@Service
+public class BulkOrderService {
+
+    private final OrderBatchProcessor orderBatchProcessor;
+    private final WaitingRoomService waitingRoomService;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxOrders;
+
+    public BulkOrderService(OrderBatchProcessor orderBatchProcessor,
+                            WaitingRoomService waitingRoomService,
+                            ObjectMapper objectMapper,
+                            @Value("${shop.order.bulk.chunk-size:200}") int chunkSize,
+                            @Value("${shop.order.bulk.max-orders:10000}") int maxOrders) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("대량 주문 청크 크기는 1 이상이어야 합니다: " + chunkSize);
+        }
+        this.orderBatchProcessor = orderBatchProcessor;
+        this.waitingRoomService = waitingRoomService;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxOrders = maxOrders;
+    }
+
+    /**
+     * @param in  주문 요청 NDJSON (한 줄에 OrderRequest 1건, 빈 줄은 무시)
+     * @param out 주문 결과 NDJSON (요청 줄마다 BulkOrderLineResponse 1건)
+     * @return 성공한 주문 수
+     */
+    public int process(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+
+        List<Line> chunk = new ArrayList<>(chunkSize);
+        int lineNumber = 0;
+        int orders = 0;
+        int completed = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank()) {
+                continue;
+            }
+            chunk.add(++orders > maxOrders
+                ? Line.rejected(lineNumber, "대량 주문은 요청당 최대 " + maxOrders + "건입니다")
+                : parse(lineNumber, text));
+
+            if (chunk.size() >= chunkSize) {
+                completed += flush(chunk, writer);
+            }
+        }
+        completed += flush(chunk, writer);
+
+        log.info("[Bulk] 대량 주문 처리 완료 - 건수: {}, 성공: {}", orders, completed);
+        return completed;
+    }
+
+    private Line parse(int lineNumber, String text) {
+        OrderRequest request;
+        try {
+            request = objectMapper.readValue(text, OrderRequest.class);
+            request.validate();
+        } catch (JsonProcessingException e) {
+            return Line.rejected(lineNumber, "주문 요청을 읽을 수 없습니다: " + e.getOriginalMessage());
+        } catch (IllegalArgumentException e) {
+            return Line.rejected(lineNumber, e.getMessage());
+        }
+        if (waitingRoomService.requiresAdmission(request)) {
+            return Line.rejected(lineNumber, "대기열 대상 상품은 대량 주문할 수 없습니다");
+        }
+        return new Line(lineNumber, request, null);
+    }
+
+    /**
+     * 청크의 대기 주문을 묶어 처리하고 줄 순서대로 결과 기록
+     */
+    private int flush(List<Line> chunk, Writer writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Line> pending = chunk.stream().filter(Line::isPending).toList();
+        List<OrderBatchProcessor.Result> results = pending.isEmpty()
+            ? List.of()
+            : orderBatchProcessor.process(pending.stream()
+                .map(line -> new OrderBatchProcessor.Entry(UUID.randomUUID().toString(), line.request()))
+                .toList());
+
+        int completed = 0;
+        int next = 0;
+        for (Line line : chunk) {
+            BulkOrderLineResponse response;
+            if (!line.isPending()) {
+                response = BulkOrderLineResponse.failed(line.number(), line.error());
+            } else {
+                OrderBatchProcessor.Result result = results.get(next++);
+                if (result.isCompleted()) {
+                    completed++;
+                    response = BulkOrderLineResponse.completed(line.number(), new OrderResponse(result.order()));
+                } else {
+                    response = BulkOrderLineResponse.failed(line.number(), result.error().getMessage());
+                }
+            }
+            writer.write(objectMapper.writeValueAsString(response));
+            writer.write('\n');
+        }
+        writer.flush();
+        chunk.clear();
+        return completed;
+    }
+
+    /**
+     * @param request 처리할 주문 (형식 오류 등으로 거절된 줄은 null)
+     * @param error   거절 사유
+     */
+    private record Line(int number, OrderRequest request, String error) {
+
+        static Line rejected(int number, String error) {
+            return new Line(number, null, error);
+        }
+
+        boolean isPending() {
+            return request != null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.dto.OrderRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JVM 내부 주문 접수 대기열 (테스트/단일 노드용)
+ * 재시작하면 처리 전 메시지가 사라지므로 운영에서는 redisOrderIntakeQueue 사용
+ */
+@Component("inMemoryOrderIntakeQueue")
+public class InMemoryOrderIntakeQueue implements OrderIntakeQueue {
+
+    private final ConcurrentHashMap<Integer, BlockingQueue<OrderIntakeMessage>> partitions = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public void publish(int partition, String ticketId, OrderRequest request) {
+        partition(partition).add(new OrderIntakeMessage(String.valueOf(sequence.incrementAndGet()), ticketId, request));
+    }
+
+    @Override
+    public List<OrderIntakeMessage> poll(int partition, int maxCount, long timeoutMillis) {
+        BlockingQueue<OrderIntakeMessage> queue = partition(partition);
+        List<OrderIntakeMessage> messages = new ArrayList<>(maxCount);
+        try {
+            OrderIntakeMessage first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return messages;
+            }
+            messages.add(first);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return messages;
+        }
+        queue.drainTo(messages, maxCount - 1);
+        return messages;
+    }
+
+    @Override
+    public void ack(int partition, List<OrderIntakeMessage> messages) {
+        // 꺼낼 때 이미 제거됨
+    }
+
+    private BlockingQueue<OrderIntakeMessage> partition(int partition) {
+        return partitions.computeIfAbsent(partition, ignored -> new LinkedBlockingQueue<>());
+    }
+}
@@ -0,0 +1,149 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.domain.order.Order;
+import com.concurrency.shop.domain.order.OrderRepository;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.service.v2.OrderServiceV2;
+import com.concurrency.shop.service.v2.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 묶음 처리 (주문 접수 워커의 파티션 묶음, 대량 주문의 청크)
+ * 0단계: 재전달된 접수증 확인 - 이미 주문이 있으면 그 주문으로 완료, 선점이 남아 있으면 재사용
+ * 1단계: 묶음 전체의 상품별 수량을 합산해 재고를 한 번에 선점 (상품 행 잠금/UPDATE 1회) + 접수증별 선점 기록
+ *        재고 부족 등으로 실패하면 주문별로 나눠 선점 → 가능한 주문만 진행
+ * 2단계: 선점한 주문마다 OrderServiceV2.createOrderWithReservedStock (선점 확정/쿠폰/포인트/주문 저장)
+ *        실패한 주문의 선점 재고는 반환
+ * 단계 사이에 장애가 나도 선점은 접수증에 기록되어 있으므로 재전달 시 재사용되고, 끝내 주문되지 않으면 만료 후 복구됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBatchProcessor {
+
+    private final OrderServiceV2 orderServiceV2;
+    private final StockReservationService stockReservationService;
+    private final OrderRepository orderRepository;
+
+    /**
+     * @param entries 접수증 ID가 서로 다른 주문 요청
+     * @return 요청 순서대로 주문 결과
+     */
+    public List<Result> process(List<Entry> entries) {
+        List<Result> results = new ArrayList<>(Collections.nCopies(entries.size(), (Result) null));
+        List<String> ticketIds = entries.stream().map(Entry::ticketId).toList();
+
+        // 0. 주문까지 끝난 접수증은 완료, 선점만 남은 접수증은 1단계를 건너뜀
+        Map<String, Order> ordered = orderRepository.findByTicketIdIn(ticketIds).stream()
+            .collect(Collectors.toMap(Order::getTicketId, Function.identity()));
+        Set<String> reserved = new HashSet<>(stockReservationService.findReservedTickets(ticketIds));
+        for (int i = 0; i < entries.size(); i++) {
+            Order order = ordered.get(entries.get(i).ticketId());
+            if (order != null) {
+                results.set(i, Result.completed(order));
+            }
+        }
+        if (!ordered.isEmpty() || !reserved.isEmpty()) {
+            log.warn("[Intake] 재전달된 접수증 - 주문 완료: {}, 선점 재사용: {}", ordered.size(), reserved.size());
+        }
+
+        // 1. 재고를 선점하지 못한 주문은 실패 결과가 채워짐
+        reserveStocks(entries, results, reserved);
+
+        // 2. 주문 생성
+        for (int i = 0; i < entries.size(); i++) {
+            if (results.get(i) != null) {
+                continue;
+            }
+            Entry entry = entries.get(i);
+            try {
+                results.set(i, Result.completed(orderServiceV2.createOrderWithReservedStock(entry.ticketId(), entry.request())));
+            } catch (RuntimeException e) {
+                log.warn("[Intake] 주문 생성 실패, 선점 재고 반환 - 접수증: {}, 사유: {}", entry.ticketId(), e.getMessage());
+                releaseStocks(entry);
+                // 같은 접수증을 다른 워커가 먼저 주문한 경우 (선점이 이미 확정됨)
+                results.set(i, orderRepository.findByTicketId(entry.ticketId())
+                    .map(Result::completed)
+                    .orElseGet(() -> Result.failed(e)));
+            }
+        }
+        return results;
+    }
+
+    private void reserveStocks(List<Entry> entries, List<Result> results, Set<String> reserved) {
+        Map<String, OrderRequest> requests = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (results.get(i) == null && !reserved.contains(entries.get(i).ticketId())) {
+                requests.put(entries.get(i).ticketId(), entries.get(i).request());
+            }
+        }
+        if (requests.isEmpty()) {
+            return;
+        }
+        try {
+            orderServiceV2.reserveStocks(requests);
+            log.info("[Intake] 재고 일괄 선점 - 주문 수: {}", requests.size());
+            return;
+        } catch (RuntimeException e) {
+            log.info("[Intake] 재고 일괄 선점 실패, 주문별 선점으로 전환 - 주문 수: {}, 사유: {}", requests.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (!requests.containsKey(entry.ticketId())) {
+                continue;
+            }
+            try {
+                orderServiceV2.reserveStocks(Map.of(entry.ticketId(), entry.request()));
+            } catch (RuntimeException e) {
+                results.set(i, Result.failed(e));
+            }
+        }
+    }
+
+    private void releaseStocks(Entry entry) {
+        try {
+            orderServiceV2.releaseStocks(entry.ticketId());
+        } catch (RuntimeException e) {
+            // 반환하지 못한 선점은 만료 후 예약 스위퍼가 복구
+            log.error("[Intake] 선점 재고 반환 실패 - 접수증: {}, 수량: {}", entry.ticketId(), entry.request().quantitiesByProductId(), e);
+        }
+    }
+
+    /**
+     * @param ticketId 주문 접수증 ID (대량 주문은 줄마다 새로 발급) - 선점 기록과 주문을 접수증 단위로 한 번만 생성
+     */
+    public record Entry(String ticketId, OrderRequest request) {
+    }
+
+    /**
+     * @param order 생성된 주문 (성공)
+     * @param error 실패 사유 (실패)
+     */
+    public record Result(Order order, RuntimeException error) {
+
+        static Result completed(Order order) {
+            return new Result(order, null);
+        }
+
+        static Result failed(RuntimeException error) {
+            return new Result(null, error);
+        }
+
+        public boolean isCompleted() {
+            return order != null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.dto.OrderRequest;
+
+/**
+ * 주문 접수 대기열 메시지
+ *
+ * @param id       대기열 내 메시지 ID (확인 응답용)
+ * @param ticketId 주문 접수증 ID
+ * @param request  접수된 주문 요청
+ */
+public record OrderIntakeMessage(String id, String ticketId, OrderRequest request) {
+}
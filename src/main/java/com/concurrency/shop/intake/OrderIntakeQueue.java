@@ -0,0 +1,30 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.dto.OrderRequest;
+
+import java.util.List;
+
+/**
+ * 주문 접수 대기열 - 파티션(상품 기준)별로 순서대로 소비
+ * 구현체는 빈 이름으로 선택 (shop.order.intake.queue)
+ */
+public interface OrderIntakeQueue {
+
+    /**
+     * 파티션별 저장소 준비 (소비자 그룹 생성 등)
+     */
+    default void initialize(int partitions) {
+    }
+
+    void publish(int partition, String ticketId, OrderRequest request);
+
+    /**
+     * 파티션에서 최대 maxCount건을 꺼냄 - 메시지가 없으면 timeoutMillis까지 대기
+     */
+    List<OrderIntakeMessage> poll(int partition, int maxCount, long timeoutMillis);
+
+    /**
+     * 처리가 끝난 메시지 확인 (확인 전 장애가 나면 다시 전달될 수 있음)
+     */
+    void ack(int partition, List<OrderIntakeMessage> messages);
+}
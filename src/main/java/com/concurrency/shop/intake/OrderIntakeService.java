@@ -0,0 +1,186 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.domain.order.OrderRepository;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.dto.OrderResponse;
+import com.concurrency.shop.dto.OrderTicketResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 주문 접수 (202 Accepted + 접수증)
+ * - 접수: 요청 형식만 검증하고 대기열에 기록한 뒤 바로 접수증 반환 → 접수 속도가 DB 처리량과 분리됨
+ * - 파티션: 주문의 가장 작은 상품 ID로 결정 → 같은 상품 주문은 항상 같은 워커가 처리
+ * - 워커: 파티션마다 스레드 1개가 최대 batch-size건씩 꺼내 OrderBatchProcessor로 묶음 처리 (재고 선점 1회)
+ * - 결과: 접수증(OrderTicketStore)에 기록, 클라이언트는 접수증 ID로 조회
+ * 대기열은 최소 1회 전달이므로, 이미 처리된 접수증의 메시지는 다시 처리하지 않고 확인만 함
+ * 처리 도중 장애로 재전달된 접수증은 OrderBatchProcessor가 남은 선점/주문을 찾아 이어서 처리 (재고 중복 선점/주문 중복 생성 없음)
+ */
+@Slf4j
+@Service
+public class OrderIntakeService {
+
+    private final OrderIntakeQueue queue;
+    private final OrderTicketStore orderTicketStore;
+    private final OrderBatchProcessor orderBatchProcessor;
+    private final OrderRepository orderRepository;
+    private final int partitions;
+    private final int batchSize;
+    private final long pollTimeoutMillis;
+    private final boolean workersEnabled;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public OrderIntakeService(Map<String, OrderIntakeQueue> queues,
+                              OrderTicketStore orderTicketStore,
+                              OrderBatchProcessor orderBatchProcessor,
+                              OrderRepository orderRepository,
+                              @Value("${shop.order.intake.queue:redisOrderIntakeQueue}") String queueName,
+                              @Value("${shop.order.intake.partitions:4}") int partitions,
+                              @Value("${shop.order.intake.batch-size:50}") int batchSize,
+                              @Value("${shop.order.intake.poll-timeout-ms:1000}") long pollTimeoutMillis,
+                              @Value("${shop.order.intake.workers-enabled:true}") boolean workersEnabled) {
+        this.queue = queues.get(queueName);
+        if (this.queue == null) {
+            throw new IllegalStateException(
+                "주문 접수 대기열을 찾을 수 없습니다: " + queueName + " (사용 가능: " + queues.keySet() + ")");
+        }
+        if (partitions < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("파티션 수와 묶음 크기는 1 이상이어야 합니다: " + partitions + ", " + batchSize);
+        }
+        this.orderTicketStore = orderTicketStore;
+        this.orderBatchProcessor = orderBatchProcessor;
+        this.orderRepository = orderRepository;
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.workersEnabled = workersEnabled;
+        log.info("[Intake] 주문 접수 대기열 - {}, 파티션: {}, 워커: {}", queueName, partitions, workersEnabled);
+    }
+
+    @PostConstruct
+    void startWorkers() {
+        queue.initialize(partitions);
+        if (!workersEnabled) {
+            return;
+        }
+        running = true;
+        for (int partition = 0; partition < partitions; partition++) {
+            int owned = partition;
+            Thread worker = new Thread(() -> runWorker(owned), "order-intake-" + partition);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    void stopWorkers() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(pollTimeoutMillis * 2);
+        }
+    }
+
+    public OrderTicketResponse submit(OrderRequest request) {
+        request.validate();
+
+        String ticketId = UUID.randomUUID().toString();
+        int partition = partitionOf(request);
+        orderTicketStore.create(ticketId);
+        queue.publish(partition, ticketId, request);
+
+        log.info("[Intake] 주문 접수 - 접수증: {}, 사용자 ID: {}, 파티션: {}", ticketId, request.getUserId(), partition);
+        return OrderTicketResponse.queued(ticketId);
+    }
+
+    public OrderTicketResponse getTicket(String ticketId) {
+        OrderTicket ticket = orderTicketStore.find(ticketId)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "접수증을 찾을 수 없습니다: " + ticketId));
+
+        return switch (ticket.status()) {
+            case QUEUED -> OrderTicketResponse.queued(ticketId);
+            case FAILED -> OrderTicketResponse.failed(ticketId, ticket.error());
+            case COMPLETED -> OrderTicketResponse.completed(ticketId, new OrderResponse(
+                orderRepository.findById(ticket.orderId())
+                    .orElseThrow(() -> new IllegalStateException("주문을 찾을 수 없습니다: " + ticket.orderId()))));
+        };
+    }
+
+    private void runWorker(int partition) {
+        while (running) {
+            try {
+                List<OrderIntakeMessage> messages = queue.poll(partition, batchSize, pollTimeoutMillis);
+                if (!messages.isEmpty()) {
+                    process(messages);
+                    queue.ack(partition, messages);
+                }
+            } catch (RuntimeException e) {
+                // 확인하지 않은 메시지는 claim 후 재처리됨
+                log.error("[Intake] 주문 접수 워커 오류 - 파티션: {}", partition, e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 접수 대기 중인 메시지만 묶어 처리하고 결과를 접수증에 기록
+     */
+    void process(List<OrderIntakeMessage> messages) {
+        List<OrderIntakeMessage> pending = new ArrayList<>(messages.size());
+        Set<String> ticketIds = new HashSet<>();
+        for (OrderIntakeMessage message : messages) {
+            if (message.request() == null) {
+                orderTicketStore.fail(message.ticketId(), "주문 요청을 읽을 수 없습니다");
+            } else if (orderTicketStore.find(message.ticketId()).map(OrderTicket::isQueued).orElse(true)
+                && ticketIds.add(message.ticketId())) {
+                pending.add(message);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<OrderBatchProcessor.Result> results = orderBatchProcessor.process(pending.stream()
+            .map(message -> new OrderBatchProcessor.Entry(message.ticketId(), message.request()))
+            .toList());
+
+        for (int i = 0; i < pending.size(); i++) {
+            OrderBatchProcessor.Result result = results.get(i);
+            if (result.isCompleted()) {
+                orderTicketStore.complete(pending.get(i).ticketId(), result.order().getId());
+            } else {
+                orderTicketStore.fail(pending.get(i).ticketId(), result.error().getMessage());
+            }
+        }
+        log.info("[Intake] 주문 묶음 처리 완료 - 건수: {}, 성공: {}",
+            pending.size(), results.stream().filter(OrderBatchProcessor.Result::isCompleted).count());
+    }
+
+    private int partitionOf(OrderRequest request) {
+        Long firstProductId = request.quantitiesByProductId().keySet().iterator().next();
+        return Math.floorMod(Long.hashCode(firstProductId), partitions);
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
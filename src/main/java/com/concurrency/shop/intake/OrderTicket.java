@@ -0,0 +1,14 @@
+package com.concurrency.shop.intake;
+
+/**
+ * 주문 접수증 상태
+ *
+ * @param orderId 완료된 주문 ID (COMPLETED)
+ * @param error   실패 사유 (FAILED)
+ */
+public record OrderTicket(String ticketId, OrderTicketStatus status, Long orderId, String error) {
+
+    public boolean isQueued() {
+        return status == OrderTicketStatus.QUEUED;
+    }
+}
@@ -0,0 +1,7 @@
+package com.concurrency.shop.intake;
+
+public enum OrderTicketStatus {
+    QUEUED,
+    COMPLETED,
+    FAILED
+}
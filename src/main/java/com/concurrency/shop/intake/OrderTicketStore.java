@@ -0,0 +1,68 @@
+package com.concurrency.shop.intake;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 주문 접수증 저장소 - Redis 해시(order:ticket:{id}) + TTL
+ * 어느 노드의 워커가 처리하든 같은 접수증으로 결과 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderTicketStore {
+
+    private static final String TICKET_KEY_PREFIX = "order:ticket:";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_ORDER_ID = "orderId";
+    private static final String FIELD_ERROR = "error";
+
+    private final RedissonClient redissonClient;
+
+    @Value("${shop.order.intake.ticket-ttl-seconds:3600}")
+    private long ticketTtlSeconds;
+
+    public void create(String ticketId) {
+        save(ticketId, Map.of(FIELD_STATUS, OrderTicketStatus.QUEUED.name()));
+    }
+
+    public void complete(String ticketId, Long orderId) {
+        save(ticketId, Map.of(FIELD_STATUS, OrderTicketStatus.COMPLETED.name(), FIELD_ORDER_ID, String.valueOf(orderId)));
+    }
+
+    public void fail(String ticketId, String error) {
+        save(ticketId, Map.of(FIELD_STATUS, OrderTicketStatus.FAILED.name(),
+            FIELD_ERROR, error != null ? error : "알 수 없는 오류"));
+    }
+
+    public Optional<OrderTicket> find(String ticketId) {
+        Map<String, String> fields = ticket(ticketId).readAllMap();
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        String orderId = fields.get(FIELD_ORDER_ID);
+        return Optional.of(new OrderTicket(
+            ticketId,
+            OrderTicketStatus.valueOf(fields.get(FIELD_STATUS)),
+            orderId != null ? Long.valueOf(orderId) : null,
+            fields.get(FIELD_ERROR)
+        ));
+    }
+
+    private void save(String ticketId, Map<String, String> fields) {
+        RMap<String, String> ticket = ticket(ticketId);
+        ticket.putAll(fields);
+        ticket.expire(Duration.ofSeconds(ticketTtlSeconds));
+    }
+
+    private RMap<String, String> ticket(String ticketId) {
+        return redissonClient.getMap(TICKET_KEY_PREFIX + ticketId, StringCodec.INSTANCE);
+    }
+}
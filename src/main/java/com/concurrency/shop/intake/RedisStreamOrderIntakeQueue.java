@@ -0,0 +1,139 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.dto.OrderRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.api.stream.StreamAddArgs;
+import org.redisson.api.stream.StreamCreateGroupArgs;
+import org.redisson.api.stream.StreamReadGroupArgs;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Streams 주문 접수 대기열 (기본값)
+ * - 파티션마다 스트림 1개(order:intake:{partition}), 모든 노드가 같은 소비자 그룹으로 소비
+ * - 확인(XACK) 전에 소비자가 죽으면 claim-idle-ms 뒤 다른 소비자가 XAUTOCLAIM으로 가져가 재처리
+ * - 확인한 메시지는 스트림에서 삭제 (XDEL)
+ */
+@Slf4j
+@Component("redisOrderIntakeQueue")
+public class RedisStreamOrderIntakeQueue implements OrderIntakeQueue {
+
+    private static final String STREAM_KEY_PREFIX = "order:intake:";
+    private static final String GROUP = "order-workers";
+    private static final String FIELD_TICKET_ID = "ticketId";
+    private static final String FIELD_REQUEST = "request";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final long claimIdleMillis;
+    private final String consumerName = ManagementFactory.getRuntimeMXBean().getName();
+
+    public RedisStreamOrderIntakeQueue(RedissonClient redissonClient,
+                                       ObjectMapper objectMapper,
+                                       @Value("${shop.order.intake.claim-idle-ms:60000}") long claimIdleMillis) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.claimIdleMillis = claimIdleMillis;
+    }
+
+    @Override
+    public void initialize(int partitions) {
+        for (int partition = 0; partition < partitions; partition++) {
+            try {
+                stream(partition).createGroup(StreamCreateGroupArgs.name(GROUP).id(StreamMessageId.ALL).makeStream());
+            } catch (RedisException e) {
+                // 이미 만들어진 그룹 (다른 노드 또는 이전 실행)
+                if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void publish(int partition, String ticketId, OrderRequest request) {
+        try {
+            stream(partition).add(StreamAddArgs.entries(
+                FIELD_TICKET_ID, ticketId,
+                FIELD_REQUEST, objectMapper.writeValueAsString(request)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 요청을 직렬화할 수 없습니다: " + ticketId, e);
+        }
+    }
+
+    @Override
+    public List<OrderIntakeMessage> poll(int partition, int maxCount, long timeoutMillis) {
+        RStream<String, String> stream = stream(partition);
+
+        // 1. 확인 없이 오래 방치된 메시지(처리 중 죽은 소비자) 회수
+        Map<StreamMessageId, Map<String, String>> entries = stream.autoClaim(
+            GROUP, consumerName, claimIdleMillis, TimeUnit.MILLISECONDS, StreamMessageId.MIN, maxCount).getMessages();
+        if (!entries.isEmpty()) {
+            log.warn("[Intake] 미확인 주문 메시지 회수 - 파티션: {}, 건수: {}", partition, entries.size());
+        } else {
+            // 2. 새 메시지 (없으면 timeoutMillis까지 대기)
+            entries = stream.readGroup(GROUP, consumerName,
+                StreamReadGroupArgs.neverDelivered().count(maxCount).timeout(Duration.ofMillis(timeoutMillis)));
+        }
+
+        List<OrderIntakeMessage> messages = new ArrayList<>(entries.size());
+        entries.forEach((id, fields) -> messages.add(toMessage(id, fields)));
+        return messages;
+    }
+
+    @Override
+    public void ack(int partition, List<OrderIntakeMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        StreamMessageId[] ids = messages.stream()
+            .map(message -> parseId(message.id()))
+            .toArray(StreamMessageId[]::new);
+
+        RBatch batch = redissonClient.createBatch();
+        RStreamAsync<String, String> stream = batch.getStream(streamKey(partition), StringCodec.INSTANCE);
+        stream.ackAsync(GROUP, ids);
+        stream.removeAsync(ids);
+        batch.execute();
+    }
+
+    private OrderIntakeMessage toMessage(StreamMessageId id, Map<String, String> fields) {
+        try {
+            return new OrderIntakeMessage(id.toString(), fields.get(FIELD_TICKET_ID),
+                objectMapper.readValue(fields.get(FIELD_REQUEST), OrderRequest.class));
+        } catch (JsonProcessingException e) {
+            // 요청 없이 넘겨 접수증만 실패 처리 (재전달되며 파티션을 막지 않도록)
+            log.error("[Intake] 주문 메시지를 읽을 수 없습니다 - ID: {}", id, e);
+            return new OrderIntakeMessage(id.toString(), fields.get(FIELD_TICKET_ID), null);
+        }
+    }
+
+    private StreamMessageId parseId(String id) {
+        int separator = id.indexOf('-');
+        return new StreamMessageId(Long.parseLong(id.substring(0, separator)), Long.parseLong(id.substring(separator + 1)));
+    }
+
+    private RStream<String, String> stream(int partition) {
+        return redissonClient.getStream(streamKey(partition), StringCodec.INSTANCE);
+    }
+
+    private String streamKey(int partition) {
+        return STREAM_KEY_PREFIX + partition;
+    }
+}
@@ -13,7 +13,19 @@ public @interface DistributedLock {
     /**
      * 락의 키값 (SpEL 표현식 지원)
      */
-    String key();
+    String key() default "";
+
+    /**
+     * 여러 리소스를 함께 잠글 때 키 목록을 반환하는 SpEL 표현식 (key 대신 사용)
+     * 키는 정렬된 순서로 한 번에 획득/해제 (RedissonMultiLock) → 호출마다 획득 순서가 같아 교착 없음
+     */
+    String keys() default "";
+
+    /**
+     * 락 구현체(LockProvider) 빈 이름 - 비어 있으면 shop.lock.provider 사용
+     * (redisLockProvider / mysqlLockProvider / localLockProvider)
+     */
+    String provider() default "";
 
     /**
      * 락 획득 대기 시간 (기본값: 5초)
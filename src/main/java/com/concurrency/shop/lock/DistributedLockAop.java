@@ -1,22 +1,21 @@
 package com.concurrency.shop.lock;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.core.DefaultParameterNameDiscoverer;
-import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
-import org.springframework.expression.EvaluationContext;
-import org.springframework.expression.Expression;
-import org.springframework.expression.ExpressionParser;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Aspect
@@ -25,55 +24,128 @@ import java.lang.reflect.Method;
 @RequiredArgsConstructor
 public class DistributedLockAop {
 
-    private final RedisLockService redisLockService;
-    private final ExpressionParser parser = new SpelExpressionParser();
-    private final ParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, LockProvider> lockProviders;
+    private final LocalLockStripes localLockStripes;
+    private final LockMetrics lockMetrics;
+    private final LockKeyGenerator lockKeyGenerator = new LockKeyGenerator();
+
+    /**
+     * true: JVM 내부 락으로 같은 노드 경쟁자를 먼저 줄 세운 뒤 Redis 락 시도 (2단계 락)
+     */
+    @Value("${shop.lock.local-tier.enabled:true}")
+    private boolean localTierEnabled;
+
+    /**
+     * provider 속성이 없는 @DistributedLock이 사용할 LockProvider 빈
+     * (redisLockProvider / mysqlLockProvider / localLockProvider)
+     */
+    @Value("${shop.lock.provider:redisLockProvider}")
+    private String defaultProviderName;
+
+    private LockProvider defaultProvider;
+
+    /**
+     * true: 이 스레드가 이미 보유한 키의 중첩 @DistributedLock은 락 구현체를 호출하지 않고 바로 진행
+     */
+    @Value("${shop.lock.elision.enabled:true}")
+    private boolean elisionEnabled;
+
+    @PostConstruct
+    void selectDefaultProvider() {
+        defaultProvider = findProvider(defaultProviderName);
+        log.info("기본 락 구현체 - {}", defaultProviderName);
+    }
 
     @Around("@annotation(distributedLock)")
     public Object lock(ProceedingJoinPoint joinPoint, DistributedLock distributedLock) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
-        String lockKey = generateLockKey(signature, joinPoint.getArgs(), distributedLock.key());
+        List<String> lockKeys = generateLockKeys(method, distributedLock, joinPoint.getArgs());
+        LockProvider provider = distributedLock.provider().isEmpty()
+            ? defaultProvider
+            : findProvider(distributedLock.provider());
 
-        log.info("분산 락 획득 시도 - Key: {}, Method: {}", lockKey, method.getName());
+        if (LockContext.holdsAll(lockKeys)) {
+            // 바깥 호출이 이미 같은 키를 보유 중이거나, 호출자가 잡아 둔 락을 이 스레드에 위임한 경우 (비동기 주문 등)
+            lockMetrics.recordElided(lockKeys);
+            log.debug("보유 중인 락으로 진행 (획득 생략) - Key: {}, Method: {}", lockKeys, method.getName());
+            return joinPoint.proceed();
+        }
 
-        boolean locked = redisLockService.tryLock(
-            lockKey,
-            distributedLock.waitTime(),
-            distributedLock.leaseTime(),
-            distributedLock.timeUnit()
-        );
+        log.info("분산 락 획득 시도 - Key: {}, Method: {}", lockKeys, method.getName());
 
-        if (!locked) {
-            throw new IllegalStateException(
-                String.format("락 획득 실패: %s (다른 요청이 처리 중입니다)", lockKey)
-            );
+        long waitMillis = distributedLock.timeUnit().toMillis(distributedLock.waitTime());
+        long leaseMillis = distributedLock.timeUnit().toMillis(distributedLock.leaseTime());
+        long startedAt = System.nanoTime();
+
+        // 1단계: 같은 노드의 경쟁자끼리 먼저 대기 (중첩 락은 교착 방지를 위해, JVM 내부 구현체는 중복이므로 건너뜀)
+        boolean localLocked = false;
+        if (localTierEnabled && provider.isDistributed() && !localLockStripes.isHeldByCurrentThread()) {
+            if (!localLockStripes.tryLockAll(lockKeys, waitMillis, TimeUnit.MILLISECONDS)) {
+                lockMetrics.recordWait(lockKeys, LockMetrics.OUTCOME_TIMEOUT, System.nanoTime() - startedAt);
+                throw lockFailure(lockKeys);
+            }
+            localLocked = true;
         }
 
         try {
-            return joinPoint.proceed();
+            // 2단계: 노드 대표 스레드만 남은 대기 시간 동안 락 구현체로 획득 (여러 키는 정렬된 순서로 한 번에)
+            long remainingWaitMillis = Math.max(0L,
+                waitMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            boolean locked = provider.tryLock(lockKeys, remainingWaitMillis, leaseMillis, TimeUnit.MILLISECONDS);
+
+            long acquiredAt = System.nanoTime();
+            if (!locked) {
+                lockMetrics.recordWait(lockKeys, LockMetrics.OUTCOME_TIMEOUT, acquiredAt - startedAt);
+                throw lockFailure(lockKeys);
+            }
+            lockMetrics.recordWait(lockKeys, LockMetrics.OUTCOME_ACQUIRED, acquiredAt - startedAt);
+
+            Set<String> previousHeldKeys = elisionEnabled
+                ? LockContext.push(lockKeys)
+                : null;
+            try {
+                return joinPoint.proceed();
+            } finally {
+                if (elisionEnabled) {
+                    LockContext.restore(previousHeldKeys);
+                }
+                provider.unlock(lockKeys);
+                lockMetrics.recordHold(lockKeys, System.nanoTime() - acquiredAt);
+                log.info("분산 락 해제 완료 - Key: {}", lockKeys);
+            }
         } finally {
-            redisLockService.unlock(lockKey);
-            log.info("분산 락 해제 완료 - Key: {}", lockKey);
+            if (localLocked) {
+                localLockStripes.unlockAll(lockKeys);
+            }
         }
     }
 
-    private String generateLockKey(MethodSignature signature, Object[] args, String key) {
-        Method method = signature.getMethod();
-        String[] parameterNames = nameDiscoverer.getParameterNames(method);
-
-        if (parameterNames == null) {
-            return key;
+    private List<String> generateLockKeys(Method method, DistributedLock distributedLock, Object[] args) {
+        boolean hasKey = !distributedLock.key().isEmpty();
+        boolean hasKeys = !distributedLock.keys().isEmpty();
+        if (hasKey == hasKeys) {
+            throw new IllegalStateException("@DistributedLock은 key와 keys 중 하나만 지정해야 합니다: " + method.getName());
         }
 
-        EvaluationContext context = new StandardEvaluationContext();
-        for (int i = 0; i < parameterNames.length; i++) {
-            context.setVariable(parameterNames[i], args[i]);
-        }
+        return hasKey
+            ? List.of(lockKeyGenerator.generate(method, distributedLock.key(), args))
+            : lockKeyGenerator.generateAll(method, distributedLock.keys(), args);
+    }
 
-        Expression expression = parser.parseExpression(key);
-        Object value = expression.getValue(context);
+    private LockProvider findProvider(String name) {
+        LockProvider provider = lockProviders.get(name);
+        if (provider == null) {
+            throw new IllegalStateException(
+                "락 구현체를 찾을 수 없습니다: " + name + " (사용 가능: " + lockProviders.keySet() + ")");
+        }
+        return provider;
+    }
 
-        return value != null ? value.toString() : key;
+    private IllegalStateException lockFailure(List<String> lockKeys) {
+        String lockKey = lockKeys.size() == 1 ? lockKeys.get(0) : lockKeys.toString();
+        return new IllegalStateException(
+            String.format("락 획득 실패: %s (다른 요청이 처리 중입니다)", lockKey)
+        );
     }
 }
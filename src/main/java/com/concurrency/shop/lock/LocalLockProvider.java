@@ -0,0 +1,34 @@
+package com.concurrency.shop.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JVM 내부 스트라이프 락 - 단일 노드 배포용 (네트워크 왕복 없음)
+ * - 노드 간에는 배타성이 없으므로 여러 인스턴스로 운영할 때는 사용하면 안 됨
+ * - 점유 시간(leaseTime)은 적용되지 않음 (메서드가 끝나면 해제)
+ */
+@Component("localLockProvider")
+@RequiredArgsConstructor
+public class LocalLockProvider implements LockProvider {
+
+    private final LocalLockStripes localLockStripes;
+
+    @Override
+    public boolean tryLock(List<String> lockKeys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        return localLockStripes.tryLockAll(lockKeys, waitTime, timeUnit);
+    }
+
+    @Override
+    public void unlock(List<String> lockKeys) {
+        localLockStripes.unlockAll(lockKeys);
+    }
+
+    @Override
+    public boolean isDistributed() {
+        return false;
+    }
+}
@@ -0,0 +1,158 @@
+package com.concurrency.shop.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 분산 락 앞단의 JVM 내부 락 (Lock Striping)
+ * - 키 해시로 고른 ReentrantLock으로 같은 노드의 경쟁자를 먼저 줄 세움
+ *   → 키당 노드별로 한 스레드만 Redis 락을 시도하므로 Redis 왕복/PubSub 구독이 노드 수 수준으로 줄어듦
+ * - 스트라이프 수가 유한하므로 다른 키가 같은 락을 공유할 수 있음 (같은 노드에서만 약간 더 직렬화될 뿐 정확성에는 영향 없음)
+ * - 이미 다른 스트라이프를 잡은 스레드의 중첩 락은 로컬 단계를 건너뜀 (스트라이프 공유로 인한 교착 방지)
+ * - 스트라이프는 스레드 전체에서 인덱스 오름차순으로만 대기: 중첩 획득 시 이미 보유한 가장 큰 인덱스 이하의 스트라이프는
+ *   기다리지 않고 즉시 시도 (재진입은 성공, 다른 스레드가 보유 중이면 바로 실패) → 반대 순서 중첩이 서로를 기다리며 시간 초과되지 않음
+ */
+@Slf4j
+@Component
+public class LocalLockStripes {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    // 스레드가 보유한 스트라이프 인덱스별 보유 횟수 (가장 큰 인덱스 = 다음에 기다려도 되는 하한)
+    private final ThreadLocal<TreeMap<Integer, Integer>> heldStripes = ThreadLocal.withInitial(TreeMap::new);
+
+    public LocalLockStripes(@Value("${shop.lock.local-tier.stripes:1024}") int stripeCount) {
+        if (stripeCount < 1 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("로컬 락 스트라이프 수는 2의 거듭제곱이어야 합니다: " + stripeCount);
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = stripeCount - 1;
+    }
+
+    /**
+     * 현재 스레드가 로컬 락을 하나라도 보유 중인지
+     */
+    public boolean isHeldByCurrentThread() {
+        return !heldStripes.get().isEmpty();
+    }
+
+    public boolean tryLock(String key, long waitTime, TimeUnit timeUnit) {
+        int index = stripeIndex(key);
+        try {
+            if (!acquire(index, highestHeldIndex(), timeUnit.toNanos(waitTime))) {
+                log.warn("로컬 락 획득 실패: {} (대기 시간 초과)", key);
+                return false;
+            }
+            hold(index);
+            return true;
+        } catch (InterruptedException e) {
+            log.error("로컬 락 획득 중 인터럽트 발생: {}", key, e);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void unlock(String key) {
+        int index = stripeIndex(key);
+        stripes[index].unlock();
+        release(index);
+    }
+
+    /**
+     * 여러 키의 스트라이프를 인덱스 오름차순으로 획득 (키 순서가 아닌 스트라이프 순서로 잡아야 교착이 없음)
+     * 하나라도 대기 시간 안에 못 잡으면 이미 잡은 스트라이프를 풀고 실패
+     */
+    public boolean tryLockAll(List<String> keys, long waitTime, TimeUnit timeUnit) {
+        int[] indexes = stripeIndexes(keys);
+        int highestHeld = highestHeldIndex();
+        long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                if (!acquire(index, highestHeld, Math.max(0L, deadline - System.nanoTime()))) {
+                    log.warn("로컬 다중 락 획득 실패: {} (대기 시간 초과)", keys);
+                    break;
+                }
+                acquired++;
+            }
+        } catch (InterruptedException e) {
+            log.error("로컬 다중 락 획득 중 인터럽트 발생: {}", keys, e);
+            Thread.currentThread().interrupt();
+        }
+
+        if (acquired < indexes.length) {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+            return false;
+        }
+        for (int index : indexes) {
+            hold(index);
+        }
+        return true;
+    }
+
+    public void unlockAll(List<String> keys) {
+        int[] indexes = stripeIndexes(keys);
+        for (int i = indexes.length - 1; i >= 0; i--) {
+            stripes[indexes[i]].unlock();
+            release(indexes[i]);
+        }
+    }
+
+    /**
+     * 해당 키의 스트라이프에서 대기 중인 스레드 수 (모니터링/테스트용)
+     */
+    public int getQueueLength(String key) {
+        return stripes[stripeIndex(key)].getQueueLength();
+    }
+
+    /**
+     * 이미 보유한 가장 큰 인덱스보다 큰 스트라이프만 기다림 (그 이하를 기다리면 반대 순서로 중첩한 스레드와 서로 대기)
+     */
+    private boolean acquire(int index, int highestHeld, long waitNanos) throws InterruptedException {
+        if (index <= highestHeld) {
+            return stripes[index].tryLock();
+        }
+        return stripes[index].tryLock(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private int highestHeldIndex() {
+        TreeMap<Integer, Integer> held = heldStripes.get();
+        return held.isEmpty() ? -1 : held.lastKey();
+    }
+
+    private void hold(int index) {
+        heldStripes.get().merge(index, 1, Integer::sum);
+    }
+
+    private void release(int index) {
+        TreeMap<Integer, Integer> held = heldStripes.get();
+        held.computeIfPresent(index, (key, count) -> count == 1 ? null : count - 1);
+        if (held.isEmpty()) {
+            heldStripes.remove();
+        }
+    }
+
+    private int[] stripeIndexes(List<String> keys) {
+        return keys.stream()
+            .mapToInt(this::stripeIndex)
+            .distinct()
+            .sorted()
+            .toArray();
+    }
+
+    private int stripeIndex(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
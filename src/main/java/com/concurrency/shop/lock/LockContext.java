@@ -0,0 +1,53 @@
+package com.concurrency.shop.lock;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 이미 보유한(또는 위임받은) 락 키
+ * - DistributedLockAop가 락을 잡은 동안 키를 등록 → 같은 키의 중첩 @DistributedLock은 락 획득 생략
+ * - 비동기 주문처럼 락은 Redisson 소유자 ID로 잡고 DB 작업은 워커 스레드에서 실행할 때 보유 키를 워커에 전달
+ */
+public final class LockContext {
+
+    private static final ThreadLocal<Set<String>> HELD_KEYS = new ThreadLocal<>();
+
+    private LockContext() {
+    }
+
+    public static <T> T callHolding(Collection<String> lockKeys, Supplier<T> action) {
+        Set<String> previous = push(lockKeys);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static boolean holdsAll(List<String> lockKeys) {
+        Set<String> held = HELD_KEYS.get();
+        return held != null && held.containsAll(lockKeys);
+    }
+
+    /**
+     * 보유 키를 추가하고 이전 상태를 반환 (restore로 되돌림)
+     */
+    static Set<String> push(Collection<String> lockKeys) {
+        Set<String> previous = HELD_KEYS.get();
+        Set<String> held = previous != null ? new HashSet<>(previous) : new HashSet<>();
+        held.addAll(lockKeys);
+        HELD_KEYS.set(held);
+        return previous;
+    }
+
+    static void restore(Set<String> previous) {
+        if (previous == null) {
+            HELD_KEYS.remove();
+        } else {
+            HELD_KEYS.set(previous);
+        }
+    }
+}
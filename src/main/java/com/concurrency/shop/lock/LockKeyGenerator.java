@@ -0,0 +1,118 @@
+package com.concurrency.shop.lock;
+
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 락 키 생성기 (메서드별 캐시)
+ * - 최초 호출 시 (메서드, 키 표현식)마다 파라미터 이름 조회와 SpEL 파싱을 한 번만 수행
+ * - 'prefix' + #arg(.property) 형태는 SpEL 평가 컨텍스트 없이 문자열 연결로 처리 (프로퍼티 접근만 컴파일된 SpEL)
+ * - 그 외 표현식은 바이트코드로 컴파일된 SpEL(IMMEDIATE)로 평가
+ * - 다중 키 표현식(컬렉션/배열 반환)은 중복 제거 후 정렬된 키 목록으로 변환 (모든 호출이 같은 순서로 락 획득)
+ */
+public class LockKeyGenerator {
+
+    private static final Pattern SIMPLE_KEY = Pattern.compile("^(?:'([^']*)'\\s*\\+\\s*)?#(\\w+)((?:\\.\\w+(?:\\(\\))?)*)$");
+
+    private final SpelExpressionParser parser = new SpelExpressionParser(
+        new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, LockKeyGenerator.class.getClassLoader())
+    );
+    private final ParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<CacheKey, KeyFunction> cache = new ConcurrentHashMap<>();
+
+    public String generate(Method method, String key, Object[] args) {
+        Object value = cache.computeIfAbsent(new CacheKey(method, key), this::compile).apply(args);
+        return value != null ? value.toString() : key;
+    }
+
+    /**
+     * 컬렉션(또는 배열)을 반환하는 키 표현식을 평가해 정렬된 키 목록으로 변환
+     */
+    public List<String> generateAll(Method method, String keys, Object[] args) {
+        Object value = cache.computeIfAbsent(new CacheKey(method, keys), this::compile).apply(args);
+        Collection<?> values;
+        if (value instanceof Collection<?> collection) {
+            values = collection;
+        } else if (value instanceof Object[] array) {
+            values = Arrays.asList(array);
+        } else {
+            throw new IllegalStateException("락 키 목록 표현식은 컬렉션 또는 배열을 반환해야 합니다: " + keys);
+        }
+
+        TreeSet<String> sorted = new TreeSet<>();
+        for (Object each : values) {
+            if (each != null) {
+                sorted.add(each.toString());
+            }
+        }
+        if (sorted.isEmpty()) {
+            throw new IllegalStateException("락 키 목록이 비어 있습니다: " + keys);
+        }
+        return List.copyOf(sorted);
+    }
+
+    int cachedSize() {
+        return cache.size();
+    }
+
+    private KeyFunction compile(CacheKey cacheKey) {
+        String key = cacheKey.key();
+        String[] parameterNames = nameDiscoverer.getParameterNames(cacheKey.method());
+
+        if (parameterNames == null) {
+            return args -> key;
+        }
+
+        Matcher matcher = SIMPLE_KEY.matcher(key.trim());
+        if (matcher.matches()) {
+            int index = Arrays.asList(parameterNames).indexOf(matcher.group(2));
+            if (index >= 0) {
+                return simpleKey(matcher.group(1), index, matcher.group(3));
+            }
+        }
+
+        Expression expression = parser.parseExpression(key);
+        return args -> {
+            StandardEvaluationContext context = new StandardEvaluationContext();
+            for (int i = 0; i < parameterNames.length; i++) {
+                context.setVariable(parameterNames[i], args[i]);
+            }
+            return expression.getValue(context);
+        };
+    }
+
+    private KeyFunction simpleKey(String prefix, int index, String propertyPath) {
+        if (propertyPath.isEmpty()) {
+            return prefix != null ? args -> prefix + args[index] : args -> args[index];
+        }
+
+        // 인자를 루트 객체로 두고 프로퍼티 경로만 평가 (#request.userId → userId, #request.lockKeys() → lockKeys())
+        Expression property = parser.parseExpression(propertyPath.substring(1));
+        return prefix != null
+            ? args -> prefix + property.getValue(args[index])
+            : args -> property.getValue(args[index]);
+    }
+
+    @FunctionalInterface
+    private interface KeyFunction {
+        Object apply(Object[] args);
+    }
+
+    private record CacheKey(Method method, String key) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.concurrency.shop.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 락 경합 지표
+ * - 키 접두사(user:point, order:product ...)별 대기/점유 시간 분포와 획득 결과를 Micrometer 타이머로 기록
+ *   (shop.lock.wait{prefix, outcome}, shop.lock.hold{prefix}) - 백분위는 HdrHistogram 기반 시간 창 히스토그램으로 계산
+ * - 이미 보유한 키라서 획득을 생략한 중첩 호출 수 (shop.lock.elided{prefix})
+ * - 여러 키를 한 번에 획득해도 획득 1회로 기록: 접두사마다 한 번씩만 기록하고 (같은 접두사 키 N개 → 1회)
+ *   리더보드에는 대기 시간을 키 수로 나눠 누적 (키마다 전체 대기 시간을 더하면 실제보다 N배 부풀려짐)
+ * - 일정 시간 이상 기다린 획득의 키는 대기 시간 가중치로 상위 N개 리더보드(Space-Saving)에 누적 → 병목 상품/사용자 추적
+ */
+@Component
+public class LockMetrics {
+
+    public static final String OUTCOME_ACQUIRED = "acquired";
+    public static final String OUTCOME_TIMEOUT = "timeout";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+    private final SpaceSavingTopKeys hotKeys;
+    private final long hotKeyMinWaitNanos;
+    private final Map<String, PrefixTimers> timers = new ConcurrentHashMap<>();
+
+    public LockMetrics(MeterRegistry meterRegistry,
+                       @Value("${shop.lock.metrics.top-keys:100}") int topKeys,
+                       @Value("${shop.lock.metrics.hot-key-min-wait-ms:1}") long hotKeyMinWaitMillis) {
+        this.meterRegistry = meterRegistry;
+        this.hotKeys = new SpaceSavingTopKeys(topKeys);
+        this.hotKeyMinWaitNanos = TimeUnit.MILLISECONDS.toNanos(hotKeyMinWaitMillis);
+    }
+
+    public void recordWait(List<String> lockKeys, String outcome, long waitNanos) {
+        for (PrefixTimers prefixTimers : timers(lockKeys)) {
+            Timer timer = OUTCOME_ACQUIRED.equals(outcome) ? prefixTimers.acquired() : prefixTimers.timeout();
+            timer.record(waitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (waitNanos >= hotKeyMinWaitNanos && !lockKeys.isEmpty()) {
+            long waitMicrosPerKey = Math.max(1, TimeUnit.NANOSECONDS.toMicros(waitNanos) / lockKeys.size());
+            for (String lockKey : lockKeys) {
+                hotKeys.add(lockKey, waitMicrosPerKey);
+            }
+        }
+    }
+
+    public void recordElided(List<String> lockKeys) {
+        for (PrefixTimers prefixTimers : timers(lockKeys)) {
+            prefixTimers.elided().increment();
+        }
+    }
+
+    public void recordHold(List<String> lockKeys, long holdNanos) {
+        for (PrefixTimers prefixTimers : timers(lockKeys)) {
+            prefixTimers.hold().record(holdNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 키 접두사별 대기/점유 시간 요약 (ms)
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new TreeMap<>();
+        timers.forEach((prefix, prefixTimers) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("acquired", prefixTimers.acquired().count());
+            stats.put("timeouts", prefixTimers.timeout().count());
+            stats.put("elided", (long) prefixTimers.elided().count());
+            stats.put("waitMs", describe(prefixTimers.acquired().takeSnapshot()));
+            stats.put("timeoutWaitMs", describe(prefixTimers.timeout().takeSnapshot()));
+            stats.put("holdMs", describe(prefixTimers.hold().takeSnapshot()));
+            summary.put(prefix, stats);
+        });
+        return summary;
+    }
+
+    /**
+     * 누적 대기 시간 기준 상위 키 (count/error 단위: 마이크로초)
+     */
+    public List<SpaceSavingTopKeys.Entry> hotKeys(int limit) {
+        return hotKeys.top(limit);
+    }
+
+    /**
+     * 획득 1회에 포함된 키들의 접두사별 타이머 (접두사당 하나)
+     */
+    private Collection<PrefixTimers> timers(List<String> lockKeys) {
+        Map<String, PrefixTimers> byPrefix = new LinkedHashMap<>();
+        for (String lockKey : lockKeys) {
+            byPrefix.computeIfAbsent(prefix(lockKey), prefix -> timers(lockKey));
+        }
+        return byPrefix.values();
+    }
+
+    private PrefixTimers timers(String lockKey) {
+        return timers.computeIfAbsent(prefix(lockKey), prefix -> new PrefixTimers(
+            timer("shop.lock.wait", prefix, OUTCOME_ACQUIRED),
+            timer("shop.lock.wait", prefix, OUTCOME_TIMEOUT),
+            timer("shop.lock.hold", prefix, null),
+            Counter.builder("shop.lock.elided").tag("prefix", prefix).register(meterRegistry)
+        ));
+    }
+
+    private Timer timer(String name, String prefix, String outcome) {
+        Timer.Builder builder = Timer.builder(name)
+            .tag("prefix", prefix)
+            .publishPercentiles(PERCENTILES)
+            .percentilePrecision(2);
+        if (outcome != null) {
+            builder.tag("outcome", outcome);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private Map<String, Object> describe(HistogramSnapshot snapshot) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mean", snapshot.mean(TimeUnit.MILLISECONDS));
+        stats.put("max", snapshot.max(TimeUnit.MILLISECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            stats.put("p" + Math.round(percentile.percentile() * 100), percentile.value(TimeUnit.MILLISECONDS));
+        }
+        return stats;
+    }
+
+    /**
+     * 마지막 구분자 앞까지를 접두사로 사용 (user:point:42 → user:point)
+     */
+    static String prefix(String lockKey) {
+        int index = lockKey.lastIndexOf(':');
+        return index > 0 ? lockKey.substring(0, index) : lockKey;
+    }
+
+    private record PrefixTimers(Timer acquired, Timer timeout, Timer hold, Counter elided) {
+    }
+}
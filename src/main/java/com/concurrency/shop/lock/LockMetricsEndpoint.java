@@ -0,0 +1,37 @@
+package com.concurrency.shop.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 분산 락 경합 조회 엔드포인트 (GET /actuator/locks?top=20)
+ * - top이 1 미만이면 400
+ */
+@Component
+@Endpoint(id = "locks")
+@RequiredArgsConstructor
+public class LockMetricsEndpoint {
+
+    private static final int DEFAULT_TOP = 20;
+
+    private final LockMetrics lockMetrics;
+
+    @ReadOperation
+    public Map<String, Object> locks(@Nullable Integer top) {
+        if (top != null && top < 1) {
+            throw new InvalidEndpointRequestException("top은 1 이상이어야 합니다: " + top, "top must be at least 1");
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("prefixes", lockMetrics.summary());
+        result.put("hotKeys", lockMetrics.hotKeys(top != null ? top : DEFAULT_TOP));
+        return result;
+    }
+}
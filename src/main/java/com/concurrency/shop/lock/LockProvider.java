@@ -0,0 +1,24 @@
+package com.concurrency.shop.lock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @DistributedLock 뒤에서 실제로 락을 잡는 구현체
+ * - 빈 이름으로 선택 (어노테이션 provider 속성 → 없으면 shop.lock.provider)
+ * - 키 목록은 정렬/중복 제거된 상태로 전달되며, 구현체는 모두 잡거나 하나도 잡지 않아야 함
+ * - 같은 스레드의 중첩 호출(재진입)을 지원해야 함
+ */
+public interface LockProvider {
+
+    boolean tryLock(List<String> lockKeys, long waitTime, long leaseTime, TimeUnit timeUnit);
+
+    void unlock(List<String> lockKeys);
+
+    /**
+     * false면 JVM 내부 락이므로 DistributedLockAop의 로컬 스트라이프 단계를 건너뜀
+     */
+    default boolean isDistributed() {
+        return true;
+    }
+}
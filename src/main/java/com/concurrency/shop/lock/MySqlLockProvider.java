@@ -0,0 +1,188 @@
+package com.concurrency.shop.lock;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MySQL 네임드 락 (GET_LOCK / RELEASE_LOCK)
+ * - 네임드 락은 세션(커넥션)에 묶이므로 업무용 풀과 분리된 전용 커넥션 풀 사용 (락 대기가 업무 커넥션을 잡아먹지 않도록)
+ * - 스레드가 처음 락을 잡을 때 커넥션을 빌리고 마지막 락을 풀 때 반납 → 중첩 호출은 같은 세션에서 재진입
+ * - 점유 시간(leaseTime)은 적용되지 않음 (해제 또는 세션 종료 시까지 유지)
+ */
+@Slf4j
+@Component("mysqlLockProvider")
+public class MySqlLockProvider implements LockProvider {
+
+    private static final int MAX_LOCK_NAME_LENGTH = 64;
+
+    private final DataSource dataSource;
+    private final ThreadLocal<Session> sessions = new ThreadLocal<>();
+
+    @Autowired
+    public MySqlLockProvider(DataSourceProperties dataSourceProperties,
+                             @Value("${shop.lock.mysql.pool-size:10}") int poolSize) {
+        this(lockDataSource(dataSourceProperties, poolSize));
+    }
+
+    MySqlLockProvider(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    private static HikariDataSource lockDataSource(DataSourceProperties dataSourceProperties, int poolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("lock-pool");
+        config.setJdbcUrl(dataSourceProperties.determineUrl());
+        config.setUsername(dataSourceProperties.determineUsername());
+        config.setPassword(dataSourceProperties.determinePassword());
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(0);
+        config.setAutoCommit(true);
+        // 사용하지 않으면 커넥션을 만들지 않음
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    @Override
+    public boolean tryLock(List<String> lockKeys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        Session session = sessions.get();
+        List<String> acquired = new ArrayList<>(lockKeys.size());
+        try {
+            if (session == null) {
+                session = new Session(dataSource.getConnection());
+                sessions.set(session);
+            }
+
+            long deadline = System.nanoTime() + timeUnit.toNanos(waitTime);
+            for (String lockKey : lockKeys) {
+                double remainingSeconds = Math.max(0L, deadline - System.nanoTime()) / 1_000_000_000.0;
+                if (!session.lock(lockName(lockKey), remainingSeconds)) {
+                    log.warn("MySQL 네임드 락 획득 실패: {} (대기 시간 초과)", lockKey);
+                    for (String key : acquired) {
+                        session.release(lockName(key));
+                    }
+                    closeIfIdle(session);
+                    return false;
+                }
+                acquired.add(lockKey);
+            }
+            return true;
+        } catch (SQLException e) {
+            // 여러 키 중 일부만 잡은 상태로 실패하면 잡은 키를 풀어야 세션이 비어 커넥션이 반납됨 (안 풀면 풀 커넥션에 락이 남음)
+            if (session != null) {
+                for (String key : acquired) {
+                    session.release(lockName(key));
+                }
+                closeIfIdle(session);
+            }
+            throw new IllegalStateException("MySQL 네임드 락 획득 중 오류: " + lockKeys, e);
+        }
+    }
+
+    @Override
+    public void unlock(List<String> lockKeys) {
+        Session session = sessions.get();
+        if (session == null) {
+            log.warn("현재 스레드가 보유하지 않은 MySQL 네임드 락 해제 시도: {}", lockKeys);
+            return;
+        }
+        for (int i = lockKeys.size() - 1; i >= 0; i--) {
+            session.release(lockName(lockKeys.get(i)));
+        }
+        closeIfIdle(session);
+    }
+
+    @PreDestroy
+    void close() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            hikariDataSource.close();
+        }
+    }
+
+    private void closeIfIdle(Session session) {
+        if (!session.isIdle()) {
+            return;
+        }
+        sessions.remove();
+        try {
+            session.connection.close();
+        } catch (SQLException e) {
+            log.warn("MySQL 네임드 락 커넥션 반납 실패", e);
+        }
+    }
+
+    /**
+     * 네임드 락 이름은 최대 64자
+     */
+    private String lockName(String lockKey) {
+        return lockKey.length() <= MAX_LOCK_NAME_LENGTH
+            ? lockKey
+            : lockKey.substring(0, MAX_LOCK_NAME_LENGTH - 9) + "#" + Integer.toHexString(lockKey.hashCode());
+    }
+
+    /**
+     * 스레드가 빌린 커넥션과 이 세션에서 잡은 락별 재진입 횟수
+     */
+    private static final class Session {
+
+        private final Connection connection;
+        private final Map<String, Integer> holds = new HashMap<>();
+
+        private Session(Connection connection) {
+            this.connection = connection;
+        }
+
+        private boolean lock(String name, double timeoutSeconds) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+                statement.setString(1, name);
+                statement.setDouble(2, timeoutSeconds);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    if (resultSet.getInt(1) != 1) {
+                        return false;
+                    }
+                }
+            }
+            holds.merge(name, 1, Integer::sum);
+            return true;
+        }
+
+        private void release(String name) {
+            Integer held = holds.get(name);
+            if (held == null) {
+                return;
+            }
+            try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                statement.setString(1, name);
+                statement.executeQuery().close();
+            } catch (SQLException e) {
+                log.warn("MySQL 네임드 락 해제 실패: {}", name, e);
+            }
+            if (held == 1) {
+                holds.remove(name);
+            } else {
+                holds.put(name, held - 1);
+            }
+        }
+
+        private boolean isIdle() {
+            return holds.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.concurrency.shop.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌 재시도 실행기
+ * - 지수 백오프 + Full Jitter로 재시도 시점을 분산
+ * - 최대 시도 횟수와 재시도 예산(RetryBudget)을 넘으면 포기
+ * - 재시도/포기 횟수를 Micrometer 카운터로 노출 (shop.optimistic.retries, shop.optimistic.give-ups)
+ *
+ * 재시도마다 새 트랜잭션이 필요하므로 트랜잭션 밖에서 호출해야 함
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget retryBudget;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+
+    public OptimisticLockRetryExecutor(MeterRegistry meterRegistry,
+                                       @Value("${shop.optimistic.max-attempts:5}") int maxAttempts,
+                                       @Value("${shop.optimistic.base-backoff-ms:10}") long baseBackoffMillis,
+                                       @Value("${shop.optimistic.max-backoff-ms:200}") long maxBackoffMillis,
+                                       @Value("${shop.optimistic.retry-budget-ratio:0.2}") double retryBudgetRatio,
+                                       @Value("${shop.optimistic.retry-budget-max-tokens:100}") int retryBudgetMaxTokens) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.retryBudget = new RetryBudget(retryBudgetRatio, retryBudgetMaxTokens);
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // 바깥 트랜잭션이 있으면 같은 영속성 컨텍스트를 재사용하게 되므로 재시도하지 않음
+            return action.get();
+        }
+
+        retryBudget.recordRequest();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (!isOptimisticLockFailure(e)) {
+                    throw e;
+                }
+
+                if (attempt >= maxAttempts) {
+                    throw giveUp(operation, "max-attempts", attempt, e);
+                }
+                if (!retryBudget.tryAcquireRetry()) {
+                    throw giveUp(operation, "retry-budget", attempt, e);
+                }
+
+                long backoffMillis = backoffMillis(attempt);
+                meterRegistry.counter("shop.optimistic.retries", "operation", operation).increment();
+                log.info("낙관적 락 충돌 - 재시도 대기 (작업: {}, 시도: {}/{}, 대기: {}ms)",
+                    operation, attempt, maxAttempts, backoffMillis);
+
+                sleep(backoffMillis);
+            }
+        }
+    }
+
+    public void executeWithoutResult(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Full Jitter: [0, min(max, base * 2^(attempt-1))] 구간에서 무작위 대기
+     */
+    long backoffMillis(int attempt) {
+        long exponential = baseBackoffMillis << Math.min(attempt - 1, 20);
+        long cap = Math.min(maxBackoffMillis, exponential);
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private IllegalStateException giveUp(String operation, String reason, int attempt, RuntimeException cause) {
+        meterRegistry.counter("shop.optimistic.give-ups", "operation", operation, "reason", reason).increment();
+        log.warn("낙관적 락 재시도 포기 - 작업: {}, 사유: {}, 시도: {}", operation, reason, attempt);
+
+        return new IllegalStateException(
+            String.format("동시 수정 충돌로 처리하지 못했습니다: %s (시도 %d회, 사유: %s)", operation, attempt, reason),
+            cause
+        );
+    }
+
+    private boolean isOptimisticLockFailure(Throwable e) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            if (current instanceof OptimisticLockingFailureException || current instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트 발생", e);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -48,6 +49,39 @@ public class RedisLockService {
         }
     }
 
+    /**
+     * 여러 락을 한 번에 획득 시도 (RedissonMultiLock)
+     * 하나라도 실패하면 이미 잡은 락을 풀고 대기 시간 안에서 다시 시도 → 일부만 보유한 채 대기하지 않음
+     */
+    public boolean tryLockAll(List<String> lockKeys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        RLock[] locks = lockKeys.stream()
+            .map(redissonClient::getLock)
+            .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+        try {
+            boolean isLocked = multiLock.tryLock(waitTime, leaseTime, timeUnit);
+            if (isLocked) {
+                log.debug("다중 락 획득 성공: {}", lockKeys);
+            } else {
+                log.warn("다중 락 획득 실패: {} (대기 시간 초과)", lockKeys);
+            }
+            return isLocked;
+        } catch (InterruptedException e) {
+            log.error("다중 락 획득 중 인터럽트 발생: {}", lockKeys, e);
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 여러 락 해제 (점유 시간이 만료된 락은 건너뜀)
+     */
+    public void unlockAll(List<String> lockKeys) {
+        for (String lockKey : lockKeys) {
+            unlock(lockKey);
+        }
+    }
+
     /**
      * 락이 현재 스레드에 의해 보유되고 있는지 확인
      */
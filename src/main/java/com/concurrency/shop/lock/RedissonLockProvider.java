@@ -0,0 +1,29 @@
+package com.concurrency.shop.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redisson 락 (기본값) - 단일 키는 RLock, 여러 키는 RedissonMultiLock
+ */
+@Component("redisLockProvider")
+@RequiredArgsConstructor
+public class RedissonLockProvider implements LockProvider {
+
+    private final RedisLockService redisLockService;
+
+    @Override
+    public boolean tryLock(List<String> lockKeys, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        return lockKeys.size() == 1
+            ? redisLockService.tryLock(lockKeys.get(0), waitTime, leaseTime, timeUnit)
+            : redisLockService.tryLockAll(lockKeys, waitTime, leaseTime, timeUnit);
+    }
+
+    @Override
+    public void unlock(List<String> lockKeys) {
+        redisLockService.unlockAll(lockKeys);
+    }
+}
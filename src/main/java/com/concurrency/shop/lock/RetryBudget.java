@@ -0,0 +1,43 @@
+package com.concurrency.shop.lock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산 (Token Bucket)
+ * - 최초 시도마다 ratio 만큼 토큰을 적립하고, 재시도마다 토큰 1개를 소모
+ * - 충돌이 폭증해도 재시도 트래픽이 전체 요청의 ratio 비율을 넘지 않도록 제한
+ */
+public class RetryBudget {
+
+    private static final long TOKEN_SCALE = 1_000L;
+
+    private final long depositPerRequest;
+    private final long maxTokens;
+    private final AtomicLong tokens;
+
+    public RetryBudget(double ratio, int maxTokens) {
+        this.depositPerRequest = Math.round(ratio * TOKEN_SCALE);
+        this.maxTokens = maxTokens * TOKEN_SCALE;
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+
+    public void recordRequest() {
+        tokens.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxTokens, current + deposit));
+    }
+
+    public boolean tryAcquireRetry() {
+        while (true) {
+            long current = tokens.get();
+            if (current < TOKEN_SCALE) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - TOKEN_SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    public double getAvailableRetries() {
+        return (double) tokens.get() / TOKEN_SCALE;
+    }
+}
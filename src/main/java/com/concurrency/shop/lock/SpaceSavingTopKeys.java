@@ -0,0 +1,86 @@
+package com.concurrency.shop.lock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 가중치 Space-Saving 알고리즘으로 상위 N개 키를 고정 메모리로 추적
+ * - 최대 capacity개 키만 유지, 가득 차면 가장 작은 카운터를 새 키가 물려받음 (물려받은 값은 error로 기록)
+ * - 실제 누적값이 전체 합 / capacity보다 큰 키는 반드시 남아 있고, 보고된 값은 실제보다 최대 error만큼 클 수 있음
+ * - synchronized 대신 ReentrantLock: 가상 스레드가 모니터 경합으로 캐리어 스레드를 고정(pinning)하지 않도록 함
+ */
+public class SpaceSavingTopKeys {
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SpaceSavingTopKeys(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("상위 키 추적 개수는 1 이상이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public void add(String key, long weight) {
+        lock.lock();
+        try {
+            Counter counter = counters.get(key);
+            if (counter != null) {
+                counter.count += weight;
+                return;
+            }
+
+            if (counters.size() < capacity) {
+                counters.put(key, new Counter(weight, 0));
+                return;
+            }
+
+            Map.Entry<String, Counter> min = counters.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().count))
+                .orElseThrow();
+            counters.remove(min.getKey());
+            long evictedCount = min.getValue().count;
+            counters.put(key, new Counter(evictedCount + weight, evictedCount));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 누적값 내림차순 상위 limit개
+     */
+    public List<Entry> top(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다: " + limit);
+        }
+
+        List<Entry> entries;
+        lock.lock();
+        try {
+            entries = new ArrayList<>(counters.size());
+            counters.forEach((key, counter) -> entries.add(new Entry(key, counter.count, counter.error)));
+        } finally {
+            lock.unlock();
+        }
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+        return entries.subList(0, Math.min(limit, entries.size()));
+    }
+
+    public record Entry(String key, long count, long error) {
+    }
+
+    private static final class Counter {
+        private long count;
+        private final long error;
+
+        private Counter(long count, long error) {
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.concurrency.shop.service;
+
+import com.concurrency.shop.domain.point.PointHistoryRepository;
+import com.concurrency.shop.dto.PointHistoryCursor;
+import com.concurrency.shop.dto.PointHistoryPageResponse;
+import com.concurrency.shop.dto.PointHistoryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 포인트 이력 조회 서비스 - (createdAt, id) Keyset 페이지네이션
+ * - 페이지 크기 + 1건을 조회해 다음 페이지 존재 여부 판단 (크기는 최대 MAX_PAGE_SIZE로 제한)
+ * - 내보내기: 페이지 단위로 짧게 조회하며 한 건씩 전달 (전체 이력을 메모리에 올리지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class PointHistoryQueryService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private final PointHistoryRepository pointHistoryRepository;
+
+    @Transactional(readOnly = true)
+    public PointHistoryPageResponse getPage(Long userId, int requestedSize, String cursor) {
+        if (requestedSize < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + requestedSize);
+        }
+        int size = Math.min(requestedSize, MAX_PAGE_SIZE);
+
+        List<PointHistoryResponse> histories = fetch(userId, cursor != null ? PointHistoryCursor.decode(cursor) : null, size + 1);
+        if (histories.size() <= size) {
+            return new PointHistoryPageResponse(histories, null);
+        }
+
+        List<PointHistoryResponse> page = histories.subList(0, size);
+        return new PointHistoryPageResponse(page, PointHistoryCursor.from(page.get(size - 1)).encode());
+    }
+
+    /**
+     * 사용자의 전체 이력을 최신순으로 한 건씩 전달
+     */
+    public void export(Long userId, Consumer<PointHistoryResponse> consumer) {
+        PointHistoryCursor cursor = null;
+        while (true) {
+            List<PointHistoryResponse> histories = fetch(userId, cursor, EXPORT_PAGE_SIZE);
+            histories.forEach(consumer);
+            if (histories.size() < EXPORT_PAGE_SIZE) {
+                return;
+            }
+            cursor = PointHistoryCursor.from(histories.get(histories.size() - 1));
+        }
+    }
+
+    private List<PointHistoryResponse> fetch(Long userId, PointHistoryCursor cursor, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return pointHistoryRepository.findPageByUserId(userId, page);
+        }
+        return pointHistoryRepository.findPageByUserIdAfter(userId, cursor.createdAt(), cursor.id(), page);
+    }
+}
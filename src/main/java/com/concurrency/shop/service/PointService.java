@@ -0,0 +1,35 @@
+package com.concurrency.shop.service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 포인트 서비스 공통 인터페이스
+ * - V1: 동시성 처리 없음 (잔액 부정합 재현용)
+ * - V2: 사용자별 Redis 분산 락 + users.point_balance 갱신
+ * - Ledger: 추가 전용 원장 + 주기적 잔액 스냅샷 (적립/환불은 락 없이 추가)
+ */
+public interface PointService {
+
+    void usePoints(Long userId, Long points, Long orderId);
+
+    void earnPoints(Long userId, Long points, Long orderId);
+
+    void refundPoints(Long userId, Long points, Long orderId);
+
+    /**
+     * 주문 취소 시 적립했던 포인트 회수 (잔액이 부족하면 실패)
+     */
+    void revokeEarnedPoints(Long userId, Long points, Long orderId);
+
+    Long getBalance(Long userId);
+
+    /**
+     * 주문별 적립을 사용자 단위로 묶어 한 번에 반영 (같은 주문의 적립은 한 번만 반영)
+     * @return 반영된(이미 반영되어 있던 것 포함) 주문 ID - 빠진 주문은 호출자가 나중에 다시 시도
+     */
+    Set<Long> earnPointsBatch(List<Earning> earnings);
+
+    record Earning(Long userId, Long orderId, Long points) {
+    }
+}
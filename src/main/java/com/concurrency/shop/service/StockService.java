@@ -0,0 +1,32 @@
+package com.concurrency.shop.service;
+
+import com.concurrency.shop.domain.product.Product;
+
+import java.util.Map;
+
+/**
+ * 재고 차감/복구 추상화 - 주문 서비스가 재고 처리 방식(V1, V2, V3, V4)을 바꿔 끼울 수 있도록 함
+ * - 빈 이름(stockServiceV1, stockServiceV2, ...)으로 구현 선택
+ */
+public interface StockService {
+
+    void decreaseStock(Long productId, Integer quantity);
+
+    void increaseStock(Long productId, Integer quantity);
+
+    /**
+     * 여러 상품 재고 일괄 차감 - 하나라도 실패하면 전체 실패
+     *
+     * @param quantities 상품 ID별 차감 수량 (중복 상품은 미리 합산)
+     * @return 상품 ID별 상품
+     */
+    Map<Long, Product> decreaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * 재고를 MySQL 밖(Redis, 메모리)에서 관리하는지 여부
+     * true면 products.stock_quantity를 직접 바꾸는 다른 경로가 같은 상품을 차감할 때 재고가 어긋나므로 그런 경로는 함께 쓰지 않음
+     */
+    default boolean isStockCached() {
+        return false;
+    }
+}
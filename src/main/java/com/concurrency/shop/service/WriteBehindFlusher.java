@@ -0,0 +1,78 @@
+package com.concurrency.shop.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis에서 확정된 카운터 변경분을 MySQL에 비동기로 반영 (Write-Behind)
+ * - 커밋된 변경분을 ID별로 합산해 두었다가 하위 클래스의 주기(@Scheduled)마다 배치 반영
+ * - 반영 실패 시 변경분을 다시 적재하여 다음 주기에 재시도
+ */
+@Slf4j
+public abstract class WriteBehindFlusher {
+
+    private final ConcurrentHashMap<Long, Long> pendingDeltas = new ConcurrentHashMap<>();
+    private final String logPrefix;
+    private final String target;
+
+    /**
+     * @param logPrefix 로그 접두사 + 변경분 이름 (예: "[V3] 재고 변경분")
+     * @param target    ID 대상 이름 (예: "상품")
+     */
+    protected WriteBehindFlusher(String logPrefix, String target) {
+        this.logPrefix = logPrefix;
+        this.target = target;
+    }
+
+    public void add(Long id, long delta) {
+        pendingDeltas.merge(id, delta, Long::sum);
+    }
+
+    /**
+     * 아직 MySQL에 반영되지 않은 변경분 (Redis 재적재 시 보정용)
+     */
+    public long pendingDelta(Long id) {
+        return pendingDeltas.getOrDefault(id, 0L);
+    }
+
+    public void flush() {
+        Map<Long, Long> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            apply(batch);
+            log.debug("{} 반영 완료 - {} 수: {}", logPrefix, target, batch.size());
+        } catch (RuntimeException e) {
+            log.error("{} 반영 실패 - 다음 주기에 재시도 ({} 수: {})", logPrefix, target, batch.size(), e);
+            batch.forEach(this::add);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("{} 종료 전 남은 변경분 반영", logPrefix);
+        flush();
+    }
+
+    /**
+     * ID별 변경분을 MySQL에 한 번에 반영 (실패하면 예외 → 변경분 재적재)
+     */
+    protected abstract void apply(Map<Long, Long> deltasById);
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> batch = new HashMap<>();
+        for (Long id : pendingDeltas.keySet()) {
+            Long delta = pendingDeltas.remove(id);
+            if (delta != null && delta != 0L) {
+                batch.put(id, delta);
+            }
+        }
+        return batch;
+    }
+}
@@ -23,7 +23,7 @@ import java.util.List;
  * 문제점: 여러 동시성 이슈 발생
  * 1. 재고 관리 동시성 문제 (StockServiceV1)
  * 2. 포인트 관리 동시성 문제 (PointServiceV1)
- * 3. 쿠폰 사용 횟수 동시성 문제
+ * 3. 쿠폰 사용 횟수 동시성 문제 - Coupon의 @Version을 거치지 않도록 덮어쓰기 UPDATE 사용 (StockServiceV1 참고)
  */
 @Slf4j
 @Service
@@ -69,12 +69,19 @@ public class OrderServiceV1 {
             log.info("[V1] 쿠폰 사용 - 쿠폰 ID: {}, 현재 사용 횟수: {}/{}",
                 coupon.getId(), coupon.getUsedCount(), coupon.getTotalAvailableCount());
 
-            // 쿠폰 사용 - Race Condition 발생 가능
-            coupon.use();
+            if (!coupon.isAvailable()) {
+                throw new IllegalStateException(
+                    String.format("쿠폰 사용 가능 횟수를 초과했습니다. 쿠폰명: %s, 최대: %d, 현재: %d",
+                        coupon.getName(), coupon.getTotalAvailableCount(), coupon.getUsedCount())
+                );
+            }
+
+            // 쿠폰 사용 - Race Condition 발생 가능 (읽은 사용 횟수 + 1로 덮어씀, 버전 검증 없음)
+            couponRepository.overwriteUsedCount(coupon.getId(), coupon.getUsedCount() + 1);
             discountAmount = coupon.calculateDiscount(order.getTotalAmount());
 
             log.info("[V1] 쿠폰 적용 완료 - 할인 금액: {}, 사용 후 횟수: {}",
-                discountAmount, coupon.getUsedCount());
+                discountAmount, coupon.getUsedCount() + 1);
         }
 
         // 5. 포인트 차감
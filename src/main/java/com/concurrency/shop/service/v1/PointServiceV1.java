@@ -5,11 +5,16 @@ import com.concurrency.shop.domain.point.PointHistoryRepository;
 import com.concurrency.shop.domain.point.PointType;
 import com.concurrency.shop.domain.user.User;
 import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.service.PointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * V1: 동시성 처리 없는 포인트 관리 서비스
  * 문제점: 동시 차감 시 잔액 부정합
@@ -18,11 +23,12 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class PointServiceV1 {
+public class PointServiceV1 implements PointService {
 
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
 
+    @Override
     @Transactional
     public void usePoints(Long userId, Long points, Long orderId) {
         log.info("[V1] 포인트 사용 시작 - 사용자 ID: {}, 사용 포인트: {}", userId, points);
@@ -43,6 +49,7 @@ public class PointServiceV1 {
         log.info("[V1] 포인트 사용 완료 - 남은 포인트: {}", user.getPointBalance());
     }
 
+    @Override
     @Transactional
     public void earnPoints(Long userId, Long points, Long orderId) {
         log.info("[V1] 포인트 적립 시작 - 사용자 ID: {}, 적립 포인트: {}", userId, points);
@@ -59,6 +66,7 @@ public class PointServiceV1 {
         log.info("[V1] 포인트 적립 완료 - 적립 후 포인트: {}", user.getPointBalance());
     }
 
+    @Override
     @Transactional
     public void refundPoints(Long userId, Long points, Long orderId) {
         log.info("[V1] 포인트 환불 시작 - 사용자 ID: {}, 환불 포인트: {}", userId, points);
@@ -74,4 +82,43 @@ public class PointServiceV1 {
 
         log.info("[V1] 포인트 환불 완료 - 환불 후 포인트: {}", user.getPointBalance());
     }
+
+    @Override
+    @Transactional
+    public void revokeEarnedPoints(Long userId, Long points, Long orderId) {
+        log.info("[V1] 적립 포인트 회수 시작 - 사용자 ID: {}, 회수 포인트: {}", userId, points);
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+
+        user.usePoints(points);
+
+        // 포인트 회수 이력 저장
+        PointHistory history = new PointHistory(user, PointType.REVOKE, points, user.getPointBalance(), orderId);
+        pointHistoryRepository.save(history);
+
+        log.info("[V1] 적립 포인트 회수 완료 - 회수 후 포인트: {}", user.getPointBalance());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long getBalance(Long userId) {
+        return userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId))
+            .getPointBalance();
+    }
+
+    /**
+     * 적립을 한 건씩 그대로 반영 (중복 주문 검사 없음)
+     */
+    @Override
+    @Transactional
+    public Set<Long> earnPointsBatch(List<Earning> earnings) {
+        Set<Long> applied = new HashSet<>();
+        for (Earning earning : earnings) {
+            earnPoints(earning.userId(), earning.points(), earning.orderId());
+            applied.add(earning.orderId());
+        }
+        return applied;
+    }
 }
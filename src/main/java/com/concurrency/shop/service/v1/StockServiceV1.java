@@ -2,23 +2,31 @@ package com.concurrency.shop.service.v1;
 
 import com.concurrency.shop.domain.product.Product;
 import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.service.StockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * V1: 동시성 처리 없는 재고 관리 서비스
  * 문제점: Race Condition 발생
  * - 여러 요청이 동시에 같은 상품의 재고를 읽고 차감하면 실제 재고보다 많이 판매됨
+ * 참고: Product에 @Version이 추가된 뒤로 변경 감지 대신 버전 검증/증가 없는 덮어쓰기 UPDATE를 사용
+ * - 변경 감지로 두면 Lost Update 대신 낙관적 락 예외가 나서 V1의 문제를 재현하지 못함
+ * - version을 올리지 않으므로 같은 상품에 낙관적 락 경로(StockServiceV2)와 섞어 쓰면 V1의 변경이 충돌로 감지되지 않음
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class StockServiceV1 {
+public class StockServiceV1 implements StockService {
 
     private final ProductRepository productRepository;
 
+    @Override
     @Transactional
     public void decreaseStock(Long productId, Integer quantity) {
         log.info("[V1] 재고 차감 시작 - 상품 ID: {}, 수량: {}", productId, quantity);
@@ -29,12 +37,22 @@ public class StockServiceV1 {
 
         log.info("[V1] 현재 재고: {}", product.getStockQuantity());
 
-        // Race Condition 발생 지점: 여러 트랜잭션이 동시에 같은 재고를 읽음
-        product.decreaseStock(quantity);
+        int currentStock = product.getStockQuantity();
+        if (currentStock < quantity) {
+            throw new IllegalStateException(
+                String.format("재고가 부족합니다. 상품명: %s, 현재 재고: %d, 요청 수량: %d",
+                    product.getName(), currentStock, quantity)
+            );
+        }
+
+        // Race Condition 발생 지점: 여러 트랜잭션이 동시에 같은 재고를 읽고 계산한 값으로 덮어씀
+        // (엔티티 변경 감지는 @Version으로 충돌을 감지하므로 버전 검증 없는 UPDATE 사용)
+        productRepository.overwriteStockQuantity(productId, currentStock - quantity);
 
-        log.info("[V1] 재고 차감 완료 - 남은 재고: {}", product.getStockQuantity());
+        log.info("[V1] 재고 차감 완료 - 남은 재고: {}", currentStock - quantity);
     }
 
+    @Override
     @Transactional
     public void increaseStock(Long productId, Integer quantity) {
         log.info("[V1] 재고 복구 시작 - 상품 ID: {}, 수량: {}", productId, quantity);
@@ -42,8 +60,20 @@ public class StockServiceV1 {
         Product product = productRepository.findById(productId)
             .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
 
-        product.increaseStock(quantity);
+        productRepository.overwriteStockQuantity(productId, product.getStockQuantity() + quantity);
 
-        log.info("[V1] 재고 복구 완료 - 복구 후 재고: {}", product.getStockQuantity());
+        log.info("[V1] 재고 복구 완료 - 복구 후 재고: {}", product.getStockQuantity() + quantity);
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, Product> decreaseStocks(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            decreaseStock(productId, quantity);
+            products.put(productId, productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId)));
+        });
+        return products;
     }
 }
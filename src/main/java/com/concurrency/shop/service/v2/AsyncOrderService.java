@@ -0,0 +1,161 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.order.Order;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.lock.LockContext;
+import com.concurrency.shop.lock.LockMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * V2 비동기 주문 서비스
+ * - 락 대기는 RLock.tryLockAsync로 처리 → 대기 중에는 어떤 스레드도 점유하지 않음 (Tomcat 워커 고갈 방지)
+ * - 락을 잡은 뒤 DB 작업만 크기가 제한된 전용 실행기에서 수행, 가득 차면 즉시 503
+ * - 락 소유자는 실제 스레드 대신 요청별 소유자 ID(음수)로 지정 → 어느 스레드에서 완료되든 같은 ID로 unlockAsync
+ * - 워커 스레드에는 LockContext로 보유 키를 알려 OrderServiceV2의 @DistributedLock(중첩 포함)이 다시 기다리지 않게 함
+ * - 기본 락 구현체(shop.lock.provider)가 Redis가 아니면 Redis 락을 먼저 잡지 않고 실행기에서 바로 주문
+ *   → @DistributedLock이 설정된 구현체로 락을 잡음 (다른 주문 API와 같은 락을 쓰도록, 대기는 실행기 스레드가 함)
+ */
+@Slf4j
+@Service
+public class AsyncOrderService {
+
+    private static final String REDIS_LOCK_PROVIDER = "redisLockProvider";
+
+    private final RedissonClient redissonClient;
+    private final OrderServiceV2 orderServiceV2;
+    private final LockMetrics lockMetrics;
+    private final ThreadPoolExecutor executor;
+    private final long lockWaitMillis;
+    private final long lockLeaseMillis;
+    private final boolean redisLockProvider;
+    private final AtomicLong ownerIds = new AtomicLong();
+
+    public AsyncOrderService(RedissonClient redissonClient,
+                             OrderServiceV2 orderServiceV2,
+                             LockMetrics lockMetrics,
+                             @Value("${shop.order.async.pool-size:16}") int poolSize,
+                             @Value("${shop.order.async.queue-capacity:200}") int queueCapacity,
+                             @Value("${shop.order.async.lock-wait-ms:10000}") long lockWaitMillis,
+                             @Value("${shop.order.async.lock-lease-ms:10000}") long lockLeaseMillis,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                             @Value("${shop.lock.provider:redisLockProvider}") String lockProviderName) {
+        this.redissonClient = redissonClient;
+        this.orderServiceV2 = orderServiceV2;
+        this.lockMetrics = lockMetrics;
+        this.lockWaitMillis = lockWaitMillis;
+        this.lockLeaseMillis = lockLeaseMillis;
+        this.redisLockProvider = REDIS_LOCK_PROVIDER.equals(lockProviderName);
+        if (!redisLockProvider) {
+            log.warn("[V2-Async] 기본 락 구현체가 Redis가 아님 ({}) - 락 대기를 실행기 스레드에서 처리", lockProviderName);
+        }
+
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory(virtualThreads),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 가상 스레드 모드면 실행기 스레드도 가상 스레드 (pool-size는 그대로 DB 작업 동시 실행 상한)
+     */
+    private static ThreadFactory threadFactory(boolean virtualThreads) {
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            return new VirtualThreadTaskExecutor("order-async-").getVirtualThreadFactory();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-async-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public long getLockWaitMillis() {
+        return lockWaitMillis;
+    }
+
+    public CompletableFuture<Order> createOrder(OrderRequest request) {
+        if (!redisLockProvider) {
+            return submit(List.of(), request);
+        }
+
+        List<String> lockKeys = List.copyOf(new TreeSet<>(request.lockKeys()));
+        long ownerId = -ownerIds.incrementAndGet();
+        RLock lock = lockKeys.size() == 1
+            ? redissonClient.getLock(lockKeys.get(0))
+            : redissonClient.getMultiLock(lockKeys.stream().map(redissonClient::getLock).toArray(RLock[]::new));
+
+        log.info("[V2-Async] 주문 락 비동기 획득 시도 - 사용자 ID: {}, Key: {}", request.getUserId(), lockKeys);
+        long startedAt = System.nanoTime();
+
+        return lock.tryLockAsync(lockWaitMillis, lockLeaseMillis, TimeUnit.MILLISECONDS, ownerId)
+            .toCompletableFuture()
+            .thenCompose(locked -> {
+                long acquiredAt = System.nanoTime();
+                if (!locked) {
+                    lockMetrics.recordWait(lockKeys, LockMetrics.OUTCOME_TIMEOUT, acquiredAt - startedAt);
+                    return CompletableFuture.failedFuture(new IllegalStateException(
+                        String.format("락 획득 실패: %s (다른 요청이 처리 중입니다)", lockKeys)));
+                }
+                lockMetrics.recordWait(lockKeys, LockMetrics.OUTCOME_ACQUIRED, acquiredAt - startedAt);
+
+                // 해제가 끝난 뒤 결과를 넘겨 다음 요청이 곧바로 락을 잡을 수 있게 함
+                return submit(lockKeys, request)
+                    .handle((order, e) -> lock.unlockAsync(ownerId).toCompletableFuture()
+                        .exceptionally(unlockError -> {
+                            log.warn("[V2-Async] 주문 락 해제 실패 - Key: {}", lockKeys, unlockError);
+                            return null;
+                        })
+                        .thenCompose(ignored -> {
+                            lockMetrics.recordHold(lockKeys, System.nanoTime() - acquiredAt);
+                            return e != null
+                                ? CompletableFuture.<Order>failedFuture(e)
+                                : CompletableFuture.completedFuture(order);
+                        }))
+                    .thenCompose(Function.identity());
+            });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * @param lockKeys 호출자가 이미 잡아 둔 키 (비어 있으면 OrderServiceV2의 @DistributedLock이 직접 획득)
+     */
+    private CompletableFuture<Order> submit(List<String> lockKeys, OrderRequest request) {
+        try {
+            return CompletableFuture.supplyAsync(
+                () -> LockContext.callHolding(lockKeys, () -> orderServiceV2.createOrder(request)),
+                executor
+            );
+        } catch (RejectedExecutionException e) {
+            log.warn("[V2-Async] 주문 실행기 포화 - 사용자 ID: {}", request.getUserId());
+            return CompletableFuture.failedFuture(
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "주문 처리 대기열이 가득 찼습니다"));
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.point.PointType;
+import com.concurrency.shop.lock.LockContext;
+import com.concurrency.shop.lock.RedisLockService;
+import com.concurrency.shop.service.PointService;
+import com.concurrency.shop.service.v2.PointServiceV2.BatchOperation;
+import com.concurrency.shop.service.v2.PointServiceV2.BatchResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * V2 포인트 작업 결합(Flat Combining) 서비스
+ * - 같은 사용자의 작업을 사용자별 대기열에 넣고, 결합자 역할을 먼저 차지한 스레드가 대기열을 비우며
+ *   사용자 포인트 락 1회 + 트랜잭션 1회(PointServiceV2.applyBatch)로 한꺼번에 반영
+ * - 나머지 스레드는 자기 작업의 결과만 기다림 (잔액 부족 작업만 개별 거절)
+ * - 트랜잭션 밖에서 호출되는 포인트 API(PointControllerV2의 사용/적립)가 결합 대상
+ * - 결합 반영은 별도 트랜잭션으로 커밋되므로, 호출자 트랜잭션이 있거나 호출자가 이미 사용자 포인트 락을 보유하면
+ *   (주문 V2 등) 결합하지 않고 PointServiceV2로 건별 처리 - 보유 여부는 LockContext로 확인 (Redis 왕복 없음)
+ */
+@Slf4j
+@Service
+public class CombiningPointService implements PointService {
+
+    private static final String LOCK_KEY_PREFIX = "user:point:";
+    private static final long AWAIT_INTERVAL_MILLIS = 1L;
+
+    private final PointServiceV2 pointServiceV2;
+    private final RedisLockService redisLockService;
+    private final MeterRegistry meterRegistry;
+    private final int maxBatchSize;
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    public CombiningPointService(PointServiceV2 pointServiceV2,
+                                 RedisLockService redisLockService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${shop.point.combining.max-batch-size:100}") int maxBatchSize) {
+        this.pointServiceV2 = pointServiceV2;
+        this.redisLockService = redisLockService;
+        this.meterRegistry = meterRegistry;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public void usePoints(Long userId, Long points, Long orderId) {
+        execute(userId, new BatchOperation(PointType.USE, points, orderId));
+    }
+
+    @Override
+    public void earnPoints(Long userId, Long points, Long orderId) {
+        execute(userId, new BatchOperation(PointType.EARN, points, orderId));
+    }
+
+    @Override
+    public void refundPoints(Long userId, Long points, Long orderId) {
+        execute(userId, new BatchOperation(PointType.REFUND, points, orderId));
+    }
+
+    @Override
+    public void revokeEarnedPoints(Long userId, Long points, Long orderId) {
+        execute(userId, new BatchOperation(PointType.REVOKE, points, orderId));
+    }
+
+    @Override
+    public Long getBalance(Long userId) {
+        return pointServiceV2.getBalance(userId);
+    }
+
+    @Override
+    public Set<Long> earnPointsBatch(List<Earning> earnings) {
+        return pointServiceV2.earnPointsBatch(earnings);
+    }
+
+    private void execute(Long userId, BatchOperation operation) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            || LockContext.holdsAll(List.of(LOCK_KEY_PREFIX + userId))) {
+            executeDirectly(userId, operation);
+            return;
+        }
+
+        Pending pending = new Pending(operation);
+        Slot slot = slots.computeIfAbsent(userId, id -> new Slot());
+        slot.queue.add(pending);
+
+        while (!pending.result.isDone()) {
+            if (slot.combining.compareAndSet(false, true)) {
+                try {
+                    combine(userId, slot);
+                } finally {
+                    slot.combining.set(false);
+                }
+            } else {
+                // 결합자가 반영하는 동안 대기 (결합자가 내 작업 전에 빠지면 다음 반복에서 직접 결합자가 됨)
+                awaitQuietly(pending.result);
+            }
+        }
+        if (slot.queue.isEmpty()) {
+            slots.remove(userId, slot);
+        }
+
+        BatchResult result;
+        try {
+            result = pending.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        if (result.rejection() != null) {
+            throw result.rejection();
+        }
+    }
+
+    private void combine(Long userId, Slot slot) {
+        List<Pending> batch = new ArrayList<>();
+        Pending next;
+        while (batch.size() < maxBatchSize && (next = slot.queue.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        String lockKey = LOCK_KEY_PREFIX + userId;
+        if (!redisLockService.tryLock(lockKey, 5, 3, TimeUnit.SECONDS)) {
+            IllegalStateException failure = new IllegalStateException(
+                String.format("락 획득 실패: %s (다른 요청이 처리 중입니다)", lockKey));
+            batch.forEach(pending -> pending.result.completeExceptionally(failure));
+            return;
+        }
+
+        try {
+            // 트랜잭션이 커밋된 뒤 락 해제
+            List<BatchResult> results = pointServiceV2.applyBatch(
+                userId, batch.stream().map(Pending::operation).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result.complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+        } finally {
+            redisLockService.unlock(lockKey);
+        }
+
+        meterRegistry.summary("shop.point.combining.batch-size").record(batch.size());
+        log.info("[V2-Combining] 포인트 작업 결합 반영 - 사용자 ID: {}, 건수: {}", userId, batch.size());
+    }
+
+    private void executeDirectly(Long userId, BatchOperation operation) {
+        switch (operation.type()) {
+            case USE -> pointServiceV2.usePoints(userId, operation.points(), operation.orderId());
+            case EARN -> pointServiceV2.earnPoints(userId, operation.points(), operation.orderId());
+            case REFUND -> pointServiceV2.refundPoints(userId, operation.points(), operation.orderId());
+            case REVOKE -> pointServiceV2.revokeEarnedPoints(userId, operation.points(), operation.orderId());
+        }
+    }
+
+    private void awaitQuietly(CompletableFuture<BatchResult> result) {
+        try {
+            result.get(AWAIT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 완료 여부는 호출자가 다시 확인
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 작업 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    private record Pending(BatchOperation operation, CompletableFuture<BatchResult> result) {
+        private Pending(BatchOperation operation) {
+            this(operation, new CompletableFuture<>());
+        }
+    }
+
+    private static final class Slot {
+        private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean combining = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,9 @@
+package com.concurrency.shop.service.v2;
+
+/**
+ * V2 주문 동시성 제어 방식
+ */
+public enum ConcurrencyMode {
+    PESSIMISTIC,    // 비관적 락 (SELECT ... FOR UPDATE)
+    OPTIMISTIC      // 낙관적 락 (@Version) + 재시도
+}
@@ -0,0 +1,186 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.coupon.Coupon;
+import com.concurrency.shop.domain.coupon.CouponRepository;
+import com.concurrency.shop.service.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * V2: Redis 선착순 쿠폰 차감 서비스 (shop.coupon.redis-claim.enabled=true 일 때 주문에 적용)
+ * 해결 방법: 쿠폰 사용 횟수/최대 횟수를 Redis Hash에 두고 Lua 스크립트로 상한 검사 + 증가를 한 번에 처리
+ * - coupons 행 락 없이 차감 → 한정수량 쿠폰 주문이 한 행에 줄 서지 않음
+ * - 소진된 쿠폰은 Redis에서 바로 거절 (MySQL 조회 없음)
+ * - 트랜잭션 커밋 후 변경분을 CouponUsageWriteBehindFlusher가 MySQL에 배치 반영
+ * - 트랜잭션 롤백 시 Coupon.restore()와 같이 사용 횟수를 1 되돌림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponClaimService {
+
+    private static final String COUPON_KEY_PREFIX = "coupon:counter:";
+
+    private static final long RESULT_SOLD_OUT = -1L;
+    private static final long RESULT_NOT_LOADED = -2L;
+
+    /**
+     * KEYS[1]: 쿠폰 카운터 키 (Hash: total, used)
+     * 반환: 증가 후 사용 횟수 (-1: 소진, -2: 카운터 없음)
+     */
+    private static final String CLAIM_SCRIPT = """
+        local total = redis.call('HGET', KEYS[1], 'total')
+        if not total then
+            return -2
+        end
+        local used = tonumber(redis.call('HGET', KEYS[1], 'used'))
+        if used >= tonumber(total) then
+            return -1
+        end
+        return redis.call('HINCRBY', KEYS[1], 'used', 1)
+        """;
+
+    /**
+     * KEYS[1]: 쿠폰 카운터 키
+     * 반환: 감소 후 사용 횟수 (-1: 복구할 사용 내역 없음)
+     */
+    private static final String RELEASE_SCRIPT = """
+        local used = tonumber(redis.call('HGET', KEYS[1], 'used'))
+        if not used or used <= 0 then
+            return -1
+        end
+        return redis.call('HINCRBY', KEYS[1], 'used', -1)
+        """;
+
+    /**
+     * KEYS[1]: 쿠폰 카운터 키, ARGV[1]: 최대 사용 횟수, ARGV[2]: 사용 횟수
+     * 카운터가 없을 때만 적재 (다른 인스턴스가 먼저 적재했으면 유지)
+     */
+    private static final String LOAD_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return 0
+        end
+        redis.call('HSET', KEYS[1], 'total', ARGV[1], 'used', ARGV[2])
+        return 1
+        """;
+
+    private final RedissonClient redissonClient;
+    private final CouponRepository couponRepository;
+    private final CouponUsageWriteBehindFlusher couponUsageWriteBehindFlusher;
+
+    @Value("${shop.coupon.redis-claim.enabled:false}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 쿠폰 1회 사용 - 소진되었으면 예외
+     * 커밋되면 MySQL 반영 대기열에 추가, 롤백되면 Redis 사용 횟수 복구
+     */
+    public void claim(Long couponId) {
+        long used = execute(CLAIM_SCRIPT, couponId);
+        if (used == RESULT_NOT_LOADED) {
+            loadCounter(couponId);
+            used = execute(CLAIM_SCRIPT, couponId);
+        }
+
+        if (used == RESULT_SOLD_OUT) {
+            throw new IllegalStateException("쿠폰 사용 가능 횟수를 초과했습니다. 쿠폰 ID: " + couponId);
+        }
+        if (used < 0) {
+            throw new IllegalStateException("쿠폰 카운터를 적재할 수 없습니다: " + couponId);
+        }
+
+        TransactionCallbacks.afterCompletion(
+            () -> couponUsageWriteBehindFlusher.add(couponId, 1),
+            () -> release(couponId)
+        );
+
+        log.info("[V2-Coupon] 쿠폰 선착순 차감 (Redis) - 쿠폰 ID: {}, 사용 횟수: {}", couponId, used);
+    }
+
+    /**
+     * 쿠폰 사용 복구 (주문 취소) - 커밋이 확정된 뒤에만 반영
+     */
+    public void restore(Long couponId) {
+        TransactionCallbacks.afterCompletion(
+            () -> {
+                if (release(couponId) >= 0) {
+                    couponUsageWriteBehindFlusher.add(couponId, -1);
+                }
+            },
+            () -> { }
+        );
+    }
+
+    /**
+     * 카운터가 없는 쿠폰만 MySQL 사용 횟수 + 미반영 변경분으로 적재 (loadCounter와 같은 LOAD_SCRIPT)
+     * 이미 있는 카운터는 유지 → 다른 노드가 사용 중인 카운터를 MySQL 값으로 덮으면 미반영 사용분만큼 초과 발급
+     *
+     * @return 새로 적재한 쿠폰 수
+     */
+    public int rebuildCounters(List<Coupon> coupons) {
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Long>> loaded = new ArrayList<>(coupons.size());
+        for (Coupon coupon : coupons) {
+            long used = coupon.getUsedCount() + couponUsageWriteBehindFlusher.pendingDelta(coupon.getId());
+            loaded.add(batch.getScript(StringCodec.INSTANCE).evalAsync(
+                RScript.Mode.READ_WRITE,
+                LOAD_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.of(couponKey(coupon.getId())),
+                String.valueOf(coupon.getTotalAvailableCount()), String.valueOf(used)
+            ));
+        }
+        batch.execute();
+        return (int) loaded.stream().filter(result -> result.getNow() == 1L).count();
+    }
+
+    private long release(Long couponId) {
+        long used = execute(RELEASE_SCRIPT, couponId);
+        if (used < 0) {
+            log.warn("[V2-Coupon] 복구할 쿠폰 사용 내역이 없습니다 - 쿠폰 ID: {}", couponId);
+        }
+        return used;
+    }
+
+    private long execute(String script, Long couponId, Object... args) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+            RScript.Mode.READ_WRITE,
+            script,
+            RScript.ReturnType.INTEGER,
+            List.of(couponKey(couponId)),
+            args
+        );
+        return result;
+    }
+
+    /**
+     * 카운터가 없을 때 MySQL 사용 횟수 + 미반영 변경분으로 적재
+     */
+    private void loadCounter(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+            .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + couponId));
+
+        long used = coupon.getUsedCount() + couponUsageWriteBehindFlusher.pendingDelta(couponId);
+        execute(LOAD_SCRIPT, couponId, String.valueOf(coupon.getTotalAvailableCount()), String.valueOf(used));
+
+        log.info("[V2-Coupon] 쿠폰 카운터 적재 - 쿠폰 ID: {}, 사용: {}/{}", couponId, used, coupon.getTotalAvailableCount());
+    }
+
+    private String couponKey(Long couponId) {
+        return COUPON_KEY_PREFIX + couponId;
+    }
+}
@@ -0,0 +1,37 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.coupon.Coupon;
+import com.concurrency.shop.domain.coupon.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * V2: 애플리케이션 기동 시 MySQL 쿠폰 사용 횟수로 Redis 쿠폰 카운터 복구
+ * - DataInitializer(CommandLineRunner) 이후 실행되도록 ApplicationReadyEvent 사용
+ * - 카운터가 없는 쿠폰만 적재 (다른 노드가 쓰고 있는 카운터는 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCounterInitializer {
+
+    private final CouponRepository couponRepository;
+    private final CouponClaimService couponClaimService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildCouponCounters() {
+        if (!couponClaimService.isEnabled()) {
+            return;
+        }
+
+        List<Coupon> coupons = couponRepository.findAll();
+        int loaded = couponClaimService.rebuildCounters(coupons);
+
+        log.info("[V2-Coupon] ✅ 쿠폰 카운터 복구 완료 - 쿠폰 {}개 중 신규 적재 {}개", coupons.size(), loaded);
+    }
+}
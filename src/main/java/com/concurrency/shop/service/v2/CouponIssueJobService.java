@@ -0,0 +1,278 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.coupon.CouponIssueJob;
+import com.concurrency.shop.domain.coupon.CouponIssueJobRepository;
+import com.concurrency.shop.domain.coupon.CouponIssueJobStatus;
+import com.concurrency.shop.domain.coupon.CouponRepository;
+import com.concurrency.shop.domain.coupon.UserCouponJdbcRepository;
+import com.concurrency.shop.domain.user.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * V2: 쿠폰 대량 발급 작업 (수백만 명 대상)
+ * - 사용자 ID를 Keyset(id > lastId) 청크로 읽고, 청크마다 다중 행 INSERT IGNORE 한 문장으로 발급
+ * - 청크 INSERT는 워커 풀에서 병렬 실행, 체크포인트는 청크 제출 순서대로만 전진
+ *   (앞 청크가 끝나지 않았으면 뒤 청크가 끝나도 체크포인트를 넘기지 않음 → 재개 시 누락 없음)
+ * - 실패/중단 시 lastUserId 다음부터 재개, 이미 발급된 행은 유니크 제약으로 무시
+ * - 약 1초마다 진행 상황(처리 행 수, 초당 행 수)을 저장하고 로그로 남김
+ */
+@Slf4j
+@Service
+public class CouponIssueJobService {
+
+    private static final long PROGRESS_INTERVAL_MILLIS = 1_000L;
+
+    private final CouponIssueJobRepository couponIssueJobRepository;
+    private final CouponRepository couponRepository;
+    private final UserRepository userRepository;
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultChunkSize;
+    private final int defaultWorkerCount;
+
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+    private final ExecutorService launcher;
+
+    public CouponIssueJobService(CouponIssueJobRepository couponIssueJobRepository,
+                                 CouponRepository couponRepository,
+                                 UserRepository userRepository,
+                                 UserCouponJdbcRepository userCouponJdbcRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${shop.coupon.issue.chunk-size:1000}") int defaultChunkSize,
+                                 @Value("${shop.coupon.issue.worker-count:4}") int defaultWorkerCount) {
+        this.couponIssueJobRepository = couponIssueJobRepository;
+        this.couponRepository = couponRepository;
+        this.userRepository = userRepository;
+        this.userCouponJdbcRepository = userCouponJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.defaultChunkSize = defaultChunkSize;
+        this.defaultWorkerCount = defaultWorkerCount;
+        AtomicInteger sequence = new AtomicInteger();
+        this.launcher = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-issue-job-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 발급 작업 생성 후 비동기 실행
+     */
+    public CouponIssueJob start(Long couponId, Integer chunkSize, Integer workerCount) {
+        if (!couponRepository.existsById(couponId)) {
+            throw new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + couponId);
+        }
+        int chunk = chunkSize != null ? chunkSize : defaultChunkSize;
+        int workers = workerCount != null ? workerCount : defaultWorkerCount;
+        if (chunk < 1 || workers < 1) {
+            throw new IllegalArgumentException("청크 크기와 워커 수는 1 이상이어야 합니다.");
+        }
+
+        CouponIssueJob job = couponIssueJobRepository.save(new CouponIssueJob(couponId, chunk, workers));
+        launch(job.getId());
+        return job;
+    }
+
+    /**
+     * 실패했거나 중단된(이 인스턴스에서 실행 중이 아닌) 작업을 체크포인트부터 재개
+     */
+    public CouponIssueJob resume(Long jobId) {
+        CouponIssueJob job = getJob(jobId);
+        if (job.getStatus() == CouponIssueJobStatus.COMPLETED) {
+            throw new IllegalStateException("이미 완료된 발급 작업입니다: " + jobId);
+        }
+        launch(jobId);
+        return job;
+    }
+
+    public CouponIssueJob getJob(Long jobId) {
+        return couponIssueJobRepository.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("발급 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    /**
+     * 발급 작업을 호출 스레드에서 끝까지 실행 (테스트/배치 실행용)
+     */
+    public CouponIssueJob run(Long jobId) {
+        if (!runningJobIds.add(jobId)) {
+            throw new IllegalStateException("이미 실행 중인 발급 작업입니다: " + jobId);
+        }
+        try {
+            execute(jobId);
+        } finally {
+            runningJobIds.remove(jobId);
+        }
+        return getJob(jobId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중인 작업은 RUNNING으로 남고, 재기동 후 resume으로 마지막 체크포인트부터 이어서 발급
+        launcher.shutdownNow();
+    }
+
+    private void launch(Long jobId) {
+        if (!runningJobIds.add(jobId)) {
+            throw new IllegalStateException("이미 실행 중인 발급 작업입니다: " + jobId);
+        }
+        launcher.execute(() -> {
+            try {
+                execute(jobId);
+            } finally {
+                runningJobIds.remove(jobId);
+            }
+        });
+    }
+
+    private void execute(Long jobId) {
+        CouponIssueJob job = transactionTemplate.execute(status -> {
+            CouponIssueJob found = getJob(jobId);
+            found.start();
+            return found;
+        });
+
+        Long couponId = job.getCouponId();
+        int chunkSize = job.getChunkSize();
+        int workerCount = job.getWorkerCount();
+        log.info("[V2] 쿠폰 대량 발급 시작 - 작업 ID: {}, 쿠폰 ID: {}, 재개 지점: {}, 청크: {}, 워커: {}",
+            jobId, couponId, job.getLastUserId(), chunkSize, workerCount);
+
+        ExecutorService workers = Executors.newFixedThreadPool(workerCount);
+        Deque<ChunkResult> inFlight = new ArrayDeque<>();
+        Progress progress = new Progress(job.getLastUserId());
+
+        try {
+            Long cursor = job.getLastUserId();
+            while (true) {
+                List<Long> userIds = userRepository.findIdsAfter(cursor, PageRequest.of(0, chunkSize));
+                if (userIds.isEmpty()) {
+                    break;
+                }
+                cursor = userIds.get(userIds.size() - 1);
+
+                // 워커 수의 2배까지만 미리 제출 (메모리에 올라가는 사용자 ID 수 제한)
+                if (inFlight.size() >= workerCount * 2) {
+                    settleHead(inFlight, progress);
+                }
+                inFlight.add(new ChunkResult(cursor, userIds.size(),
+                    CompletableFuture.supplyAsync(() -> userCouponJdbcRepository.insertIgnore(couponId, userIds), workers)));
+
+                drainCompleted(inFlight, progress);
+                if (progress.shouldSave()) {
+                    saveProgress(jobId, progress);
+                }
+            }
+
+            while (!inFlight.isEmpty()) {
+                settleHead(inFlight, progress);
+            }
+            saveProgress(jobId, progress);
+            transactionTemplate.executeWithoutResult(status -> getJob(jobId).complete());
+
+            CouponIssueJob finished = getJob(jobId);
+            log.info("[V2] 쿠폰 대량 발급 완료 - 작업 ID: {}, 처리: {}, 발급: {}, 초당 행 수: {}",
+                jobId, finished.getProcessedCount(), finished.getIssuedCount(),
+                String.format("%.0f", finished.getRowsPerSecond()));
+        } catch (RuntimeException e) {
+            // 실패한 청크 앞까지만 체크포인트 저장 후 실패 처리
+            settleUntilFailure(inFlight, progress);
+            saveProgress(jobId, progress);
+            transactionTemplate.executeWithoutResult(status -> getJob(jobId).fail(e.getMessage()));
+            log.error("[V2] 쿠폰 대량 발급 실패 - 작업 ID: {}, 체크포인트: {}", jobId, progress.lastUserId, e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 맨 앞 청크부터 이미 끝난 것만 체크포인트에 반영 (순서 보장)
+     */
+    private void drainCompleted(Deque<ChunkResult> inFlight, Progress progress) {
+        while (!inFlight.isEmpty() && inFlight.peek().future().isDone()
+            && !inFlight.peek().future().isCompletedExceptionally()) {
+            progress.accept(inFlight.poll());
+        }
+    }
+
+    /**
+     * 맨 앞 청크가 끝날 때까지 기다려 반영 - 실패하면 예외가 나고 청크는 대기열에 남음
+     * (먼저 꺼내면 settleUntilFailure가 실패한 청크 뒤의 청크까지 반영해 체크포인트가 실패 청크를 건너뜀)
+     */
+    private void settleHead(Deque<ChunkResult> inFlight, Progress progress) {
+        progress.accept(inFlight.peek());
+        inFlight.poll();
+    }
+
+    private void settleUntilFailure(Deque<ChunkResult> inFlight, Progress progress) {
+        try {
+            while (!inFlight.isEmpty()) {
+                settleHead(inFlight, progress);
+            }
+        } catch (RuntimeException ignored) {
+            // 이 청크부터는 재개 시 다시 발급
+        }
+    }
+
+    private void saveProgress(Long jobId, Progress progress) {
+        long now = System.currentTimeMillis();
+        long elapsed = now - progress.savedAt;
+        transactionTemplate.executeWithoutResult(status ->
+            getJob(jobId).checkpoint(progress.lastUserId, progress.processed, progress.issued, elapsed));
+
+        if (progress.processed > 0) {
+            log.info("[V2] 쿠폰 대량 발급 진행 - 작업 ID: {}, 체크포인트: {}, 처리: {}, 발급: {}, 초당 행 수: {}",
+                jobId, progress.lastUserId, progress.processed, progress.issued,
+                String.format("%.0f", elapsed == 0 ? 0 : progress.processed * 1000.0 / elapsed));
+        }
+        progress.reset(now);
+    }
+
+    private record ChunkResult(Long lastUserId, int size, CompletableFuture<Integer> future) {
+    }
+
+    /**
+     * 마지막 저장 이후 누적된 진행분
+     */
+    private static final class Progress {
+        private Long lastUserId;
+        private long processed;
+        private long issued;
+        private long savedAt = System.currentTimeMillis();
+
+        private Progress(Long lastUserId) {
+            this.lastUserId = lastUserId;
+        }
+
+        private void accept(ChunkResult chunk) {
+            int inserted = chunk.future().join();
+            this.lastUserId = chunk.lastUserId();
+            this.processed += chunk.size();
+            this.issued += inserted;
+        }
+
+        private boolean shouldSave() {
+            return System.currentTimeMillis() - savedAt >= PROGRESS_INTERVAL_MILLIS;
+        }
+
+        private void reset(long now) {
+            this.processed = 0;
+            this.issued = 0;
+            this.savedAt = now;
+        }
+    }
+}
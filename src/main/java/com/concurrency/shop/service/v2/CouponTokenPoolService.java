@@ -0,0 +1,125 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.coupon.Coupon;
+import com.concurrency.shop.domain.coupon.CouponRepository;
+import com.concurrency.shop.domain.coupon.UserCouponJdbcRepository;
+import com.concurrency.shop.domain.coupon.UserCouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RDeque;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * V2: 선착순 쿠폰 토큰 풀
+ * 해결 방법: 발급 가능 수량만큼 토큰을 Redis List에 미리 채워두고, 선착순 발급은 LPOP 한 번으로 결정
+ * - 토큰이 없으면 바로 소진 응답 (MySQL 접근 없음)
+ * - 토큰을 얻은 사용자만 user_coupons에 INSERT IGNORE
+ * - 이미 발급받은 사용자이거나 INSERT 실패 시 토큰을 풀 앞쪽에 되돌림
+ * - 재적재는 임시 키에 새 풀을 다 만든 뒤 RENAME으로 교체 → 적재 중에도 발급은 기존 풀에서 계속되고 빈 풀이 보이지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponTokenPoolService {
+
+    private static final String TOKEN_POOL_KEY_PREFIX = "coupon:tokens:";
+    private static final int FILL_CHUNK_SIZE = 10_000;
+
+    private final RedissonClient redissonClient;
+    private final CouponRepository couponRepository;
+    private final UserCouponJdbcRepository userCouponJdbcRepository;
+    private final UserCouponRepository userCouponRepository;
+
+    /**
+     * 토큰 풀을 count개로 다시 채움 (기존 토큰은 버림)
+     * - count는 최대 발급 수량에서 이미 발급된 user_coupons 수를 뺀 값을 넘을 수 없음
+     * - 임시 키에 RPUSH를 청크 단위로 나눠 실행한 뒤 RENAME으로 한 번에 교체
+     * - 적재 중에 기존 풀에서 발급된 만큼은 새 풀에 반영되지 않으므로 발급이 잦을 때는 여유를 두고 적재
+     */
+    public long fill(Long couponId, int count) {
+        Coupon coupon = couponRepository.findById(couponId)
+            .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + couponId));
+        if (count < 0) {
+            throw new IllegalArgumentException("토큰 수는 0 이상이어야 합니다: " + count);
+        }
+
+        long issuable = coupon.getTotalAvailableCount() - userCouponRepository.countByCouponId(couponId);
+        if (count > issuable) {
+            throw new IllegalArgumentException(String.format(
+                "토큰 수가 남은 발급 가능 수량을 넘습니다. 쿠폰 ID: %d, 요청: %d, 발급 가능: %d", couponId, count, Math.max(issuable, 0)));
+        }
+
+        RDeque<String> pool = pool(couponId);
+        if (count == 0) {
+            pool.delete();
+            log.info("[V2] 쿠폰 토큰 풀 비움 - 쿠폰: {}", coupon.getName());
+            return 0;
+        }
+
+        RDeque<String> filling = redissonClient.getDeque(
+            TOKEN_POOL_KEY_PREFIX + couponId + ":filling:" + UUID.randomUUID(), StringCodec.INSTANCE);
+        try {
+            for (int filled = 0; filled < count; filled += FILL_CHUNK_SIZE) {
+                int size = Math.min(FILL_CHUNK_SIZE, count - filled);
+                List<String> tokens = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    tokens.add(UUID.randomUUID().toString());
+                }
+                filling.addAll(tokens);
+            }
+            filling.rename(pool.getName());
+        } catch (RuntimeException e) {
+            filling.delete();
+            throw e;
+        }
+
+        log.info("[V2] 쿠폰 토큰 풀 적재 - 쿠폰: {}, 토큰 수: {}", coupon.getName(), count);
+        return pool.size();
+    }
+
+    /**
+     * 선착순 발급
+     * @return 발급된 토큰
+     */
+    public String claim(Long couponId, Long userId) {
+        RDeque<String> pool = pool(couponId);
+        String token = pool.pollFirst();
+        if (token == null) {
+            throw new IllegalStateException("쿠폰이 모두 소진되었습니다: " + couponId);
+        }
+
+        int inserted;
+        try {
+            inserted = userCouponJdbcRepository.insertIgnore(couponId, List.of(userId));
+        } catch (DataIntegrityViolationException e) {
+            pool.addFirst(token);
+            throw new IllegalArgumentException("사용자 또는 쿠폰을 찾을 수 없습니다. 사용자 ID: " + userId + ", 쿠폰 ID: " + couponId, e);
+        } catch (RuntimeException e) {
+            pool.addFirst(token);
+            throw e;
+        }
+
+        if (inserted == 0) {
+            pool.addFirst(token);
+            throw new IllegalStateException("이미 발급받은 쿠폰입니다. 사용자 ID: " + userId + ", 쿠폰 ID: " + couponId);
+        }
+
+        log.info("[V2] 쿠폰 토큰 발급 - 쿠폰 ID: {}, 사용자 ID: {}", couponId, userId);
+        return token;
+    }
+
+    public long remaining(Long couponId) {
+        return pool(couponId).size();
+    }
+
+    private RDeque<String> pool(Long couponId) {
+        return redissonClient.getDeque(TOKEN_POOL_KEY_PREFIX + couponId, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,34 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.coupon.CouponUsageJdbcRepository;
+import com.concurrency.shop.service.WriteBehindFlusher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * V2: Redis에서 확정된 쿠폰 사용 횟수 변경분을 MySQL에 비동기로 반영 (Write-Behind)
+ * - 커밋된 주문의 쿠폰 사용/복구분을 쿠폰별로 합산해 두었다가 주기적으로 배치 UPDATE
+ */
+@Component
+public class CouponUsageWriteBehindFlusher extends WriteBehindFlusher {
+
+    private final CouponUsageJdbcRepository couponUsageJdbcRepository;
+
+    public CouponUsageWriteBehindFlusher(CouponUsageJdbcRepository couponUsageJdbcRepository) {
+        super("[V2-Coupon] 쿠폰 사용 횟수", "쿠폰");
+        this.couponUsageJdbcRepository = couponUsageJdbcRepository;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${shop.coupon.redis-claim.flush-interval-ms:200}")
+    public void flush() {
+        super.flush();
+    }
+
+    @Override
+    protected void apply(Map<Long, Long> deltasById) {
+        couponUsageJdbcRepository.applyUsedCountDeltas(deltasById);
+    }
+}
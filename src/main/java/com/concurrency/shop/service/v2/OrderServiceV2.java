@@ -9,21 +9,34 @@ import com.concurrency.shop.domain.product.Product;
 import com.concurrency.shop.domain.product.ProductRepository;
 import com.concurrency.shop.domain.user.User;
 import com.concurrency.shop.domain.user.UserRepository;
-import com.concurrency.shop.dto.OrderItemRequest;
 import com.concurrency.shop.dto.OrderRequest;
 import com.concurrency.shop.lock.DistributedLock;
+import com.concurrency.shop.lock.OptimisticLockRetryExecutor;
+import com.concurrency.shop.service.PointService;
+import com.concurrency.shop.service.StockService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * V2: 동시성 처리가 적용된 주문 서비스
  * 해결 방법: Redis 분산 락 + 비관적 락 조합
- * 1. 재고: 비관적 락 (StockServiceV2)
- * 2. 포인트: Redis 분산 락 (PointServiceV2)
- * 3. 쿠폰: Redis 분산 락
- * 4. 전체 주문 프로세스: Redis 분산 락
+ * 1. 재고: 비관적 락 (StockServiceV2) - 주문 상품 전체를 id 순서로 한 번에 잠금
+ *    shop.order.v2.stock-service로 다른 재고 구현(StockService 빈 이름)으로 교체 가능
+ * 2. 포인트: Redis 분산 락 (PointServiceV2), 적립은 아웃박스로 주문 커밋 후 비동기 반영 (PointEarnOutboxService)
+ *    shop.order.v2.point-service로 다른 포인트 구현(PointService 빈 이름, 예: 원장 기반 pointLedgerService)으로 교체 가능
+ * 3. 쿠폰: Redis 분산 락 + 비관적 락 (shop.coupon.redis-claim.enabled=true 면 Redis 선착순 차감)
+ * 4. 전체 주문 프로세스: Redis 다중 분산 락 - 주문이 건드리는 상품/쿠폰/사용자 포인트 키만 정렬된 순서로 잠금
+ *
+ * 낙관적 락 모드(createOrderOptimistic): 재고/쿠폰을 @Version으로 검증하고 충돌 시 주문 전체를 재시도
  */
 @Slf4j
 @Service
@@ -35,41 +48,152 @@ public class OrderServiceV2 {
     private final ProductRepository productRepository;
     private final CouponRepository couponRepository;
     private final StockServiceV2 stockServiceV2;
-    private final PointServiceV2 pointServiceV2;
+    private final StockReservationService stockReservationService;
+    private final CouponClaimService couponClaimService;
+    private final PointEarnOutboxService pointEarnOutboxService;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, StockService> stockServices;
+    private final Map<String, PointService> pointServices;
+
+    @Value("${shop.order.v2.stock-service:stockServiceV2}")
+    private String stockServiceName;
+
+    @Value("${shop.order.v2.point-service:pointServiceV2}")
+    private String pointServiceName;
 
-    @DistributedLock(key = "'order:create:user:' + #request.userId", waitTime = 10, leaseTime = 10)
+    private StockService stockService;
+    private PointService pointService;
+
+    @PostConstruct
+    void selectStockService() {
+        stockService = stockServices.get(stockServiceName);
+        if (stockService == null) {
+            throw new IllegalStateException(
+                "재고 서비스를 찾을 수 없습니다: " + stockServiceName + " (사용 가능: " + stockServices.keySet() + ")");
+        }
+        log.info("[V2] 주문 재고 서비스 - {}", stockServiceName);
+    }
+
+    @PostConstruct
+    void selectPointService() {
+        pointService = pointServices.get(pointServiceName);
+        if (pointService == null) {
+            throw new IllegalStateException(
+                "포인트 서비스를 찾을 수 없습니다: " + pointServiceName + " (사용 가능: " + pointServices.keySet() + ")");
+        }
+        log.info("[V2] 주문 포인트 서비스 - {}", pointServiceName);
+    }
+
+    @DistributedLock(keys = "#request.lockKeys()", waitTime = 10, leaseTime = 10)
     @Transactional
     public Order createOrder(OrderRequest request) {
-        log.info("[V2] 주문 생성 시작 (분산 락) - 사용자 ID: {}", request.getUserId());
+        return placeOrder(request, ConcurrencyMode.PESSIMISTIC, null);
+    }
+
+    /**
+     * 낙관적 락 주문 - 충돌 시 새 트랜잭션으로 주문 전체를 재시도
+     * 재시도마다 트랜잭션을 새로 열어야 하므로 @Transactional 대신 TransactionTemplate 사용
+     * 재고를 products 행에서 직접 차감하므로 Redis/메모리 재고 서비스(V3, V4)가 선택되어 있으면 거부
+     */
+    @DistributedLock(keys = "#request.lockKeys()", waitTime = 10, leaseTime = 10)
+    public Order createOrderOptimistic(OrderRequest request) {
+        if (stockService.isStockCached()) {
+            throw new IllegalStateException(
+                "낙관적 락 주문은 재고를 Redis/메모리에서 관리하는 재고 서비스와 함께 쓸 수 없습니다: " + stockServiceName);
+        }
+        return optimisticLockRetryExecutor.execute("order.create", () ->
+            transactionTemplate.execute(status -> placeOrder(request, ConcurrencyMode.OPTIMISTIC, null))
+        );
+    }
+
+    /**
+     * 재고 선점 (주문 접수 배치 처리 1단계) - 여러 주문의 상품별 수량 합계를 선택된 재고 서비스로 한 번에 차감
+     * 같은 트랜잭션에서 접수증별 선점을 기록 → 2단계 전에 장애가 나도 재전달된 접수증이 선점을 재사용하고,
+     * 끝내 주문되지 않은 선점은 만료 후 예약 스위퍼가 복구
+     *
+     * @param requests 접수증 ID → 주문 요청
+     */
+    @Transactional
+    public void reserveStocks(Map<String, OrderRequest> requests) {
+        Map<Long, Integer> total = new TreeMap<>();
+        requests.values().forEach(request -> request.quantitiesByProductId()
+            .forEach((productId, quantity) -> total.merge(productId, quantity, Integer::sum)));
+
+        stockService.decreaseStocks(total);
+        requests.forEach((ticketId, request) ->
+            stockReservationService.recordTicket(ticketId, request.getUserId(), request.quantitiesByProductId()));
+    }
+
+    /**
+     * 접수증의 선점 재고 반환 (주문 생성이 실패한 경우) - 이미 확정/만료/반환된 선점은 건너뜀
+     */
+    @Transactional
+    public void releaseStocks(String ticketId) {
+        stockReservationService.cancelTicket(ticketId).forEach(stockService::increaseStock);
+    }
+
+    /**
+     * 재고를 이미 선점한 주문 생성 (주문 접수 배치 처리 2단계)
+     * 재고 차감을 건너뛰므로 상품 키 없이 쿠폰/사용자 포인트 키만 잠금
+     * 접수증 선점을 같은 트랜잭션에서 확정 → 같은 접수증으로 주문이 두 번 생성되지 않음
+     */
+    @DistributedLock(keys = "#request.reservedStockLockKeys()", waitTime = 10, leaseTime = 10)
+    @Transactional
+    public Order createOrderWithReservedStock(String ticketId, OrderRequest request) {
+        stockReservationService.confirmTicket(ticketId);
+        return placeOrder(request, ConcurrencyMode.PESSIMISTIC, ticketId);
+    }
+
+    /**
+     * @param ticketId 재고를 선점한 접수증 ID (없으면 여기서 재고 차감)
+     */
+    private Order placeOrder(OrderRequest request, ConcurrencyMode mode, String ticketId) {
+        log.info("[V2] 주문 생성 시작 (분산 락, {}) - 사용자 ID: {}", mode, request.getUserId());
+
+        // 0. 쿠폰 선착순 차감 (Redis 모드) - 소진된 쿠폰은 MySQL을 조회하기 전에 거절
+        if (request.getCouponId() != null && couponClaimService.isEnabled()) {
+            couponClaimService.claim(request.getCouponId());
+        }
 
         // 1. 사용자 조회
         User user = userRepository.findById(request.getUserId())
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + request.getUserId()));
 
         // 2. 주문 생성
-        Order order = new Order(user, request.getCouponId());
-
-        // 3. 주문 상품 추가 및 재고 차감 (비관적 락 사용)
-        for (OrderItemRequest itemRequest : request.getItems()) {
-            Product product = productRepository.findById(itemRequest.getProductId())
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + itemRequest.getProductId()));
-
-            // 비관적 락으로 안전하게 재고 차감
-            stockServiceV2.decreaseStock(product.getId(), itemRequest.getQuantity());
+        Order order = new Order(user, request.getCouponId(), ticketId);
 
-            OrderItem orderItem = new OrderItem(product, itemRequest.getQuantity());
-            order.addOrderItem(orderItem);
+        // 3. 재고 차감 및 주문 상품 추가 (중복 상품은 합산)
+        //    비관적 락: 선택된 재고 서비스로 일괄 차감 (기본 V2 - 정렬된 SELECT FOR UPDATE 한 번)
+        //    낙관적 락: 버전 검증으로 상품별 차감 - 충돌 시 주문 전체 재시도
+        //    선점된 재고: 차감 없이 상품만 조회
+        Map<Long, Integer> quantities = request.quantitiesByProductId();
+        Map<Long, Product> products;
+        if (ticketId != null) {
+            products = findProducts(quantities);
+        } else if (mode == ConcurrencyMode.OPTIMISTIC) {
+            products = decreaseStocksOptimistic(quantities);
+        } else {
+            products = stockService.decreaseStocks(quantities);
         }
 
-        // 4. 쿠폰 할인 처리 (비관적 락 사용)
+        quantities.forEach((productId, quantity) ->
+            order.addOrderItem(new OrderItem(products.get(productId), quantity)));
+
+        // 4. 쿠폰 할인 처리 (비관적 락 / 낙관적 락)
         Long discountAmount = 0L;
-        if (request.getCouponId() != null) {
-            // 비관적 락으로 쿠폰 조회
-            Coupon coupon = couponRepository.findByIdWithPessimisticLock(request.getCouponId())
+        if (request.getCouponId() != null && couponClaimService.isEnabled()) {
+            // Redis에서 이미 사용 처리됨 - 할인 계산용 조회만 (락 없음)
+            Coupon coupon = couponRepository.findById(request.getCouponId())
                 .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + request.getCouponId()));
+            discountAmount = coupon.calculateDiscount(order.getTotalAmount());
 
-            log.info("[V2] 쿠폰 사용 (비관적 락) - 쿠폰 ID: {}, 현재 사용 횟수: {}/{}",
-                coupon.getId(), coupon.getUsedCount(), coupon.getTotalAvailableCount());
+            log.info("[V2] 쿠폰 적용 완료 (Redis 선착순) - 쿠폰 ID: {}, 할인 금액: {}", coupon.getId(), discountAmount);
+        } else if (request.getCouponId() != null) {
+            Coupon coupon = findCoupon(request.getCouponId(), mode);
+
+            log.info("[V2] 쿠폰 사용 ({}) - 쿠폰 ID: {}, 현재 사용 횟수: {}/{}",
+                mode, coupon.getId(), coupon.getUsedCount(), coupon.getTotalAvailableCount());
 
             // 락을 획득했으므로 안전하게 쿠폰 사용
             coupon.use();
@@ -79,10 +203,10 @@ public class OrderServiceV2 {
                 discountAmount, coupon.getUsedCount());
         }
 
-        // 5. 포인트 차감 (분산 락 사용 - PointServiceV2에서 처리)
+        // 5. 포인트 차감 (선택된 포인트 서비스 - 기본 V2 분산 락)
         Long pointsToUse = request.getPointsToUse() != null ? request.getPointsToUse() : 0L;
         if (pointsToUse > 0) {
-            pointServiceV2.usePoints(user.getId(), pointsToUse, null);
+            pointService.usePoints(user.getId(), pointsToUse, null);
         }
 
         // 6. 회원 등급별 포인트 적립 계산
@@ -94,9 +218,11 @@ public class OrderServiceV2 {
         // 8. 주문 저장
         Order savedOrder = orderRepository.save(order);
 
-        // 9. 포인트 적립 (분산 락 사용)
-        if (pointsToEarn > 0) {
-            pointServiceV2.earnPoints(user.getId(), pointsToEarn, savedOrder.getId());
+        // 9. 포인트 적립 (아웃박스: 이벤트만 기록하고 릴레이가 반영 / 아니면 선택된 포인트 서비스로 즉시 적립)
+        if (pointsToEarn > 0 && pointEarnOutboxService.isEnabled()) {
+            pointEarnOutboxService.record(user.getId(), savedOrder.getId(), pointsToEarn);
+        } else if (pointsToEarn > 0) {
+            pointService.earnPoints(user.getId(), pointsToEarn, savedOrder.getId());
         }
 
         // 10. 주문 확정
@@ -119,25 +245,25 @@ public class OrderServiceV2 {
         // 2. 주문 취소
         order.cancel();
 
-        // 3. 재고 복구 (비관적 락 사용)
+        // 3. 재고 복구 (선택된 재고 서비스)
         for (OrderItem item : order.getOrderItems()) {
-            stockServiceV2.increaseStock(item.getProduct().getId(), item.getQuantity());
+            stockService.increaseStock(item.getProduct().getId(), item.getQuantity());
         }
 
-        // 4. 포인트 복구 (분산 락 사용)
+        // 4. 포인트 복구 (선택된 포인트 서비스)
         if (order.getPointUsed() > 0) {
-            pointServiceV2.refundPoints(order.getUser().getId(), order.getPointUsed(), orderId);
+            pointService.refundPoints(order.getUser().getId(), order.getPointUsed(), orderId);
         }
 
-        // 5. 적립 포인트 회수 (비관적 락 사용)
-        if (order.getPointRewarded() > 0) {
-            User user = userRepository.findByIdWithPessimisticLock(order.getUser().getId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-            user.usePoints(order.getPointRewarded());
+        // 5. 적립 포인트 회수 (아직 적립 전이면 아웃박스 이벤트만 취소, 적립 후면 선택된 포인트 서비스로 회수)
+        if (order.getPointRewarded() > 0 && !pointEarnOutboxService.cancelPending(orderId)) {
+            pointService.revokeEarnedPoints(order.getUser().getId(), order.getPointRewarded(), orderId);
         }
 
-        // 6. 쿠폰 복구 (비관적 락 사용)
-        if (order.getCouponId() != null) {
+        // 6. 쿠폰 복구 (Redis 모드: 커밋 후 Redis 카운터 복구 / 기본: 비관적 락 사용)
+        if (order.getCouponId() != null && couponClaimService.isEnabled()) {
+            couponClaimService.restore(order.getCouponId());
+        } else if (order.getCouponId() != null) {
             Coupon coupon = couponRepository.findByIdWithPessimisticLock(order.getCouponId())
                 .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + order.getCouponId()));
             coupon.restore();
@@ -145,4 +271,37 @@ public class OrderServiceV2 {
 
         log.info("[V2] 주문 취소 완료 - 주문 ID: {}", orderId);
     }
+
+    private Map<Long, Product> decreaseStocksOptimistic(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            stockServiceV2.decreaseStockOptimistic(productId, quantity);
+            products.put(productId, productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId)));
+        });
+        return products;
+    }
+
+    private Map<Long, Product> findProducts(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = new LinkedHashMap<>();
+        for (Product product : productRepository.findAllById(quantities.keySet())) {
+            products.put(product.getId(), product);
+        }
+        for (Long productId : quantities.keySet()) {
+            if (!products.containsKey(productId)) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId);
+            }
+        }
+        return products;
+    }
+
+    private Coupon findCoupon(Long couponId, ConcurrencyMode mode) {
+        if (mode == ConcurrencyMode.OPTIMISTIC) {
+            return couponRepository.findByIdWithOptimisticLock(couponId)
+                .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + couponId));
+        }
+        // 비관적 락으로 쿠폰 조회
+        return couponRepository.findByIdWithPessimisticLock(couponId)
+            .orElseThrow(() -> new IllegalArgumentException("쿠폰을 찾을 수 없습니다: " + couponId));
+    }
 }
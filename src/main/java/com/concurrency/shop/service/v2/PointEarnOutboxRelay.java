@@ -0,0 +1,43 @@
+package com.concurrency.shop.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * V2: 포인트 적립 아웃박스 릴레이
+ * - 배치 단위(트랜잭션 1개)로 적립 반영, 배치가 가득 반영되면 바로 다음 배치 실행
+ * - 락 경합으로 보류된 이벤트가 있으면 다음 주기까지 기다림 (같은 이벤트를 바로 다시 가져와 락 대기를 반복하지 않음)
+ * - 여러 인스턴스가 동시에 실행해도 SKIP LOCKED로 서로 다른 이벤트를 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointEarnOutboxRelay {
+
+    private final PointEarnOutboxService pointEarnOutboxService;
+
+    @Value("${shop.point.outbox.relay-batch-size:500}")
+    private int batchSize;
+
+    @Value("${shop.point.outbox.relay-max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${shop.point.outbox.relay-interval-ms:200}")
+    public void relay() {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int relayed = pointEarnOutboxService.relayBatch(batchSize);
+            total += relayed;
+            if (relayed < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.debug("[V2-Outbox] 포인트 적립 릴레이 완료 - 총 {}건", total);
+        }
+    }
+}
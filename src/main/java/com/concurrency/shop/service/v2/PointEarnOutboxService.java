@@ -0,0 +1,102 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.point.PointEarnOutbox;
+import com.concurrency.shop.domain.point.PointEarnOutboxRepository;
+import com.concurrency.shop.domain.point.PointEarnOutboxStatus;
+import com.concurrency.shop.service.PointService;
+import com.concurrency.shop.service.PointService.Earning;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * V2: 포인트 적립 아웃박스 (shop.point.outbox.enabled=true 일 때 주문에 적용)
+ * 해결 방법: 주문 트랜잭션에서는 적립 이벤트 INSERT만 하고, 실제 적립은 릴레이가 배치로 반영
+ * - 주문 확정 경로에서 사용자 포인트 락/이력 INSERT가 빠짐
+ * - 주문과 이벤트가 같은 트랜잭션에 기록되므로 커밋된 주문은 반드시 적립됨 (롤백된 주문은 적립 없음)
+ * - 릴레이: PENDING 이벤트를 SKIP LOCKED로 잠그고, 포인트 서비스가 사용자별로 묶어 반영, 같은 트랜잭션에서 PROCESSED 처리
+ * - 포인트 서비스가 orderId 기준으로 중복 적립을 건너뛰므로 재처리해도 안전
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointEarnOutboxService {
+
+    private final PointEarnOutboxRepository pointEarnOutboxRepository;
+    private final Map<String, PointService> pointServices;
+
+    @Value("${shop.point.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${shop.order.v2.point-service:pointServiceV2}")
+    private String pointServiceName;
+
+    private PointService pointService;
+
+    @PostConstruct
+    void selectPointService() {
+        pointService = pointServices.get(pointServiceName);
+        if (pointService == null) {
+            throw new IllegalStateException(
+                "포인트 서비스를 찾을 수 없습니다: " + pointServiceName + " (사용 가능: " + pointServices.keySet() + ")");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 트랜잭션 안에서 적립 이벤트 기록
+     */
+    @Transactional
+    public void record(Long userId, Long orderId, Long points) {
+        pointEarnOutboxRepository.save(new PointEarnOutbox(orderId, userId, points));
+        log.info("[V2-Outbox] 포인트 적립 이벤트 기록 - 주문 ID: {}, 사용자 ID: {}, 포인트: {}", orderId, userId, points);
+    }
+
+    /**
+     * 아직 반영되지 않은 적립 이벤트 취소 (릴레이가 처리 중이면 그 트랜잭션이 끝날 때까지 대기)
+     * @return 취소 여부 - false면 이미 적립되었거나 이벤트가 없으므로 호출자가 적립 포인트를 회수해야 함
+     */
+    @Transactional
+    public boolean cancelPending(Long orderId) {
+        return pointEarnOutboxRepository.changeStatus(orderId,
+            PointEarnOutboxStatus.PENDING, PointEarnOutboxStatus.CANCELLED, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 대기 이벤트 최대 limit건을 한 트랜잭션에서 적립 반영
+     * @return 반영된 이벤트 수 - 보류된 이벤트는 세지 않음 (0이면 대기 이벤트가 없거나 모두 보류되었으므로 다음 주기에 재시도)
+     */
+    @Transactional
+    public int relayBatch(int limit) {
+        List<Object[]> rows = pointEarnOutboxRepository.lockPending(limit);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        List<Earning> earnings = rows.stream()
+            .map(row -> new Earning(
+                ((Number) row[1]).longValue(),
+                ((Number) row[0]).longValue(),
+                ((Number) row[2]).longValue()))
+            .toList();
+
+        Set<Long> applied = pointService.earnPointsBatch(earnings);
+        if (!applied.isEmpty()) {
+            pointEarnOutboxRepository.updateStatus(applied, PointEarnOutboxStatus.PROCESSED, LocalDateTime.now());
+        }
+
+        log.info("[V2-Outbox] 포인트 적립 릴레이 - 가져온 이벤트: {}, 반영: {}", rows.size(), applied.size());
+        return applied.size();
+    }
+}
@@ -0,0 +1,231 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.point.PointHistory;
+import com.concurrency.shop.domain.point.PointHistoryJdbcRepository;
+import com.concurrency.shop.domain.point.PointHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * V2: 포인트 이력 기록기 (shop.point.history.mode)
+ * - DIRECT: 호출 즉시 한 건씩 INSERT (기존 동작)
+ * - ASYNC: 커밋된 이력만 제한된 크기의 큐에 넣고, 기록 스레드가 batch-size개가 모이거나 flush-interval-ms가 지나면 다중 행 INSERT
+ *          큐가 가득 차면 offer-timeout-ms까지 대기 후 호출 스레드가 직접 INSERT (유실 대신 호출자를 늦춤)
+ *          종료 시 큐에 남은 이력을 모두 기록, 프로세스가 비정상 종료되면 큐의 이력은 유실될 수 있음
+ *          (이력 기반 중복 적립 검사도 기록 지연만큼 늦게 반영됨)
+ * - TRANSACTIONAL: 트랜잭션 동안 모은 이력을 커밋 직전에 같은 트랜잭션에서 다중 행 INSERT (유실 없음)
+ */
+@Slf4j
+@Component
+public class PointHistoryWriter {
+
+    private static final String TRANSACTION_BUFFER_KEY = PointHistoryWriter.class.getName() + ".buffer";
+    private static final int MAX_FLUSH_ATTEMPTS = 3;
+
+    public enum Mode {
+        DIRECT, ASYNC, TRANSACTIONAL
+    }
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryJdbcRepository pointHistoryJdbcRepository;
+    private final Mode mode;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final BlockingQueue<PointHistory> queue;
+
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public PointHistoryWriter(PointHistoryRepository pointHistoryRepository,
+                              PointHistoryJdbcRepository pointHistoryJdbcRepository,
+                              @Value("${shop.point.history.mode:DIRECT}") Mode mode,
+                              @Value("${shop.point.history.buffer-capacity:10000}") int bufferCapacity,
+                              @Value("${shop.point.history.batch-size:500}") int batchSize,
+                              @Value("${shop.point.history.flush-interval-ms:100}") long flushIntervalMs,
+                              @Value("${shop.point.history.offer-timeout-ms:50}") long offerTimeoutMs) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryJdbcRepository = pointHistoryJdbcRepository;
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(bufferCapacity);
+    }
+
+    @PostConstruct
+    void start() {
+        if (mode != Mode.ASYNC) {
+            return;
+        }
+        writerThread = new Thread(this::runWriter, "point-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("[V2] 포인트 이력 비동기 기록 시작 - 배치: {}, 주기: {}ms", batchSize, flushIntervalMs);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void write(PointHistory history) {
+        switch (mode) {
+            case DIRECT -> pointHistoryRepository.save(history);
+            case ASYNC -> afterCommit(() -> enqueue(history));
+            case TRANSACTIONAL -> bufferInTransaction(history);
+        }
+    }
+
+    /**
+     * 큐에 남아 있는 이력 수 (ASYNC)
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 큐에 남은 이력을 호출 스레드에서 모두 기록 (ASYNC)
+     */
+    public void flush() {
+        List<PointHistory> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            insertWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writerThread == null) {
+            return;
+        }
+        log.info("[V2] 종료 전 남은 포인트 이력 기록 - {}건", queue.size());
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void enqueue(PointHistory history) {
+        try {
+            if (queue.offer(history, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // 큐가 가득 참 → 호출 스레드가 직접 기록 (기록 스레드가 따라잡을 때까지 호출자 속도를 늦춤)
+        log.warn("[V2] 포인트 이력 버퍼 가득 참 - 호출 스레드에서 직접 기록 (대기: {}건)", queue.size());
+        pointHistoryJdbcRepository.insertAll(List.of(history));
+    }
+
+    /**
+     * 첫 이력이 들어오면 batchSize개가 모이거나 flushIntervalMs가 지날 때까지 모아서 한 번에 기록
+     */
+    private void runWriter() {
+        List<PointHistory> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PointHistory first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PointHistory next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                insertWithRetry(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // 종료 신호 - 모으던 이력은 기록하고 나머지는 shutdown()에서 기록
+                insertWithRetry(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void insertWithRetry(List<PointHistory> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; attempt <= MAX_FLUSH_ATTEMPTS; attempt++) {
+            try {
+                pointHistoryJdbcRepository.insertAll(batch);
+                log.debug("[V2] 포인트 이력 일괄 기록 - {}건", batch.size());
+                return;
+            } catch (RuntimeException e) {
+                log.warn("[V2] 포인트 이력 일괄 기록 실패 - 시도: {}/{}, 건수: {}", attempt, MAX_FLUSH_ATTEMPTS, batch.size(), e);
+            }
+        }
+        log.error("[V2] 포인트 이력 유실 - 재시도 초과, 건수: {}", batch.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void bufferInTransaction(PointHistory history) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pointHistoryJdbcRepository.insertAll(List.of(history));
+            return;
+        }
+
+        List<PointHistory> buffer = (List<PointHistory>) TransactionSynchronizationManager.getResource(TRANSACTION_BUFFER_KEY);
+        if (buffer == null) {
+            List<PointHistory> newBuffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(TRANSACTION_BUFFER_KEY, newBuffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    pointHistoryJdbcRepository.insertAll(newBuffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_BUFFER_KEY);
+                }
+            });
+            buffer = newBuffer;
+        }
+        buffer.add(history);
+    }
+
+    private void afterCommit(Runnable onCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                onCommit.run();
+            }
+        });
+    }
+}
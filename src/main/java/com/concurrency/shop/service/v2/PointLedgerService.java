@@ -0,0 +1,121 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.point.PointLedgerJdbcRepository;
+import com.concurrency.shop.domain.point.PointLedgerJdbcRepository.LedgerAppend;
+import com.concurrency.shop.domain.point.PointType;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.lock.DistributedLock;
+import com.concurrency.shop.service.PointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * V2: 원장(Ledger) 기반 포인트 서비스 (shop.order.v2.point-service=pointLedgerService 일 때 주문에 적용)
+ * 해결 방법: 잔액 행을 갱신하지 않고 증감을 point_ledger에 추가만 함
+ * - 적립/환불: 잔액 확인이 필요 없으므로 락 없이 INSERT → 포인트를 많이 쓰는 사용자도 users 행에 줄 서지 않음
+ * - 사용/회수: 잔액 >= 금액일 때만 추가하는 조건부 INSERT (같은 사용자의 차감끼리만 분산 락으로 직렬화)
+ * - 잔액: 최신 스냅샷 + 스냅샷 이후 증감 합계 (PointSnapshotCompactor가 스냅샷을 주기적으로 전진)
+ * - users.point_balance는 원장 시작 잔액으로만 사용 (원장 모드에서는 갱신하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService implements PointService {
+
+    private final UserRepository userRepository;
+    private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+
+    @Override
+    @Transactional
+    @DistributedLock(key = "'user:point:' + #userId", waitTime = 5, leaseTime = 3)
+    public void usePoints(Long userId, Long points, Long orderId) {
+        log.info("[V2-Ledger] 포인트 사용 시작 (조건부 추가) - 사용자 ID: {}, 사용 포인트: {}", userId, points);
+
+        debit(userId, PointType.USE, points, orderId);
+
+        log.info("[V2-Ledger] 포인트 사용 완료 - 사용자 ID: {}", userId);
+    }
+
+    @Override
+    @Transactional
+    public void earnPoints(Long userId, Long points, Long orderId) {
+        log.info("[V2-Ledger] 포인트 적립 (락 없음) - 사용자 ID: {}, 적립 포인트: {}", userId, points);
+
+        credit(userId, PointType.EARN, points, orderId);
+    }
+
+    @Override
+    @Transactional
+    public void refundPoints(Long userId, Long points, Long orderId) {
+        log.info("[V2-Ledger] 포인트 환불 (락 없음) - 사용자 ID: {}, 환불 포인트: {}", userId, points);
+
+        credit(userId, PointType.REFUND, points, orderId);
+    }
+
+    @Override
+    @Transactional
+    @DistributedLock(key = "'user:point:' + #userId", waitTime = 5, leaseTime = 3)
+    public void revokeEarnedPoints(Long userId, Long points, Long orderId) {
+        log.info("[V2-Ledger] 적립 포인트 회수 시작 (조건부 추가) - 사용자 ID: {}, 회수 포인트: {}", userId, points);
+
+        debit(userId, PointType.REVOKE, points, orderId);
+
+        log.info("[V2-Ledger] 적립 포인트 회수 완료 - 사용자 ID: {}", userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long getBalance(Long userId) {
+        return pointLedgerJdbcRepository.findBalance(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+    }
+
+    /**
+     * 사용자 락 없이 INSERT IGNORE 배치 한 번으로 추가 - (order_id, type) 유니크 제약으로 이미 적립된 주문은 무시
+     */
+    @Override
+    @Transactional
+    public Set<Long> earnPointsBatch(List<Earning> earnings) {
+        earnings.forEach(earning -> validateAmount(earning.points()));
+
+        pointLedgerJdbcRepository.appendAllIgnoringDuplicates(PointType.EARN, earnings.stream()
+            .map(earning -> new LedgerAppend(earning.userId(), earning.points(), earning.orderId()))
+            .toList());
+
+        log.info("[V2-Ledger] 포인트 일괄 적립 (락 없음) - 건수: {}", earnings.size());
+        return earnings.stream().map(Earning::orderId).collect(Collectors.toSet());
+    }
+
+    private void credit(Long userId, PointType type, Long points, Long orderId) {
+        validateAmount(points);
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+        }
+        pointLedgerJdbcRepository.append(userId, type, points, orderId);
+    }
+
+    private void debit(Long userId, PointType type, Long points, Long orderId) {
+        validateAmount(points);
+        if (pointLedgerJdbcRepository.appendIfSufficient(userId, type, -points, orderId, points)) {
+            return;
+        }
+
+        // 추가되지 않음 → 사용자가 없거나 잔액 부족
+        Long balance = getBalance(userId);
+        throw new IllegalStateException(
+            String.format("포인트가 부족합니다. 현재: %d, 필요: %d", balance, points)
+        );
+    }
+
+    private void validateAmount(Long points) {
+        if (points == null || points <= 0) {
+            throw new IllegalArgumentException("포인트는 0보다 커야 합니다: " + points);
+        }
+    }
+}
@@ -1,36 +1,57 @@
 package com.concurrency.shop.service.v2;
 
 import com.concurrency.shop.domain.point.PointHistory;
+import com.concurrency.shop.domain.point.PointHistoryJdbcRepository;
 import com.concurrency.shop.domain.point.PointHistoryRepository;
 import com.concurrency.shop.domain.point.PointType;
 import com.concurrency.shop.domain.user.User;
 import com.concurrency.shop.domain.user.UserRepository;
 import com.concurrency.shop.lock.DistributedLock;
+import com.concurrency.shop.lock.RedisLockService;
+import com.concurrency.shop.service.PointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * V2: 동시성 처리가 적용된 포인트 관리 서비스
  * 해결 방법: Redis 분산 락 사용
  * - 사용자별로 Redis 분산 락을 걸어 동시 접근 방지
+ * - 잔액 변경은 사용자 행도 비관적 락으로 조회 → 바깥 트랜잭션(주문 취소 등)에서 호출되어 분산 락이 커밋 전에 풀려도
+ *   커밋까지 행 락으로 직렬화 (이력 INSERT의 FK 공유 락 → 갱신 시 교착도 방지)
+ * - 포인트 이력은 PointHistoryWriter로 기록 (shop.point.history.mode에 따라 즉시/비동기 배치/커밋 시 배치)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class PointServiceV2 {
+public class PointServiceV2 implements PointService {
 
     private final UserRepository userRepository;
     private final PointHistoryRepository pointHistoryRepository;
+    private final RedisLockService redisLockService;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointHistoryJdbcRepository pointHistoryJdbcRepository;
 
+    @Override
     @Transactional
     @DistributedLock(key = "'user:point:' + #userId", waitTime = 5, leaseTime = 3)
     public void usePoints(Long userId, Long points, Long orderId) {
         log.info("[V2] 포인트 사용 시작 (분산 락) - 사용자 ID: {}, 사용 포인트: {}", userId, points);
 
-        var user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        var user = lockUser(userId);
 
         log.info("[V2] 분산 락 획득 완료 - 현재 포인트 잔액: {}", user.getPointBalance());
 
@@ -39,42 +60,166 @@ public class PointServiceV2 {
 
         // 포인트 사용 이력 저장
         var history = new PointHistory(user, PointType.USE, points, user.getPointBalance(), orderId);
-        pointHistoryRepository.save(history);
+        pointHistoryWriter.write(history);
 
         log.info("[V2] 포인트 사용 완료 - 남은 포인트: {}", user.getPointBalance());
     }
 
+    @Override
     @Transactional
     @DistributedLock(key = "'user:point:' + #userId", waitTime = 5, leaseTime = 3)
     public void earnPoints(Long userId, Long points, Long orderId) {
         log.info("[V2] 포인트 적립 시작 (분산 락) - 사용자 ID: {}, 적립 포인트: {}", userId, points);
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        User user = lockUser(userId);
 
         user.addPoints(points);
 
         // 포인트 적립 이력 저장
         PointHistory history = new PointHistory(user, PointType.EARN, points, user.getPointBalance(), orderId);
-        pointHistoryRepository.save(history);
+        pointHistoryWriter.write(history);
 
         log.info("[V2] 포인트 적립 완료 - 적립 후 포인트: {}", user.getPointBalance());
     }
 
+    @Override
     @Transactional
     @DistributedLock(key = "'user:point:' + #userId", waitTime = 5, leaseTime = 3)
     public void refundPoints(Long userId, Long points, Long orderId) {
         log.info("[V2] 포인트 환불 시작 (분산 락) - 사용자 ID: {}, 환불 포인트: {}", userId, points);
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        User user = lockUser(userId);
 
         user.addPoints(points);
 
         // 포인트 환불 이력 저장
         PointHistory history = new PointHistory(user, PointType.REFUND, points, user.getPointBalance(), orderId);
-        pointHistoryRepository.save(history);
+        pointHistoryWriter.write(history);
 
         log.info("[V2] 포인트 환불 완료 - 환불 후 포인트: {}", user.getPointBalance());
     }
+
+    @Override
+    @Transactional
+    @DistributedLock(key = "'user:point:' + #userId", waitTime = 5, leaseTime = 3)
+    public void revokeEarnedPoints(Long userId, Long points, Long orderId) {
+        log.info("[V2] 적립 포인트 회수 시작 (분산 락) - 사용자 ID: {}, 회수 포인트: {}", userId, points);
+
+        User user = lockUser(userId);
+
+        user.usePoints(points);
+
+        // 포인트 회수 이력 저장
+        PointHistory history = new PointHistory(user, PointType.REVOKE, points, user.getPointBalance(), orderId);
+        pointHistoryWriter.write(history);
+
+        log.info("[V2] 적립 포인트 회수 완료 - 회수 후 포인트: {}", user.getPointBalance());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long getBalance(Long userId) {
+        return userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId))
+            .getPointBalance();
+    }
+
+    /**
+     * 사용자별로 분산 락을 한 번만 잡고 그 사용자의 적립을 합산 반영
+     * - 이미 EARN 이력이 있는 주문은 건너뜀 (재처리해도 중복 적립 없음)
+     * - 락은 트랜잭션이 끝난 뒤 해제 (커밋 전에 풀면 usePoints가 반영 전 잔액을 읽고 덮어씀)
+     * - 락을 얻지 못한 사용자의 적립은 반환 목록에서 빠져 다음에 다시 시도
+     */
+    @Override
+    @Transactional
+    public Set<Long> earnPointsBatch(List<Earning> earnings) {
+        Set<Long> applied = new HashSet<>(pointHistoryRepository.findOrderIdsByTypeAndOrderIdIn(
+            PointType.EARN, earnings.stream().map(Earning::orderId).toList()));
+
+        Map<Long, List<Earning>> earningsByUser = earnings.stream()
+            .filter(earning -> !applied.contains(earning.orderId()))
+            .collect(Collectors.groupingBy(Earning::userId, TreeMap::new, Collectors.toList()));
+
+        earningsByUser.forEach((userId, userEarnings) -> {
+            String lockKey = "user:point:" + userId;
+            if (!redisLockService.tryLock(lockKey, 1, 3, TimeUnit.SECONDS)) {
+                log.warn("[V2] 포인트 일괄 적립 보류 (락 획득 실패) - 사용자 ID: {}, 건수: {}", userId, userEarnings.size());
+                return;
+            }
+            unlockAfterCompletion(lockKey);
+
+            // 락 점유 시간이 만료되어 다른 릴레이와 겹쳐도 행 락으로 직렬화 (이력 INSERT의 FK 공유 락 → 갱신 시 교착 방지)
+            User user = userRepository.findByIdWithPessimisticLock(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+
+            for (Earning earning : userEarnings) {
+                user.addPoints(earning.points());
+                pointHistoryWriter.write(
+                    new PointHistory(user, PointType.EARN, earning.points(), user.getPointBalance(), earning.orderId()));
+                applied.add(earning.orderId());
+            }
+
+            log.info("[V2] 포인트 일괄 적립 완료 - 사용자 ID: {}, 건수: {}, 적립 후 포인트: {}",
+                userId, userEarnings.size(), user.getPointBalance());
+        });
+
+        return applied;
+    }
+
+    /**
+     * 같은 사용자의 포인트 작업 여러 건을 한 트랜잭션에서 순서대로 반영 (CombiningPointService 전용)
+     * - 잔액 갱신 1회 + 이력 배치 INSERT 1회
+     * - 잔액이 부족한 작업만 거절하고 나머지는 반영
+     * - 호출자가 사용자 포인트 락을 보유한 상태에서 호출해야 함 (행 락은 락 만료 대비)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<BatchResult> applyBatch(Long userId, List<BatchOperation> operations) {
+        User user = userRepository.findByIdWithPessimisticLock(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+
+        List<PointHistory> histories = new ArrayList<>(operations.size());
+        List<BatchResult> results = new ArrayList<>(operations.size());
+        for (BatchOperation operation : operations) {
+            try {
+                if (operation.type() == PointType.USE || operation.type() == PointType.REVOKE) {
+                    user.usePoints(operation.points());
+                } else {
+                    user.addPoints(operation.points());
+                }
+            } catch (IllegalStateException e) {
+                results.add(new BatchResult(null, e));
+                continue;
+            }
+            histories.add(new PointHistory(user, operation.type(), operation.points(), user.getPointBalance(), operation.orderId()));
+            results.add(new BatchResult(user.getPointBalance(), null));
+        }
+        pointHistoryJdbcRepository.insertAll(histories);
+
+        log.info("[V2] 포인트 작업 일괄 반영 - 사용자 ID: {}, 요청: {}, 반영: {}, 반영 후 포인트: {}",
+            userId, operations.size(), histories.size(), user.getPointBalance());
+        return results;
+    }
+
+    public record BatchOperation(PointType type, Long points, Long orderId) {
+    }
+
+    /**
+     * balanceAfter: 반영 후 잔액 (거절 시 null), rejection: 잔액 부족으로 거절된 경우의 예외
+     */
+    public record BatchResult(Long balanceAfter, IllegalStateException rejection) {
+    }
+
+    private void unlockAfterCompletion(String lockKey) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                redisLockService.unlock(lockKey);
+            }
+        });
+    }
+
+    private User lockUser(Long userId) {
+        return userRepository.findByIdWithPessimisticLock(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+    }
 }
@@ -0,0 +1,74 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.point.PointLedgerJdbcRepository;
+import com.concurrency.shop.domain.point.PointLedgerJdbcRepository.SnapshotDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * V2: 포인트 원장 압축 - 스냅샷 이후 쌓인 증감을 합산해 스냅샷을 전진
+ * - 잔액 조회가 읽는 원장 행 수를 (압축 주기 동안 쌓인 증감 수) 수준으로 유지
+ * - IDENTITY ID는 INSERT 순서로 발급되지만 커밋 순서는 다를 수 있음 → 압축 대상 조회를 잠금 읽기로 해서
+ *   상한 이하에 아직 커밋되지 않은 행이 있으면 커밋될 때까지 기다렸다가 함께 합산 (스냅샷이 미커밋 행을 건너뛰지 않음)
+ * - safety-lag 이전에 추가된 원장까지만 압축: 정확성이 아니라 진행 중인 트랜잭션을 기다리는 일이 거의 없도록 하는 여유
+ * - 상한까지 남은 대상이 없음을 확인하면 전역 워터마크를 상한으로 전진 → 다음 압축은 워터마크 이후 구간만 읽음
+ *   (다른 인스턴스와 경합해 전진하지 못한 사용자가 남아 있으면 다음 배치에서 다시 조회되므로 그때는 전진하지 않음)
+ */
+@Slf4j
+@Component
+public class PointSnapshotCompactor {
+
+    private final PointLedgerJdbcRepository pointLedgerJdbcRepository;
+    private final long safetyLagSeconds;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public PointSnapshotCompactor(PointLedgerJdbcRepository pointLedgerJdbcRepository,
+                                  @Value("${shop.point.ledger.safety-lag-seconds:60}") long safetyLagSeconds,
+                                  @Value("${shop.point.ledger.compact-batch-size:500}") int batchSize,
+                                  @Value("${shop.point.ledger.compact-max-batches:20}") int maxBatches) {
+        this.pointLedgerJdbcRepository = pointLedgerJdbcRepository;
+        this.safetyLagSeconds = safetyLagSeconds;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${shop.point.ledger.compact-interval-ms:5000}")
+    public void compact() {
+        compactBefore(LocalDateTime.now().minusSeconds(safetyLagSeconds));
+    }
+
+    /**
+     * createdAt 이전에 추가된 원장까지 스냅샷에 반영
+     * @return 스냅샷을 전진시킨 사용자 수 (다른 인스턴스와 경합해 건너뛴 사용자 포함)
+     */
+    public int compactBefore(LocalDateTime createdAt) {
+        long watermark = pointLedgerJdbcRepository.findCompactionWatermark();
+        long maxEntryId = pointLedgerJdbcRepository.findMaxEntryIdBefore(watermark, createdAt);
+        if (maxEntryId <= watermark) {
+            return 0;
+        }
+
+        int advanced = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<SnapshotDelta> deltas = pointLedgerJdbcRepository.findCompactionCandidates(watermark, maxEntryId, batchSize);
+            if (deltas.isEmpty()) {
+                // 상한 이하의 원장이 모두 스냅샷에 반영됨
+                pointLedgerJdbcRepository.advanceCompactionWatermark(maxEntryId);
+                break;
+            }
+            pointLedgerJdbcRepository.advanceSnapshots(deltas);
+            advanced += deltas.size();
+        }
+
+        if (advanced > 0) {
+            log.info("[V2-Ledger] 포인트 스냅샷 압축 완료 - 사용자 수: {}, 원장 ID 상한: {}", advanced, maxEntryId);
+        }
+        return advanced;
+    }
+}
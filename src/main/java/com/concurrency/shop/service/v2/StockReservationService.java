@@ -0,0 +1,225 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.product.ProductStockJdbcRepository;
+import com.concurrency.shop.domain.reservation.ReservationStatus;
+import com.concurrency.shop.domain.reservation.StockReservation;
+import com.concurrency.shop.domain.reservation.StockReservationRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.service.StockService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * V2: 재고 예약 서비스 - 결제 전까지 재고를 TTL 동안 확보
+ * - 예약: 재고를 즉시 차감(StockServiceV2)하고 만료 시각과 함께 예약 저장
+ * - 확정: 만료 전 RESERVED 상태일 때만 조건부 UPDATE로 확정 (행 락 없이 한 문장)
+ * - 만료: 만료 예약을 SKIP LOCKED로 묶어 잠그고, 상품별로 합산한 수량을 배치 UPDATE 한 번으로 복구
+ * - 주문 접수 선점: 접수증별로 예약을 기록하고 주문 트랜잭션에서 확정 (확정 전 장애로 남은 선점도 만료 후 복구)
+ *   선점 재고는 주문 재고 서비스(shop.order.v2.stock-service)로 차감했으므로 만료 복구도 같은 서비스로 반환
+ * 예약 API는 products 행을 직접 차감하므로 주문 재고 서비스가 Redis/메모리 재고(V3, V4)이면 거부
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+    private final StockServiceV2 stockServiceV2;
+    private final StripedStockService stripedStockService;
+    private final Map<String, StockService> stockServices;
+
+    @Value("${shop.order.v2.stock-service:stockServiceV2}")
+    private String orderStockServiceName;
+
+    @Value("${shop.stock.reservation.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${shop.order.intake.reservation-ttl-seconds:600}")
+    private long ticketTtlSeconds;
+
+    private StockService orderStockService;
+
+    @PostConstruct
+    void selectOrderStockService() {
+        orderStockService = stockServices.get(orderStockServiceName);
+        if (orderStockService == null) {
+            throw new IllegalStateException(
+                "재고 서비스를 찾을 수 없습니다: " + orderStockServiceName + " (사용 가능: " + stockServices.keySet() + ")");
+        }
+    }
+
+    @Transactional
+    public StockReservation reserve(Long userId, Long productId, Integer quantity) {
+        log.info("[V2-Reservation] 재고 예약 시작 - 사용자 ID: {}, 상품 ID: {}, 수량: {}", userId, productId, quantity);
+
+        if (orderStockService.isStockCached()) {
+            throw new IllegalStateException(
+                "재고 예약은 재고를 Redis/메모리에서 관리하는 주문 재고 서비스와 함께 쓸 수 없습니다: " + orderStockServiceName);
+        }
+
+        if (quantity == null || quantity < 1) {
+            throw new IllegalArgumentException("예약 수량은 1 이상이어야 합니다: " + quantity);
+        }
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+
+        // 비관적 락(또는 재고 분할)으로 재고 차감 후 최신 상품 조회
+        stockServiceV2.decreaseStock(productId, quantity);
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+
+        StockReservation reservation = stockReservationRepository.save(
+            new StockReservation(user, product, quantity, LocalDateTime.now().plusSeconds(ttlSeconds)));
+
+        log.info("[V2-Reservation] 재고 예약 완료 - 예약 ID: {}, 만료 시각: {}", reservation.getId(), reservation.getExpiresAt());
+        return reservation;
+    }
+
+    @Transactional
+    public void confirm(Long reservationId) {
+        if (stockReservationRepository.changeStatusIfNotExpired(
+            reservationId, ReservationStatus.RESERVED, ReservationStatus.CONFIRMED, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("확정할 수 없는 예약입니다 (없음/만료/취소/확정됨): " + reservationId);
+        }
+        log.info("[V2-Reservation] 예약 확정 - 예약 ID: {}", reservationId);
+    }
+
+    @Transactional
+    public void cancel(Long reservationId) {
+        StockReservation reservation = stockReservationRepository.findById(reservationId)
+            .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다: " + reservationId));
+
+        if (stockReservationRepository.changeStatusIfNotExpired(
+            reservationId, ReservationStatus.RESERVED, ReservationStatus.CANCELLED, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("취소할 수 없는 예약입니다 (만료/취소/확정됨): " + reservationId);
+        }
+
+        restoreStock(Map.of(reservation.getProduct().getId(), reservation.getQuantity().longValue()));
+        log.info("[V2-Reservation] 예약 취소 - 예약 ID: {}, 복구 수량: {}", reservationId, reservation.getQuantity());
+    }
+
+    /**
+     * 주문 접수 재고 선점 기록 - 상품별 예약 저장 (재고는 호출한 트랜잭션에서 이미 차감)
+     */
+    @Transactional
+    public void recordTicket(String ticketId, Long userId, Map<Long, Integer> quantities) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusSeconds(ticketTtlSeconds);
+        User user = userRepository.getReferenceById(userId);
+        List<StockReservation> reservations = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> reservations.add(
+            new StockReservation(user, productRepository.getReferenceById(productId), quantity, expiresAt, ticketId)));
+        stockReservationRepository.saveAll(reservations);
+    }
+
+    /**
+     * 만료 전 선점이 남아 있는 접수증 ID (재전달된 접수증은 재고를 다시 선점하지 않고 재사용)
+     */
+    @Transactional(readOnly = true)
+    public List<String> findReservedTickets(Collection<String> ticketIds) {
+        return stockReservationRepository.findTicketIdsByStatus(ticketIds, ReservationStatus.RESERVED, LocalDateTime.now());
+    }
+
+    /**
+     * 접수증 선점 확정 - 주문 저장과 같은 트랜잭션에서 호출
+     */
+    @Transactional
+    public void confirmTicket(String ticketId) {
+        if (stockReservationRepository.changeTicketStatusIfNotExpired(
+            ticketId, ReservationStatus.RESERVED, ReservationStatus.CONFIRMED, LocalDateTime.now()) == 0) {
+            throw new IllegalStateException("확정할 수 있는 선점 재고가 없습니다 (만료/반환/확정됨) - 접수증: " + ticketId);
+        }
+    }
+
+    /**
+     * 접수증 선점 취소 - 재고 복구는 호출한 쪽에서 반환된 수량으로 처리
+     *
+     * @return 취소한 상품별 수량 (이미 확정/만료/취소된 선점은 제외)
+     */
+    @Transactional
+    public Map<Long, Integer> cancelTicket(String ticketId) {
+        List<Object[]> reserved = stockReservationRepository.lockReservedByTicketId(ticketId);
+        if (reserved.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> reservationIds = new ArrayList<>(reserved.size());
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (Object[] row : reserved) {
+            reservationIds.add(((Number) row[0]).longValue());
+            quantities.merge(((Number) row[1]).longValue(), ((Number) row[2]).intValue(), Integer::sum);
+        }
+        stockReservationRepository.updateStatus(reservationIds, ReservationStatus.CANCELLED);
+        return quantities;
+    }
+
+    /**
+     * 만료된 예약을 최대 batchSize건 만료 처리하고 재고 복구
+     * - 예약 행 조회/잠금 1회 + 상품별 재고 배치 UPDATE 1회 + 상태 UPDATE 1회
+     * - 접수증 선점은 주문 재고 서비스의 increaseStock으로 반환 (OrderServiceV2.releaseStocks와 같은 경로,
+     *   Redis/메모리 재고 서비스는 커밋 후 반영)
+     *
+     * @return 만료 처리한 예약 수
+     */
+    @Transactional
+    public int expireBatch(int batchSize) {
+        List<Object[]> expired = stockReservationRepository.lockExpired(LocalDateTime.now(), batchSize);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> reservationIds = new ArrayList<>(expired.size());
+        Map<Long, Long> deltasByProductId = new TreeMap<>();
+        Map<Long, Integer> ticketQuantities = new TreeMap<>();
+        for (Object[] row : expired) {
+            reservationIds.add(((Number) row[0]).longValue());
+            long productId = ((Number) row[1]).longValue();
+            if (row[3] != null) {
+                ticketQuantities.merge(productId, ((Number) row[2]).intValue(), Integer::sum);
+            } else {
+                deltasByProductId.merge(productId, ((Number) row[2]).longValue(), Long::sum);
+            }
+        }
+
+        if (!deltasByProductId.isEmpty()) {
+            restoreStock(deltasByProductId);
+        }
+        ticketQuantities.forEach(orderStockService::increaseStock);
+        stockReservationRepository.updateStatus(reservationIds, ReservationStatus.EXPIRED);
+
+        log.info("[V2-Reservation] 만료 예약 일괄 처리 - 예약 수: {}, 상품 수: {}, 접수증 선점 상품 수: {}",
+            reservationIds.size(), deltasByProductId.size(), ticketQuantities.size());
+        return reservationIds.size();
+    }
+
+    /**
+     * 재고 분할 상품은 샤드에, 나머지는 products 행에 상품 ID 순 배치 UPDATE로 복구
+     */
+    private void restoreStock(Map<Long, Long> deltasByProductId) {
+        Map<Long, Long> rowDeltas = new TreeMap<>(deltasByProductId);
+        for (Long productId : productRepository.findStripedIdsByIdIn(deltasByProductId.keySet())) {
+            stripedStockService.increaseStock(productId, rowDeltas.remove(productId).intValue());
+        }
+
+        if (!rowDeltas.isEmpty()) {
+            productStockJdbcRepository.applyStockDeltas(rowDeltas);
+        }
+    }
+}
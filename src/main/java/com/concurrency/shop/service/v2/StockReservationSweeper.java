@@ -0,0 +1,42 @@
+package com.concurrency.shop.service.v2;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * V2: 만료된 재고 예약을 주기적으로 회수
+ * - 배치 단위(트랜잭션 1개)로 만료 처리, 배치가 가득 차면 바로 다음 배치 실행
+ * - 여러 인스턴스가 동시에 실행해도 SKIP LOCKED로 서로 다른 예약을 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationSweeper {
+
+    private final StockReservationService stockReservationService;
+
+    @Value("${shop.stock.reservation.sweep-batch-size:500}")
+    private int batchSize;
+
+    @Value("${shop.stock.reservation.sweep-max-batches:20}")
+    private int maxBatches;
+
+    @Scheduled(fixedDelayString = "${shop.stock.reservation.sweep-interval-ms:1000}")
+    public void sweep() {
+        int total = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            int expired = stockReservationService.expireBatch(batchSize);
+            total += expired;
+            if (expired < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("[V2-Reservation] 만료 예약 회수 완료 - 총 {}건", total);
+        }
+    }
+}
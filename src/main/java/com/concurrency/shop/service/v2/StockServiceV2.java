@@ -2,25 +2,44 @@ package com.concurrency.shop.service.v2;
 
 import com.concurrency.shop.domain.product.Product;
 import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.lock.OptimisticLockRetryExecutor;
+import com.concurrency.shop.service.StockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * V2: 동시성 처리가 적용된 재고 관리 서비스
  * 해결 방법: 비관적 락(Pessimistic Lock) 사용
  * - DB 레벨에서 SELECT FOR UPDATE로 락을 걸어 동시 접근 방지
+ * - 재고 분할(Striped)이 설정된 상품은 StripedStockService로 위임
+ * - 경합이 낮은 상품용 낙관적 락(@Version) 차감 + 재시도 경로 제공
+ * - 여러 상품 주문은 한 번의 정렬된 SELECT FOR UPDATE + 배치 UPDATE로 일괄 차감
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class StockServiceV2 {
+public class StockServiceV2 implements StockService {
 
     private final ProductRepository productRepository;
+    private final StripedStockService stripedStockService;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
+    private final TransactionTemplate transactionTemplate;
 
+    @Override
     @Transactional
     public void decreaseStock(Long productId, Integer quantity) {
+        if (stripedStockService.isStriped(productId)) {
+            stripedStockService.decreaseStock(productId, quantity);
+            return;
+        }
+
         log.info("[V2] 재고 차감 시작 (비관적 락) - 상품 ID: {}, 수량: {}", productId, quantity);
 
         // 비관적 락으로 조회 - SELECT FOR UPDATE
@@ -35,8 +54,62 @@ public class StockServiceV2 {
         log.info("[V2] 재고 차감 완료 - 남은 재고: {}", product.getStockQuantity());
     }
 
+    /**
+     * 여러 상품 재고 일괄 차감 (주문 1건의 상품 목록)
+     * 1. SELECT ... WHERE id IN (...) ORDER BY id FOR UPDATE 한 번으로 전체 잠금
+     * 2. 모든 수량을 메모리에서 먼저 검증 (하나라도 부족하면 아무것도 변경하지 않음)
+     * 3. 차감은 dirty checking으로 flush 시 하나의 JDBC 배치 UPDATE로 반영
+     * 재고 분할 상품은 StripedStockService로 위임
+     *
+     * @param quantities 상품 ID별 차감 수량 (중복 상품은 미리 합산)
+     * @return 상품 ID별 상품 (잠금 이후 조회된 최신 상태)
+     */
+    @Override
+    @Transactional
+    public Map<Long, Product> decreaseStocks(Map<Long, Integer> quantities) {
+        log.info("[V2] 재고 일괄 차감 시작 (비관적 락) - 상품 수: {}", quantities.size());
+
+        List<Product> lockedProducts = productRepository.findAllByIdInWithPessimisticLock(quantities.keySet());
+
+        for (Product product : lockedProducts) {
+            Integer quantity = quantities.get(product.getId());
+            if (product.getStockQuantity() < quantity) {
+                throw new IllegalStateException(
+                    String.format("재고가 부족합니다. 상품명: %s, 현재 재고: %d, 요청 수량: %d",
+                        product.getName(), product.getStockQuantity(), quantity)
+                );
+            }
+        }
+
+        Map<Long, Product> products = new LinkedHashMap<>();
+        for (Product product : lockedProducts) {
+            product.decreaseStock(quantities.get(product.getId()));
+            products.put(product.getId(), product);
+        }
+
+        // 잠금 결과에 없는 상품 = 재고 분할 상품 또는 존재하지 않는 상품
+        quantities.forEach((productId, quantity) -> {
+            if (!products.containsKey(productId)) {
+                stripedStockService.decreaseStock(productId, quantity);
+                products.put(productId, productRepository.findById(productId)
+                    .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId)));
+            }
+        });
+
+        log.info("[V2] 재고 일괄 차감 완료 - 잠금 상품 수: {}, 분할 상품 수: {}",
+            lockedProducts.size(), products.size() - lockedProducts.size());
+
+        return products;
+    }
+
+    @Override
     @Transactional
     public void increaseStock(Long productId, Integer quantity) {
+        if (stripedStockService.isStriped(productId)) {
+            stripedStockService.increaseStock(productId, quantity);
+            return;
+        }
+
         log.info("[V2] 재고 복구 시작 (비관적 락) - 상품 ID: {}, 수량: {}", productId, quantity);
 
         // 비관적 락으로 조회
@@ -47,4 +120,35 @@ public class StockServiceV2 {
 
         log.info("[V2] 재고 복구 완료 - 복구 후 재고: {}", product.getStockQuantity());
     }
+
+    /**
+     * 낙관적 락으로 재고 차감 - 현재 트랜잭션에서 한 번만 시도
+     * 다른 트랜잭션이 먼저 수정했다면 flush/커밋 시점에 OptimisticLockingFailureException 발생
+     */
+    @Transactional
+    public void decreaseStockOptimistic(Long productId, Integer quantity) {
+        if (stripedStockService.isStriped(productId)) {
+            stripedStockService.decreaseStock(productId, quantity);
+            return;
+        }
+
+        log.info("[V2] 재고 차감 시작 (낙관적 락) - 상품 ID: {}, 수량: {}", productId, quantity);
+
+        Product product = productRepository.findByIdWithOptimisticLock(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+
+        // 락 없이 차감 - UPDATE ... WHERE version = ? 로 충돌 감지
+        product.decreaseStock(quantity);
+
+        log.info("[V2] 재고 차감 완료 (낙관적 락) - 남은 재고: {}, 버전: {}", product.getStockQuantity(), product.getVersion());
+    }
+
+    /**
+     * 낙관적 락 재고 차감 + 충돌 시 새 트랜잭션으로 재시도 (트랜잭션 밖에서 호출)
+     */
+    public void decreaseStockWithRetry(Long productId, Integer quantity) {
+        optimisticLockRetryExecutor.executeWithoutResult("stock.decrease", () ->
+            transactionTemplate.executeWithoutResult(status -> decreaseStockOptimistic(productId, quantity))
+        );
+    }
 }
@@ -0,0 +1,158 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.product.StockShard;
+import com.concurrency.shop.domain.product.StockShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * V2: 재고 분할(Striped Inventory) 서비스 - 상품별 선택 적용
+ * 해결 방법: 상품 재고를 N개의 샤드 행으로 나눠 행 락 경합 분산
+ * - 차감: 잠금 없이 읽은 샤드 재고 중 단독으로 충분한 샤드를 임의로 골라 조건부 UPDATE 1번 (가상 스레드에서도 고르게 분산되도록 스레드 ID를 쓰지 않음)
+ * - 단독으로 충분한 샤드가 없으면 아무 샤드도 잡지 않은 상태에서 전체 샤드를 샤드 번호 순으로 잠그고 나눠서 차감
+ * - 고른 샤드의 UPDATE가 실패하면(그 사이 다른 주문이 가져감) 실패한 UPDATE가 그 샤드를 잠근 채로 남으므로,
+ *   다른 샤드는 기다리지 않고 SKIP LOCKED로 잡히는 샤드에서만 나눠서 차감
+ *   → 샤드를 잡은 채로 다른 샤드를 기다리는 경우가 없어 교착되지 않음 (초과 판매 없음)
+ *   → 재고가 거의 남지 않았을 때 다른 주문이 잡고 있는 샤드의 재고는 세지 않으므로 재고 부족으로 실패할 수 있음
+ * - 총 재고: 샤드 합계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StripedStockService {
+
+    private final ProductRepository productRepository;
+    private final StockShardRepository stockShardRepository;
+
+    public boolean isStriped(Long productId) {
+        return productRepository.findStockShardCountById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId)) > 1;
+    }
+
+    public Integer getTotalStock(Product product) {
+        if (!product.isStockStriped()) {
+            return product.getStockQuantity();
+        }
+        return stockShardRepository.sumQuantityByProductId(product.getId()).intValue();
+    }
+
+    @Transactional
+    public void decreaseStock(Long productId, Integer quantity) {
+        productRepository.findStockShardCountById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+
+        List<Integer> candidates = stockShardRepository.findQuantitiesByProductId(productId).stream()
+            .filter(row -> ((Number) row[1]).intValue() >= quantity)
+            .map(row -> ((Number) row[0]).intValue())
+            .toList();
+        if (candidates.isEmpty()) {
+            // 단일 샤드로는 부족 → 전체 샤드를 순서대로 잠그고 나눠서 차감
+            decreaseAcrossShards(productId, quantity, stockShardRepository.lockAllByProductId(productId));
+            return;
+        }
+
+        int shardNo = candidates.get(selectShard(candidates.size()));
+        if (stockShardRepository.decreaseIfAvailable(productId, shardNo, quantity) == 1) {
+            log.info("[V2-Striped] 재고 차감 완료 - 상품 ID: {}, 샤드: {}, 수량: {}", productId, shardNo, quantity);
+            return;
+        }
+
+        // 고른 샤드를 잡은 채 부족 → 다른 샤드는 기다리지 않고 잡히는 샤드에서만 나눠서 차감
+        decreaseAcrossShards(productId, quantity, stockShardRepository.lockUnlockedByProductId(productId));
+    }
+
+    @Transactional
+    public void increaseStock(Long productId, Integer quantity) {
+        int shardCount = productRepository.findStockShardCountById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+
+        int shardNo = selectShard(shardCount);
+        stockShardRepository.increase(productId, shardNo, quantity);
+
+        log.info("[V2-Striped] 재고 복구 완료 - 상품 ID: {}, 샤드: {}, 수량: {}", productId, shardNo, quantity);
+    }
+
+    /**
+     * 상품의 재고 샤드 개수 변경 (1이면 분할 해제)
+     */
+    @Transactional
+    public Integer changeShardCount(Long productId, Integer shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("재고 샤드 개수는 1 이상이어야 합니다: " + shardCount);
+        }
+
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+
+        int totalStock = product.getStockQuantity();
+        if (product.isStockStriped()) {
+            totalStock = sumLockedShards(productId);
+            stockShardRepository.deleteAllByProductId(productId);
+        }
+
+        if (shardCount == 1) {
+            product.unstripeStock(totalStock);
+        } else {
+            product.stripeStock(shardCount);
+            stockShardRepository.saveAll(splitIntoShards(product, totalStock, shardCount));
+        }
+
+        log.info("[V2-Striped] 재고 샤드 변경 - 상품 ID: {}, 샤드 수: {}, 총 재고: {}", productId, shardCount, totalStock);
+        return totalStock;
+    }
+
+    /**
+     * @param shards 잠근 샤드 - [shard_no, quantity]
+     */
+    private void decreaseAcrossShards(Long productId, Integer quantity, List<Object[]> shards) {
+        int totalStock = shards.stream().mapToInt(row -> ((Number) row[1]).intValue()).sum();
+        if (totalStock < quantity) {
+            throw new IllegalStateException(
+                String.format("재고가 부족합니다. 상품 ID: %d, 현재 재고: %d, 요청 수량: %d", productId, totalStock, quantity)
+            );
+        }
+
+        int remaining = quantity;
+        for (Object[] row : shards) {
+            int shardNo = ((Number) row[0]).intValue();
+            int taken = Math.min(((Number) row[1]).intValue(), remaining);
+            if (taken > 0) {
+                stockShardRepository.decreaseIfAvailable(productId, shardNo, taken);
+                remaining -= taken;
+            }
+            if (remaining == 0) {
+                break;
+            }
+        }
+
+        log.info("[V2-Striped] 재고 분할 차감 완료 - 상품 ID: {}, 수량: {}, 차감 전 총 재고: {}", productId, quantity, totalStock);
+    }
+
+    private int sumLockedShards(Long productId) {
+        return stockShardRepository.lockAllByProductId(productId).stream()
+            .mapToInt(row -> ((Number) row[1]).intValue())
+            .sum();
+    }
+
+    private List<StockShard> splitIntoShards(Product product, int totalStock, int shardCount) {
+        List<StockShard> shards = new ArrayList<>(shardCount);
+        int base = totalStock / shardCount;
+        int remainder = totalStock % shardCount;
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            shards.add(new StockShard(product, shardNo, base + (shardNo < remainder ? 1 : 0)));
+        }
+        return shards;
+    }
+
+    private int selectShard(int shardCount) {
+        return ThreadLocalRandom.current().nextInt(shardCount);
+    }
+}
@@ -0,0 +1,42 @@
+package com.concurrency.shop.service.v3;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * V3: 애플리케이션 기동 시 MySQL 재고로 Redis 재고 캐시 복구
+ * - DataInitializer(CommandLineRunner) 이후 실행되도록 ApplicationReadyEvent 사용
+ * - 캐시가 없는 상품만 적재 (다른 노드가 쓰고 있는 캐시는 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockCacheInitializer {
+
+    private final ProductRepository productRepository;
+    private final StockServiceV3 stockServiceV3;
+
+    @Value("${shop.stock.v3.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildStockCache() {
+        if (!rebuildOnStartup) {
+            log.info("[V3] 재고 캐시 복구 생략 (shop.stock.v3.rebuild-on-startup=false)");
+            return;
+        }
+
+        List<Product> products = productRepository.findAll();
+        int loaded = stockServiceV3.rebuildStock(products);
+
+        log.info("[V3] ✅ 재고 캐시 복구 완료 - 상품 {}개 중 신규 적재 {}개", products.size(), loaded);
+    }
+}
@@ -0,0 +1,172 @@
+package com.concurrency.shop.service.v3;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.service.StockService;
+import com.concurrency.shop.service.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * V3: Redis 원자 연산 기반 재고 관리 서비스
+ * 해결 방법: Redis Lua 스크립트로 재고 확인과 차감을 한 번에 처리
+ * - 상품 행(Row) 락 없이 재고 차감 → 인기 상품 주문이 한 행에 직렬화되지 않음
+ * - 트랜잭션 커밋 후 변경분을 StockWriteBehindFlusher가 MySQL에 배치 반영
+ * - 트랜잭션 롤백 시 Redis 재고를 원복
+ * - products.stock_quantity를 직접 바꾸는 경로와 섞이면 Redis 재고가 어긋나므로 isStockCached = true
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockServiceV3 implements StockService {
+
+    private static final String STOCK_KEY_PREFIX = "stock:product:";
+
+    private static final long RESULT_INSUFFICIENT = -1L;
+    private static final long RESULT_NOT_LOADED = -2L;
+
+    /**
+     * KEYS[1]: 재고 키, ARGV[1]: 차감 수량
+     * 반환: 차감 후 재고 (-1: 재고 부족, -2: 재고 캐시 없음)
+     */
+    private static final String DECREASE_STOCK_SCRIPT = """
+        local stock = redis.call('GET', KEYS[1])
+        if not stock then
+            return -2
+        end
+        local quantity = tonumber(ARGV[1])
+        if tonumber(stock) < quantity then
+            return -1
+        end
+        return redis.call('DECRBY', KEYS[1], quantity)
+        """;
+
+    private final RedissonClient redissonClient;
+    private final ProductRepository productRepository;
+    private final StockWriteBehindFlusher stockWriteBehindFlusher;
+
+    @Override
+    public void decreaseStock(Long productId, Integer quantity) {
+        log.info("[V3] 재고 차감 시작 (Redis Lua) - 상품 ID: {}, 수량: {}", productId, quantity);
+
+        long remaining = executeDecrease(productId, quantity);
+        if (remaining == RESULT_NOT_LOADED) {
+            loadStock(productId);
+            remaining = executeDecrease(productId, quantity);
+        }
+
+        if (remaining == RESULT_INSUFFICIENT) {
+            throw new IllegalStateException(
+                String.format("재고가 부족합니다. 상품 ID: %d, 요청 수량: %d", productId, quantity)
+            );
+        }
+        if (remaining < 0) {
+            throw new IllegalStateException("재고 캐시를 적재할 수 없습니다: " + productId);
+        }
+
+        // 커밋되면 MySQL 반영 대기열에 추가, 롤백되면 Redis 재고 원복
+        TransactionCallbacks.afterCompletion(
+            () -> stockWriteBehindFlusher.add(productId, -quantity),
+            () -> incrementCachedStock(productId, quantity)
+        );
+
+        log.info("[V3] 재고 차감 완료 - 남은 재고: {}", remaining);
+    }
+
+    @Override
+    public void increaseStock(Long productId, Integer quantity) {
+        log.info("[V3] 재고 복구 예약 - 상품 ID: {}, 수량: {}", productId, quantity);
+
+        // 복구는 커밋이 확정된 뒤에만 반영 (롤백된 취소가 재고를 늘리지 않도록)
+        TransactionCallbacks.afterCompletion(
+            () -> {
+                incrementCachedStock(productId, quantity);
+                stockWriteBehindFlusher.add(productId, quantity);
+            },
+            () -> { }
+        );
+    }
+
+    @Override
+    public Map<Long, Product> decreaseStocks(Map<Long, Integer> quantities) {
+        Map<Long, Product> products = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            decreaseStock(productId, quantity);
+            products.put(productId, productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId)));
+        });
+        return products;
+    }
+
+    /**
+     * 재고 캐시가 없는 상품만 MySQL 재고 + 미반영 변경분으로 적재 (loadStock과 같은 규칙)
+     * 이미 있는 캐시는 유지 → 재시작 중인 다른 노드의 미반영 변경분이 캐시에 남아 있으므로 MySQL 값으로 덮으면 초과 판매
+     *
+     * @return 새로 적재한 상품 수
+     */
+    public int rebuildStock(List<Product> products) {
+        RBatch batch = redissonClient.createBatch();
+        List<RFuture<Boolean>> loaded = new ArrayList<>(products.size());
+        for (Product product : products) {
+            long stock = product.getStockQuantity() + stockWriteBehindFlusher.pendingDelta(product.getId());
+            loaded.add(batch.<String>getBucket(stockKey(product.getId()), StringCodec.INSTANCE)
+                .setIfAbsentAsync(String.valueOf(stock)));
+        }
+        batch.execute();
+        return (int) loaded.stream().filter(RFuture::getNow).count();
+    }
+
+    public long getCachedStock(Long productId) {
+        String stock = redissonClient.<String>getBucket(stockKey(productId), StringCodec.INSTANCE).get();
+        return stock != null ? Long.parseLong(stock) : RESULT_NOT_LOADED;
+    }
+
+    private long executeDecrease(Long productId, Integer quantity) {
+        Long result = redissonClient.getScript(StringCodec.INSTANCE).eval(
+            RScript.Mode.READ_WRITE,
+            DECREASE_STOCK_SCRIPT,
+            RScript.ReturnType.INTEGER,
+            List.of(stockKey(productId)),
+            String.valueOf(quantity)
+        );
+        return result;
+    }
+
+    /**
+     * 재고 캐시가 없을 때 MySQL 재고 + 미반영 변경분으로 적재 (이미 있으면 유지)
+     */
+    private void loadStock(Long productId) {
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+
+        long stock = product.getStockQuantity() + stockWriteBehindFlusher.pendingDelta(productId);
+        boolean loaded = redissonClient.<String>getBucket(stockKey(productId), StringCodec.INSTANCE)
+            .setIfAbsent(String.valueOf(stock));
+
+        log.info("[V3] 재고 캐시 적재 - 상품 ID: {}, 재고: {}, 신규 적재: {}", productId, stock, loaded);
+    }
+
+    @Override
+    public boolean isStockCached() {
+        return true;
+    }
+
+    private void incrementCachedStock(Long productId, Integer quantity) {
+        redissonClient.getAtomicLong(stockKey(productId)).addAndGet(quantity);
+    }
+
+    private String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.concurrency.shop.service.v3;
+
+import com.concurrency.shop.domain.product.ProductStockJdbcRepository;
+import com.concurrency.shop.service.WriteBehindFlusher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * V3: Redis에서 확정된 재고 변경분을 MySQL에 비동기로 반영 (Write-Behind)
+ * - 커밋된 주문의 재고 증감분을 상품별로 합산해 두었다가 주기적으로 배치 UPDATE
+ */
+@Component
+public class StockWriteBehindFlusher extends WriteBehindFlusher {
+
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+
+    public StockWriteBehindFlusher(ProductStockJdbcRepository productStockJdbcRepository) {
+        super("[V3] 재고 변경분", "상품");
+        this.productStockJdbcRepository = productStockJdbcRepository;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${shop.stock.v3.flush-interval-ms:200}")
+    public void flush() {
+        super.flush();
+    }
+
+    @Override
+    protected void apply(Map<Long, Long> deltasById) {
+        productStockJdbcRepository.applyStockDeltas(deltasById);
+    }
+}
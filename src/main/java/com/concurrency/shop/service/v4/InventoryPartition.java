@@ -0,0 +1,213 @@
+package com.concurrency.shop.service.v4;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.product.ProductStockJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * V4: 재고 엔진 파티션 - 단일 스레드 이벤트 루프
+ * - 자신에게 배정된 상품의 재고를 메모리(HashMap)에 보관하고 이 스레드만 읽고 씀 → 락 불필요
+ * - 처음 접근한 상품은 MySQL에서 재고를 적재
+ * - 적용한 변경분을 모아 commitInterval 또는 commitBatchSize마다 한 번의 배치 UPDATE로 커밋 (Group Commit)
+ * - 커밋이 끝난 명령의 future만 완료, 커밋 실패 시 해당 상품 캐시를 버리고 명령을 실패 처리
+ * - 이벤트 루프가 끝난 뒤 들어온 명령은 처리되지 않으므로 즉시 실패 처리 (호출자가 무한 대기하지 않도록)
+ */
+@Slf4j
+final class InventoryPartition implements Runnable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int partitionNo;
+    private final MpscRingBuffer<StockCommand> commands;
+    private final ProductRepository productRepository;
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+    private final int commitBatchSize;
+    private final long commitIntervalNanos;
+
+    // 이벤트 루프 스레드 전용 상태
+    private final Map<Long, Long> stocks = new HashMap<>();
+    private final Map<Long, Long> pendingDeltas = new HashMap<>();
+    private final List<StockCommand> pendingCommands = new ArrayList<>();
+    private long firstPendingAt;
+
+    private volatile boolean running = true;
+    private volatile boolean terminated;
+    private final ReentrantLock rejectLock = new ReentrantLock();
+    private volatile Thread thread;
+
+    InventoryPartition(int partitionNo, int ringBufferSize, ProductRepository productRepository,
+                       ProductStockJdbcRepository productStockJdbcRepository, int commitBatchSize, long commitIntervalMs) {
+        this.partitionNo = partitionNo;
+        this.commands = new MpscRingBuffer<>(ringBufferSize);
+        this.productRepository = productRepository;
+        this.productStockJdbcRepository = productStockJdbcRepository;
+        this.commitBatchSize = commitBatchSize;
+        this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(commitIntervalMs);
+    }
+
+    void start() {
+        Thread loop = new Thread(this, "stock-engine-" + partitionNo);
+        loop.setDaemon(true);
+        this.thread = loop;
+        loop.start();
+    }
+
+    /**
+     * 남은 명령을 모두 처리/커밋한 뒤 종료
+     */
+    void stop(long timeoutMs) throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(timeoutMs);
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 생산자(요청 스레드)용 - 링 버퍼가 가득 차면 false
+     */
+    boolean offer(StockCommand command) {
+        if (!commands.offer(command)) {
+            return false;
+        }
+        if (terminated) {
+            // 이벤트 루프가 마지막으로 비운 뒤에 들어온 명령
+            rejectRemaining();
+        } else {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    @Override
+    public void run() {
+        log.info("[V4] 재고 엔진 파티션 시작 - 파티션: {}", partitionNo);
+
+        while (running || !commands.isEmpty() || !pendingCommands.isEmpty()) {
+            int processed = drainCommands();
+
+            if (shouldCommit()) {
+                commit();
+            } else if (processed == 0) {
+                LockSupport.parkNanos(pendingCommands.isEmpty()
+                    ? IDLE_PARK_NANOS
+                    : Math.max(0, firstPendingAt + commitIntervalNanos - System.nanoTime()));
+            }
+        }
+
+        terminated = true;
+        rejectRemaining();
+        log.info("[V4] 재고 엔진 파티션 종료 - 파티션: {}", partitionNo);
+    }
+
+    /**
+     * 종료 후 남은 명령 실패 처리 - 이벤트 루프가 끝난 뒤에는 생산자들이 소비자가 되므로 한 번에 한 스레드만 꺼냄
+     */
+    private void rejectRemaining() {
+        rejectLock.lock();
+        try {
+            StockCommand command;
+            while ((command = commands.poll()) != null) {
+                command.future().completeExceptionally(new IllegalStateException("재고 엔진이 종료되었습니다"));
+            }
+        } finally {
+            rejectLock.unlock();
+        }
+    }
+
+    private int drainCommands() {
+        int processed = 0;
+        StockCommand command;
+        while (pendingCommands.size() < commitBatchSize && (command = commands.poll()) != null) {
+            apply(command);
+            processed++;
+        }
+        return processed;
+    }
+
+    private void apply(StockCommand command) {
+        try {
+            long stock = currentStock(command.productId());
+            long delta = command.delta();
+            if (stock + delta < 0) {
+                command.future().completeExceptionally(new IllegalStateException(
+                    String.format("재고가 부족합니다. 상품 ID: %d, 현재 재고: %d, 요청 수량: %d",
+                        command.productId(), stock, command.quantity())
+                ));
+                return;
+            }
+
+            stocks.put(command.productId(), stock + delta);
+            pendingDeltas.merge(command.productId(), delta, Long::sum);
+            if (pendingCommands.isEmpty()) {
+                firstPendingAt = System.nanoTime();
+            }
+            pendingCommands.add(command);
+        } catch (RuntimeException e) {
+            command.future().completeExceptionally(e);
+        }
+    }
+
+    private long currentStock(Long productId) {
+        Long stock = stocks.get(productId);
+        if (stock != null) {
+            return stock;
+        }
+
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        if (product.isStockStriped()) {
+            throw new IllegalStateException("재고 분할 상품은 재고 엔진(V4)에서 처리할 수 없습니다: " + productId);
+        }
+
+        log.debug("[V4] 재고 적재 - 파티션: {}, 상품 ID: {}, 재고: {}", partitionNo, productId, product.getStockQuantity());
+        stocks.put(productId, product.getStockQuantity().longValue());
+        return product.getStockQuantity();
+    }
+
+    private boolean shouldCommit() {
+        if (pendingCommands.isEmpty()) {
+            return false;
+        }
+        return !running
+            || pendingCommands.size() >= commitBatchSize
+            || System.nanoTime() - firstPendingAt >= commitIntervalNanos;
+    }
+
+    private void commit() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingDeltas.forEach((productId, delta) -> {
+            if (delta != 0L) {
+                deltas.put(productId, delta);
+            }
+        });
+
+        try {
+            if (!deltas.isEmpty()) {
+                productStockJdbcRepository.applyStockDeltas(deltas);
+            }
+            pendingCommands.forEach(command -> command.future().complete(null));
+            log.debug("[V4] 그룹 커밋 완료 - 파티션: {}, 명령 수: {}, 상품 수: {}",
+                partitionNo, pendingCommands.size(), deltas.size());
+        } catch (RuntimeException e) {
+            log.error("[V4] 그룹 커밋 실패 - 파티션: {}, 명령 수: {}", partitionNo, pendingCommands.size(), e);
+            // 메모리 재고가 MySQL과 달라졌으므로 다음 접근 때 다시 적재
+            stocks.keySet().removeAll(pendingDeltas.keySet());
+            pendingCommands.forEach(command -> command.future().completeExceptionally(e));
+        } finally {
+            pendingDeltas.clear();
+            pendingCommands.clear();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.concurrency.shop.service.v4;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다중 생산자 / 단일 소비자(MPSC) 락 프리 링 버퍼
+ * - 생산자: tail CAS로 슬롯을 확보한 뒤 원소를 쓰고 슬롯 시퀀스를 공개
+ * - 소비자: 슬롯 시퀀스로 공개 여부를 확인하므로 head는 소비자 스레드만 변경
+ * - 크기는 2의 거듭제곱, 가득 차면 offer가 false 반환
+ */
+public final class MpscRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 생산자용 - 여러 스레드에서 동시에 호출 가능
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (available < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 소비자용 - 한 스레드에서만 호출, 비어 있거나 아직 공개되지 않은 슬롯이면 null
+     */
+    public E poll() {
+        int index = (int) (head & mask);
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.set(index, head + mask + 1);
+        head++;
+        return element;
+    }
+
+    /**
+     * 소비자용 - 확보되었지만 아직 소비되지 않은 슬롯이 없는지
+     */
+    public boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
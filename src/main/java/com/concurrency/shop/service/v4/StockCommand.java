@@ -0,0 +1,19 @@
+package com.concurrency.shop.service.v4;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * V4: 재고 엔진 파티션에 전달되는 명령
+ * - future는 변경분이 MySQL에 커밋된 뒤 완료
+ */
+record StockCommand(Type type, Long productId, int quantity, CompletableFuture<Void> future) {
+
+    enum Type {
+        DECREASE,
+        INCREASE
+    }
+
+    long delta() {
+        return type == Type.DECREASE ? -quantity : quantity;
+    }
+}
@@ -0,0 +1,210 @@
+package com.concurrency.shop.service.v4;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.product.ProductStockJdbcRepository;
+import com.concurrency.shop.service.StockService;
+import com.concurrency.shop.service.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * V4: 단일 쓰기 스레드(Single Writer) 인메모리 재고 엔진
+ * 해결 방법: 상품을 고정된 개수의 파티션(단일 스레드 이벤트 루프)에 나눠 배정
+ * - 요청 스레드는 락 프리 링 버퍼에 명령만 넣고, 재고 확인/차감은 담당 파티션 스레드가 메모리에서 처리
+ * - 변경분은 파티션별로 모아 MySQL에 그룹 커밋, 호출자는 커밋이 끝난 뒤에 반환
+ * - 주문 트랜잭션이 롤백되면 차감분을 엔진에 다시 복구 명령으로 전달
+ *
+ * 주의: 엔진이 적재한 상품의 재고는 엔진만 변경해야 함 (다른 버전이 같은 상품을 차감하면 메모리 재고가 어긋남)
+ * - products.stock_quantity를 직접 바꾸는 낙관적 락 주문과 재고 예약 API는 이 구현이 선택되면 거부 (isStockCached)
+ * - V1 주문(StockServiceV1)과 재고 분할 상품은 엔진을 거치지 않으므로 같은 상품에 섞어 쓰지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockServiceV4 implements StockService {
+
+    private final ProductRepository productRepository;
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+
+    @Value("${shop.stock.v4.partitions:4}")
+    private int partitionCount;
+
+    @Value("${shop.stock.v4.ring-buffer-size:4096}")
+    private int ringBufferSize;
+
+    @Value("${shop.stock.v4.commit-interval-ms:5}")
+    private long commitIntervalMs;
+
+    @Value("${shop.stock.v4.commit-batch-size:256}")
+    private int commitBatchSize;
+
+    @Value("${shop.stock.v4.await-timeout-ms:5000}")
+    private long awaitTimeoutMs;
+
+    private InventoryPartition[] partitions;
+
+    @PostConstruct
+    public void start() {
+        partitions = new InventoryPartition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new InventoryPartition(
+                i, ringBufferSize, productRepository, productStockJdbcRepository, commitBatchSize, commitIntervalMs);
+            partitions[i].start();
+        }
+        log.info("[V4] 재고 엔진 시작 - 파티션 수: {}, 링 버퍼 크기: {}", partitionCount, ringBufferSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        log.info("[V4] 종료 전 남은 재고 명령 처리");
+        for (InventoryPartition partition : partitions) {
+            partition.stop(awaitTimeoutMs);
+        }
+    }
+
+    @Override
+    public void decreaseStock(Long productId, Integer quantity) {
+        log.info("[V4] 재고 차감 요청 (재고 엔진) - 상품 ID: {}, 수량: {}", productId, quantity);
+
+        CompletableFuture<Void> future = submit(StockCommand.Type.DECREASE, productId, quantity);
+        try {
+            await(future);
+        } catch (RuntimeException e) {
+            restoreWhenCommitted(productId, quantity, future);
+            throw e;
+        }
+
+        // 주문 트랜잭션이 롤백되면 이미 커밋된 차감분을 복구
+        TransactionCallbacks.afterCompletion(() -> { }, () -> restore(productId, quantity));
+
+        log.info("[V4] 재고 차감 완료 (그룹 커밋) - 상품 ID: {}", productId);
+    }
+
+    @Override
+    public void increaseStock(Long productId, Integer quantity) {
+        log.info("[V4] 재고 복구 예약 - 상품 ID: {}, 수량: {}", productId, quantity);
+
+        // 복구는 커밋이 확정된 뒤에만 반영 (롤백된 취소가 재고를 늘리지 않도록)
+        TransactionCallbacks.afterCompletion(
+            () -> await(submit(StockCommand.Type.INCREASE, productId, quantity)),
+            () -> { }
+        );
+    }
+
+    /**
+     * 여러 상품을 각 파티션에 동시에 전달하고 모두 커밋될 때까지 대기
+     * 전달 도중(대기열 가득 참/엔진 종료) 또는 대기 중 일부가 실패하면 이미 전달한 차감분을 복구한 뒤 첫 번째 실패를 던짐
+     */
+    @Override
+    public Map<Long, Product> decreaseStocks(Map<Long, Integer> quantities) {
+        log.info("[V4] 재고 일괄 차감 요청 (재고 엔진) - 상품 수: {}", quantities.size());
+
+        Map<Long, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        RuntimeException failure = null;
+        try {
+            quantities.forEach((productId, quantity) ->
+                futures.put(productId, submit(StockCommand.Type.DECREASE, productId, quantity)));
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        if (failure == null) {
+            for (CompletableFuture<Void> future : futures.values()) {
+                try {
+                    await(future);
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+
+        if (failure != null) {
+            futures.forEach((productId, future) -> restoreWhenCommitted(productId, quantities.get(productId), future));
+            throw failure;
+        }
+
+        TransactionCallbacks.afterCompletion(() -> { }, () -> quantities.forEach(this::restore));
+
+        Map<Long, Product> products = new LinkedHashMap<>();
+        productRepository.findAllById(quantities.keySet())
+            .forEach(product -> products.put(product.getId(), product));
+        return products;
+    }
+
+    private CompletableFuture<Void> submit(StockCommand.Type type, Long productId, Integer quantity) {
+        InventoryPartition partition = partitions[Math.floorMod(productId.hashCode(), partitions.length)];
+        if (!partition.isRunning()) {
+            throw new IllegalStateException("재고 엔진이 종료되었습니다");
+        }
+
+        StockCommand command = new StockCommand(type, productId, quantity, new CompletableFuture<>());
+
+        // 링 버퍼가 가득 차면 파티션이 따라잡을 때까지 잠시 대기 (Backpressure)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(awaitTimeoutMs);
+        while (!partition.offer(command)) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("재고 엔진 대기열이 가득 찼습니다: " + productId);
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+        }
+        return command.future();
+    }
+
+    /**
+     * 실패로 끝난 호출의 차감분 복구 - 상품마다 이곳에서만 한 번 복구
+     * - 이미 커밋된 차감은 바로 복구, 대기 시간이 지난 차감은 뒤늦게 커밋되면 그때 복구, 엔진이 거절한 차감은 복구하지 않음
+     * - 뒤늦은 복구는 파티션 스레드가 자기 링 버퍼에 명령을 넣다 막히지 않도록 다른 스레드에서 전달
+     */
+    private void restoreWhenCommitted(Long productId, Integer quantity, CompletableFuture<Void> future) {
+        if (!future.isDone()) {
+            future.thenRunAsync(() -> restore(productId, quantity));
+        } else if (!future.isCompletedExceptionally()) {
+            restore(productId, quantity);
+        }
+    }
+
+    private void await(CompletableFuture<Void> future) {
+        try {
+            future.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("재고 엔진 처리 실패", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("재고 엔진 응답 시간 초과", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재고 엔진 대기 중 인터럽트", e);
+        }
+    }
+
+    @Override
+    public boolean isStockCached() {
+        return true;
+    }
+
+    private void restore(Long productId, Integer quantity) {
+        log.info("[V4] 차감분 복구 - 상품 ID: {}, 수량: {}", productId, quantity);
+        submit(StockCommand.Type.INCREASE, productId, quantity).whenComplete((result, e) -> {
+            if (e != null) {
+                log.error("[V4] 차감분 복구 실패 - 상품 ID: {}, 수량: {}", productId, quantity, e);
+            }
+        });
+    }
+}
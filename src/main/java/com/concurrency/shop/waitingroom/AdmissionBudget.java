@@ -0,0 +1,69 @@
+package com.concurrency.shop.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 대기열 입장 허용량 - 모든 인스턴스가 공유하는 Redis 토큰 버킷
+ * - 호출할 때마다 마지막 충전 이후 경과 시간 × 초당 입장 인원만큼 충전하고 정수 부분만 꺼냄
+ * - 소수점 이하(이월분)와 마지막 충전 시각을 Redis에 두므로 몇 개의 인스턴스가 tick을 돌려도 클러스터 전체 입장 속도는 그대로
+ * - 경과 시간은 Redis 서버 시각(TIME)으로 계산 (인스턴스 간 시계 차이 영향 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionBudget {
+
+    private static final String BUCKET_KEY = "waiting-room:admission-bucket";
+
+    /**
+     * KEYS[1]: 버킷 키, ARGV[1]: 초당 입장 인원, ARGV[2]: 최대 적립량, ARGV[3]: 버킷 TTL(ms)
+     * 반환: 이번에 꺼낸 입장 허용 인원
+     */
+    private static final String ACQUIRE_SCRIPT = """
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local rate = tonumber(ARGV[1])
+        local capacity = tonumber(ARGV[2])
+        local tokens = tonumber(redis.call('HGET', KEYS[1], 'tokens') or '0')
+        local last = tonumber(redis.call('HGET', KEYS[1], 'last') or now)
+        tokens = math.min(capacity, tokens + math.max(0, now - last) * rate / 1000)
+        local count = math.floor(tokens)
+        redis.call('HSET', KEYS[1], 'tokens', tostring(tokens - count), 'last', tostring(now))
+        redis.call('PEXPIRE', KEYS[1], ARGV[3])
+        return count
+        """;
+
+    private final RedissonClient redissonClient;
+
+    /**
+     * @param ratePerSecond 초당 입장 인원
+     * @param capacity      최대 적립량 - 모든 인스턴스가 멈췄다 재개해도 한 번에 이보다 많이 입장시키지 않음
+     * @return 이번에 입장시킬 인원 (꺼낸 허용량은 쓰지 않아도 버킷에 돌려놓지 않음)
+     */
+    public int acquire(double ratePerSecond, double capacity) {
+        return acquire(BUCKET_KEY, ratePerSecond, capacity);
+    }
+
+    int acquire(String bucketKey, double ratePerSecond, double capacity) {
+        Long count = redissonClient.getScript(StringCodec.INSTANCE).eval(
+            RScript.Mode.READ_WRITE,
+            ACQUIRE_SCRIPT,
+            RScript.ReturnType.INTEGER,
+            List.of(bucketKey),
+            String.valueOf(ratePerSecond), String.valueOf(capacity), String.valueOf(bucketTtlMillis(ratePerSecond, capacity))
+        );
+        return count.intValue();
+    }
+
+    /**
+     * 버킷이 가득 차는 데 걸리는 시간보다 길게 유지 (그 뒤에는 다시 만들어도 결과가 같음)
+     */
+    private long bucketTtlMillis(double ratePerSecond, double capacity) {
+        return (long) (capacity / Math.max(ratePerSecond, 1) * 1000) + 60_000;
+    }
+}
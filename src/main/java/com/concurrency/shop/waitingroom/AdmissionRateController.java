@@ -0,0 +1,92 @@
+package com.concurrency.shop.waitingroom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 입장 속도 조절기 (AIMD)
+ * - 입장한 사용자의 주문 완료 지연을 EWMA로 추적
+ * - 조정 주기마다 EWMA가 목표 지연 이하면 입장 속도를 더하고(Additive Increase),
+ *   넘으면 곱해서 줄임(Multiplicative Decrease)
+ * - 조정 주기 동안 완료된 주문이 없으면 속도 유지
+ */
+@Slf4j
+@Component
+public class AdmissionRateController {
+
+    private final double minRate;
+    private final double maxRate;
+    private final double additiveStep;
+    private final double decreaseFactor;
+    private final double targetLatencyMillis;
+    private final double ewmaAlpha;
+
+    private final AtomicLong ewmaBits = new AtomicLong(Double.doubleToLongBits(Double.NaN));
+    private final AtomicLong samplesSinceAdjust = new AtomicLong();
+    private volatile double rate;
+
+    public AdmissionRateController(@Value("${shop.waiting-room.initial-rate:50}") double initialRate,
+                                   @Value("${shop.waiting-room.min-rate:5}") double minRate,
+                                   @Value("${shop.waiting-room.max-rate:500}") double maxRate,
+                                   @Value("${shop.waiting-room.additive-step:5}") double additiveStep,
+                                   @Value("${shop.waiting-room.decrease-factor:0.5}") double decreaseFactor,
+                                   @Value("${shop.waiting-room.target-latency-ms:500}") double targetLatencyMillis,
+                                   @Value("${shop.waiting-room.ewma-alpha:0.2}") double ewmaAlpha) {
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.additiveStep = additiveStep;
+        this.decreaseFactor = decreaseFactor;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.ewmaAlpha = ewmaAlpha;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+    }
+
+    /**
+     * 입장한 사용자의 주문 완료 지연 기록 (요청 스레드에서 호출)
+     */
+    public void recordLatency(long latencyMillis) {
+        ewmaBits.getAndUpdate(bits -> {
+            double current = Double.longBitsToDouble(bits);
+            double next = Double.isNaN(current)
+                ? latencyMillis
+                : ewmaAlpha * latencyMillis + (1 - ewmaAlpha) * current;
+            return Double.doubleToLongBits(next);
+        });
+        samplesSinceAdjust.incrementAndGet();
+    }
+
+    /**
+     * 입장 속도 조정 (스케줄러에서 주기적으로 호출)
+     */
+    public double adjust() {
+        if (samplesSinceAdjust.getAndSet(0) == 0) {
+            return rate;
+        }
+
+        double latency = getLatencyEwma();
+        double previous = rate;
+        rate = latency > targetLatencyMillis
+            ? Math.max(minRate, previous * decreaseFactor)
+            : Math.min(maxRate, previous + additiveStep);
+
+        if (rate != previous) {
+            log.debug("[WaitingRoom] 입장 속도 조정 - 지연 EWMA: {}ms, 속도: {} → {}/s",
+                String.format("%.1f", latency), previous, rate);
+        }
+        return rate;
+    }
+
+    /**
+     * 초당 입장 인원
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    public double getLatencyEwma() {
+        return Double.longBitsToDouble(ewmaBits.get());
+    }
+}
@@ -0,0 +1,44 @@
+package com.concurrency.shop.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 입장 스케줄러
+ * - tick마다 모든 인스턴스가 공유하는 입장 허용량(AdmissionBudget)에서 꺼낸 인원만큼 입장
+ *   → 인스턴스가 N개여도 클러스터 전체 입장 속도는 초당 입장 인원 그대로, 소수점 이하 이월분도 Redis에 보관
+ * - 입장 속도(AIMD)는 인스턴스마다 조정하므로 인스턴스 간 속도가 다르면 tick을 돈 인스턴스들의 속도가 섞여 적용됨
+ * - 순번 전송은 구독자(SSE)가 연결된 인스턴스마다 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmissionScheduler {
+
+    // 한 번에 적립할 수 있는 최대 허용량 (tick 수) - tick이 조금 늦어도 그만큼 따라잡을 수 있는 정도
+    private static final int BURST_TICKS = 2;
+
+    private final AdmissionBudget admissionBudget;
+    private final WaitingRoomService waitingRoomService;
+    private final AdmissionRateController admissionRateController;
+
+    @Value("${shop.waiting-room.tick-interval-ms:200}")
+    private long tickIntervalMs;
+
+    @Scheduled(fixedRateString = "${shop.waiting-room.tick-interval-ms:200}")
+    public void admit() {
+        double rate = admissionRateController.getRate();
+        // 대기자가 모자라 쓰지 못한 허용량은 버킷에 돌려놓지 않음 (남은 허용량을 쌓아두지 않음)
+        int count = admissionBudget.acquire(rate, Math.max(1, rate * tickIntervalMs / 1000.0 * BURST_TICKS));
+        waitingRoomService.admit(count);
+        waitingRoomService.publishPositions();
+    }
+
+    @Scheduled(fixedRateString = "${shop.waiting-room.rate-adjust-interval-ms:1000}")
+    public void adjustRate() {
+        admissionRateController.adjust();
+    }
+}
@@ -0,0 +1,59 @@
+package com.concurrency.shop.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대기열 대상(인기) 상품 목록
+ * - 원본은 Redis Set (모든 인스턴스 공유), 주문 요청마다 Redis를 조회하지 않도록 로컬 스냅샷을 주기적으로 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotProductRegistry {
+
+    private static final String HOT_PRODUCTS_KEY = "waiting-room:hot-products";
+
+    private final RedissonClient redissonClient;
+
+    private volatile Set<Long> snapshot = Set.of();
+
+    public void mark(Long productId, boolean hot) {
+        if (hot) {
+            hotProducts().add(String.valueOf(productId));
+        } else {
+            hotProducts().remove(String.valueOf(productId));
+        }
+        refresh();
+        log.info("[WaitingRoom] 대기열 대상 상품 변경 - 상품 ID: {}, 대상: {}", productId, hot);
+    }
+
+    public boolean containsAny(Collection<Long> productIds) {
+        Set<Long> hot = snapshot;
+        return !hot.isEmpty() && productIds.stream().anyMatch(hot::contains);
+    }
+
+    public Set<Long> getHotProductIds() {
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${shop.waiting-room.hot-products-refresh-ms:1000}")
+    public void refresh() {
+        snapshot = hotProducts().readAll().stream()
+            .map(Long::valueOf)
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private RSet<String> hotProducts() {
+        return redissonClient.getSet(HOT_PRODUCTS_KEY, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,200 @@
+package com.concurrency.shop.waitingroom;
+
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.dto.WaitingTicketResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 상품 주문용 가상 대기열
+ * - 대기: Redis ZSET(score = 진입 시각)에 사용자 등록, ZRANK로 순번 조회
+ * - 입장: 스케줄러가 앞에서부터 N명을 꺼내 입장 토큰(TTL) 발급
+ * - 주문: 인기 상품이 포함된 주문은 입장 토큰을 1회 소모해야 진행 (없으면 즉시 429)
+ *   → 락 대기로 Tomcat 스레드를 붙잡는 대신 대기열 밖에서 기다리게 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    public static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+
+    private static final String QUEUE_KEY = "waiting-room:queue";
+    private static final String ADMISSION_KEY_PREFIX = "waiting-room:admission:";
+
+    private final RedissonClient redissonClient;
+    private final HotProductRegistry hotProductRegistry;
+    private final AdmissionRateController admissionRateController;
+
+    @Value("${shop.waiting-room.admission-ttl-seconds:60}")
+    private long admissionTtlSeconds;
+
+    private final Map<Long, SseEmitter> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 대기열 진입 (이미 대기 중이면 기존 순번 유지, 이미 입장했으면 토큰 반환)
+     */
+    public WaitingTicketResponse enter(Long userId) {
+        String token = admission(userId).get();
+        if (token != null) {
+            return WaitingTicketResponse.admitted(userId, token);
+        }
+
+        queue().addIfAbsent(System.currentTimeMillis(), String.valueOf(userId));
+        return getTicket(userId);
+    }
+
+    public WaitingTicketResponse getTicket(Long userId) {
+        String token = admission(userId).get();
+        if (token != null) {
+            return WaitingTicketResponse.admitted(userId, token);
+        }
+
+        Integer rank = queue().rank(String.valueOf(userId));
+        if (rank == null) {
+            throw new IllegalArgumentException("대기열에 없는 사용자입니다: " + userId);
+        }
+        return WaitingTicketResponse.waiting(userId, rank + 1, admissionRateController.getRate());
+    }
+
+    /**
+     * 순번/입장 알림 구독 (SSE) - 입장 처리 주기마다 순번 전송, 입장하면 토큰 전송 후 종료
+     */
+    public SseEmitter subscribe(Long userId) {
+        // 대기열에 없는 사용자는 구독자로 등록하기 전에 거절 (등록된 emitter가 완료되지 않고 남지 않도록)
+        WaitingTicketResponse ticket = getTicket(userId);
+
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(30));
+        emitter.onCompletion(() -> subscribers.remove(userId, emitter));
+        emitter.onTimeout(() -> subscribers.remove(userId, emitter));
+        emitter.onError(e -> subscribers.remove(userId, emitter));
+
+        SseEmitter previous = subscribers.put(userId, emitter);
+        if (previous != null) {
+            previous.complete();
+        }
+        send(userId, emitter, ticket);
+        return emitter;
+    }
+
+    public boolean requiresAdmission(OrderRequest request) {
+        return hotProductRegistry.containsAny(request.quantitiesByProductId().keySet());
+    }
+
+    /**
+     * 입장 토큰 1회 소모 - 토큰이 없거나 다르면 429
+     */
+    public void consumeAdmission(Long userId, String token) {
+        if (token == null || !admission(userId).compareAndSet(token, null)) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                "대기열 입장 후 주문할 수 있습니다. 대기열에 먼저 진입하세요: POST /api/v2/waiting-room/tickets");
+        }
+    }
+
+    public void recordOrderLatency(long latencyMillis) {
+        admissionRateController.recordLatency(latencyMillis);
+    }
+
+    /**
+     * 대기열 앞에서부터 count명 입장 처리
+     *
+     * @return 입장한 사용자 수
+     */
+    public int admit(int count) {
+        if (count <= 0) {
+            return 0;
+        }
+
+        Collection<String> userIds = queue().pollFirst(count);
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        RBatch batch = redissonClient.createBatch();
+        Map<Long, String> tokens = new ConcurrentHashMap<>();
+        for (String userId : userIds) {
+            String token = UUID.randomUUID().toString();
+            tokens.put(Long.valueOf(userId), token);
+            batch.<String>getBucket(ADMISSION_KEY_PREFIX + userId, StringCodec.INSTANCE)
+                .setAsync(token, admissionTtlSeconds, TimeUnit.SECONDS);
+        }
+        batch.execute();
+
+        tokens.forEach((userId, token) -> {
+            SseEmitter emitter = subscribers.get(userId);
+            if (emitter != null && send(userId, emitter, WaitingTicketResponse.admitted(userId, token))) {
+                emitter.complete();
+            }
+        });
+
+        log.debug("[WaitingRoom] 입장 처리 - {}명, 남은 대기: {}명", tokens.size(), queue().size());
+        return tokens.size();
+    }
+
+    /**
+     * 구독 중인 대기자에게 현재 순번 전송 (순번 조회는 배치 한 번으로 처리)
+     */
+    public void publishPositions() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        List<Long> userIds = new ArrayList<>(subscribers.keySet());
+        RBatch batch = redissonClient.createBatch();
+        for (Long userId : userIds) {
+            batch.getScoredSortedSet(QUEUE_KEY, StringCodec.INSTANCE).rankAsync(String.valueOf(userId));
+        }
+        BatchResult<?> ranks = batch.execute();
+
+        double rate = admissionRateController.getRate();
+        for (int i = 0; i < userIds.size(); i++) {
+            Object rank = ranks.getResponses().get(i);
+            SseEmitter emitter = subscribers.get(userIds.get(i));
+            if (rank != null && emitter != null) {
+                send(userIds.get(i), emitter, WaitingTicketResponse.waiting(userIds.get(i), ((Number) rank).intValue() + 1, rate));
+            }
+        }
+    }
+
+    public int getWaitingCount() {
+        return queue().size();
+    }
+
+    private boolean send(Long userId, SseEmitter emitter, WaitingTicketResponse ticket) {
+        try {
+            emitter.send(SseEmitter.event().name(ticket.isAdmitted() ? "admitted" : "position").data(ticket));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(userId, emitter);
+            return false;
+        }
+    }
+
+    private RScoredSortedSet<String> queue() {
+        return redissonClient.getScoredSortedSet(QUEUE_KEY, StringCodec.INSTANCE);
+    }
+
+    private RBucket<String> admission(Long userId) {
+        return redissonClient.getBucket(ADMISSION_KEY_PREFIX + userId, StringCodec.INSTANCE);
+    }
+}
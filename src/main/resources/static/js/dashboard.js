@@ -79,6 +79,7 @@ async function createOrderConcurrent(version) {
 
     addLog(`⚡ ${version.toUpperCase()}로 ${concurrentRequests}개의 동시 요청 시작...`, 'warning');
 
+    const startedAt = performance.now();
     const promises = [];
     for (let i = 0; i < concurrentRequests; i++) {
         const promise = fetch(`/api/${version}/orders`, {
@@ -102,12 +103,14 @@ async function createOrderConcurrent(version) {
     }
 
     const results = await Promise.all(promises);
+    const elapsedMs = performance.now() - startedAt;
 
     const successCount = results.filter(r => r.success).length;
     const failCount = results.filter(r => !r.success).length;
 
     addLog(`📊 ${version.toUpperCase()} 동시 요청 완료 - 성공: ${successCount}, 실패: ${failCount}`,
         successCount === concurrentRequests ? 'success' : 'warning');
+    addLog(`⏱️ ${version.toUpperCase()} 소요 시간: ${elapsedMs.toFixed(0)}ms, 처리량: ${(concurrentRequests / (elapsedMs / 1000)).toFixed(1)} req/s`, 'info');
 
     if (failCount > 0) {
         addLog(`⚠️  실패 원인: ${results.filter(r => !r.success).map(r => r.error).join(', ')}`, 'error');
@@ -0,0 +1,69 @@
+package com.concurrency.shop.domain.point;
+
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.dto.PointHistoryResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import support.AbstractJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@DisplayName("포인트 이력 Repository Test")
+class PointHistoryRepositoryTest extends AbstractJpaTest {
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("[정상 케이스] - (createdAt, id) 커서로 최신순 페이지를 누락/중복 없이 조회 (같은 시각 이력 포함)")
+    void find_pages_by_keyset_cursor() {
+        // given : 같은 시각 이력 3건 + 서로 다른 시각 이력 4건
+        var username = "history-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = userRepository.save(new User(username, username + "@history.com", UserGrade.BRONZE, 0L));
+        var sameTime = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 3; i++) {
+            insertHistory(user.getId(), sameTime);
+        }
+        for (int i = 1; i <= 4; i++) {
+            insertHistory(user.getId(), sameTime.plusMinutes(i));
+        }
+        flushAndClear();
+
+        // when : 페이지 크기 2로 끝까지 조회
+        List<PointHistoryResponse> all = new ArrayList<>();
+        var page = pointHistoryRepository.findPageByUserId(user.getId(), PageRequest.of(0, 2));
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            var last = page.get(page.size() - 1);
+            page = pointHistoryRepository.findPageByUserIdAfter(
+                    user.getId(), last.getCreatedAt(), last.getHistoryId(), PageRequest.of(0, 2));
+        }
+
+        // then
+        Assertions.assertThat(all).hasSize(7);
+        Assertions.assertThat(all).extracting(PointHistoryResponse::getHistoryId).doesNotHaveDuplicates();
+        Assertions.assertThat(all).isSortedAccordingTo((a, b) -> {
+            int byTime = b.getCreatedAt().compareTo(a.getCreatedAt());
+            return byTime != 0 ? byTime : b.getHistoryId().compareTo(a.getHistoryId());
+        });
+    }
+
+    private void insertHistory(Long userId, LocalDateTime createdAt) {
+        em.createNativeQuery("INSERT INTO point_histories (user_id, type, amount, balance_after, order_id, created_at) " +
+                        "VALUES (?, 'EARN', 100, 100, NULL, ?)")
+                .setParameter(1, userId)
+                .setParameter(2, createdAt)
+                .executeUpdate();
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.PessimisticLockingFailureException;
 import support.AbstractJpaTest;
 
+import java.util.List;
+
 @DisplayName("상품 Repository Test")
 class ProductRepositoryTest extends AbstractJpaTest {
 
@@ -51,4 +53,24 @@ class ProductRepositoryTest extends AbstractJpaTest {
             });
         }).isInstanceOf(PessimisticLockingFailureException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[정상 케이스 - 비관락 사용] - 상품 여러 건 조회 시 id 오름차순 정렬, 분할 재고 상품 제외")
+    void find_products_by_ids_when_use_pessimistic_lock_is_sorted_by_id() {
+        // given
+        var first = productRepository.save(new Product("상품 A", 1_000L, 10));
+        var second = productRepository.save(new Product("상품 B", 2_000L, 20));
+        var striped = new Product("상품 C", 3_000L, 30);
+        striped.stripeStock(4);
+        productRepository.save(striped);
+
+        // when
+        var actualResult = productRepository.findAllByIdInWithPessimisticLock(
+                List.of(striped.getId(), second.getId(), first.getId()));
+
+        // then
+        Assertions.assertThat(actualResult)
+                .extracting(Product::getId)
+                .containsExactly(first.getId(), second.getId());
+    }
+}
@@ -0,0 +1,35 @@
+package com.concurrency.shop.dto;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import support.AbstractTest;
+
+import java.time.LocalDateTime;
+
+@DisplayName("포인트 이력 커서 테스트")
+class PointHistoryCursorTest extends AbstractTest {
+
+    @Test
+    @DisplayName("[정상 케이스] - 인코딩한 커서를 디코딩하면 (createdAt, id)가 그대로 복원")
+    void decode_encoded_cursor() {
+        // given
+        var cursor = new PointHistoryCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000), 42L);
+
+        // when
+        var encoded = cursor.encode();
+        var decoded = PointHistoryCursor.decode(encoded);
+
+        // then
+        Assertions.assertThat(encoded).doesNotContain("|", "=", "+", "/");
+        Assertions.assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 형식이 맞지 않는 커서는 IllegalArgumentException")
+    void decode_invalid_cursor() {
+        Assertions.assertThatThrownBy(() -> PointHistoryCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 커서입니다");
+    }
+}
@@ -0,0 +1,262 @@
+package com.concurrency.shop.idempotency;
+
+import com.concurrency.shop.controller.v2.OrderControllerV2;
+import com.concurrency.shop.domain.order.OrderRepository;
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.dto.OrderItemRequest;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.dto.OrderResponse;
+import com.concurrency.shop.service.v2.ConcurrencyMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import support.AbstractConcurrencyTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@DisplayName("Idempotency-Key 동시성 테스트")
+class IdempotencyServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderControllerV2 orderControllerV2;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 같은 키로 동시에 10번, 완료 후 1번 더 요청해도 주문은 1건만 생성되고 모두 같은 응답을 받음")
+    void create_order_once_for_concurrent_duplicates() {
+        // given
+        var user = saveUser();
+        var product = saveProduct(10);
+        var request = new OrderRequest(user.getId(), List.of(new OrderItemRequest(product.getId(), 1)), null, 0L);
+        var key = UUID.randomUUID().toString();
+        final var executor = Executors.newFixedThreadPool(10);
+
+        // when
+        List<OrderResponse> responses;
+        try {
+            var futures = IntStream.range(0, 10)
+                    .mapToObj(it -> CompletableFuture.supplyAsync(() -> orderControllerV2.createOrder(
+                            request, ConcurrencyMode.PESSIMISTIC, null, key).getBody(), executor))
+                    .toList();
+            responses = futures.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+        var retried = orderControllerV2.createOrder(request, ConcurrencyMode.PESSIMISTIC, null, key).getBody();
+
+        // then
+        var orderId = responses.get(0).getOrderId();
+        Assertions.assertThat(responses).extracting(OrderResponse::getOrderId).containsOnly(orderId);
+        Assertions.assertThat(retried.getOrderId()).isEqualTo(orderId);
+        Assertions.assertThat(retried.getOrderDate()).isEqualTo(responses.get(0).getOrderDate());
+        Assertions.assertThat(stockOf(product)).isEqualTo(9);
+        Assertions.assertThat(testTransactionSupport.executeWithNewTx(
+                () -> orderRepository.findAll().stream().filter(order -> order.getUser().getId().equals(user.getId())).count()))
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 실패한 요청은 기록이 남지 않아 같은 키로 다시 실행되고, 같은 키로 다른 요청을 보내면 422")
+    void retry_after_failure_and_reject_different_request() {
+        // given
+        var key = UUID.randomUUID().toString();
+        var executions = new AtomicInteger();
+
+        // when
+        Assertions.assertThatThrownBy(() -> idempotencyService.execute("test", key, "first", String.class, () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("일시적 오류");
+        })).isInstanceOf(IllegalStateException.class);
+        var first = idempotencyService.execute("test", key, "first", String.class,
+                () -> "ok-" + executions.incrementAndGet());
+        var replayed = idempotencyService.execute("test", key, "first", String.class,
+                () -> "ok-" + executions.incrementAndGet());
+
+        // then
+        Assertions.assertThat(first).isEqualTo("ok-2");
+        Assertions.assertThat(replayed).isEqualTo("ok-2");
+        Assertions.assertThat(executions).hasValue(2);
+        Assertions.assertThatThrownBy(() -> idempotencyService.execute("test", key, "second", String.class, () -> "other"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 첫 요청이 처리 중 표시 만료 시간보다 오래 걸려도 연장되므로 같은 키의 요청은 다시 실행되지 않고 기다림")
+    void renew_in_progress_marker_while_action_runs() throws Exception {
+        // given : 처리 중 표시 1초, 첫 요청은 2.5초 동안 실행
+        var sut = shortLivedMarkerService();
+        var key = UUID.randomUUID().toString();
+        var executions = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var running = new AtomicBoolean(true);
+        final var executor = Executors.newFixedThreadPool(2);
+
+        // when : 실행하는 동안 0.3초마다 연장하고, 표시 만료 시간이 지난 뒤 같은 키로 요청
+        String first;
+        String second;
+        try {
+            var firstFuture = CompletableFuture.supplyAsync(() -> sut.execute("test", key, "same", String.class, () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                sleep(2_500);
+                return "first";
+            }), executor);
+            executor.submit(() -> {
+                while (running.get()) {
+                    sut.renewInProgress();
+                    sleep(300);
+                }
+            });
+            Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            sleep(1_500);
+            second = sut.execute("test", key, "same", String.class, () -> "second-" + executions.incrementAndGet());
+            first = firstFuture.join();
+        } finally {
+            running.set(false);
+            executor.shutdown();
+        }
+
+        // then
+        Assertions.assertThat(first).isEqualTo("first");
+        Assertions.assertThat(second).isEqualTo("first");
+        Assertions.assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 표시가 만료된 뒤 실패한 첫 요청은 그 사이 다른 요청이 저장한 응답을 지우지 않음")
+    void keep_other_record_when_expired_request_fails() throws Exception {
+        // given
+        var sut = shortLivedMarkerService();
+        var key = UUID.randomUUID().toString();
+        var started = new CountDownLatch(1);
+        var secondDone = new CountDownLatch(1);
+
+        // when : 첫 요청의 표시가 만료된 사이 두 번째 요청이 완료되고, 그 뒤 첫 요청이 실패
+        var firstFuture = CompletableFuture.runAsync(() -> sut.execute("test", key, "same", String.class, () -> {
+            started.countDown();
+            await(secondDone);
+            throw new IllegalStateException("늦게 실패한 요청");
+        }));
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        sleep(1_200);
+        var second = sut.execute("test", key, "same", String.class, () -> "second");
+        secondDone.countDown();
+        Assertions.assertThatThrownBy(firstFuture::join).hasCauseInstanceOf(IllegalStateException.class);
+        var replayed = sut.execute("test", key, "same", String.class, () -> "third");
+
+        // then
+        Assertions.assertThat(second).isEqualTo("second");
+        Assertions.assertThat(replayed).isEqualTo("second");
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 표시가 만료된 뒤 완료된 첫 요청은 그 사이 다른 요청이 저장한 응답을 덮지 않음")
+    void keep_other_record_when_expired_request_completes() throws Exception {
+        // given
+        var sut = shortLivedMarkerService();
+        var key = UUID.randomUUID().toString();
+        var started = new CountDownLatch(1);
+        var secondDone = new CountDownLatch(1);
+
+        // when : 첫 요청의 표시가 만료된 사이 두 번째 요청이 완료되고, 그 뒤 첫 요청이 완료
+        var firstFuture = CompletableFuture.supplyAsync(() -> sut.execute("test", key, "same", String.class, () -> {
+            started.countDown();
+            await(secondDone);
+            return "first";
+        }));
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        sleep(1_200);
+        var second = sut.execute("test", key, "same", String.class, () -> "second");
+        secondDone.countDown();
+        var first = firstFuture.join();
+        var replayed = sut.execute("test", key, "same", String.class, () -> "third");
+
+        // then
+        Assertions.assertThat(first).isEqualTo("first");
+        Assertions.assertThat(second).isEqualTo("second");
+        Assertions.assertThat(replayed).isEqualTo("second");
+    }
+
+    /**
+     * 처리 중 표시 1초, 로컬 캐시 없이 Redis 기록만 보는 서비스
+     */
+    private IdempotencyService shortLivedMarkerService() {
+        return new IdempotencyService(redissonClient, objectMapper, meterRegistry, 60, 1, 5_000, 100, 0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private User saveUser() {
+        var name = "idem-" + UUID.randomUUID().toString().substring(0, 8);
+        return testTransactionSupport.executeWithNewTx(
+                () -> userRepository.save(new User(name, name + "@idem.com", UserGrade.BRONZE, 0L)));
+    }
+
+    private Product saveProduct(int stock) {
+        return testTransactionSupport.executeWithNewTx(() -> productRepository.save(new Product("멱등 주문 상품", 1_000L, stock)));
+    }
+
+    private int stockOf(Product product) {
+        return testTransactionSupport.executeWithNewTx(
+                () -> productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+}
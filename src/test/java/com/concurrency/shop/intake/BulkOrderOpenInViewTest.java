@@ -0,0 +1,113 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.dto.OrderItemRequest;
+import com.concurrency.shop.dto.OrderRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.Filter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewFilter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.WebApplicationContext;
+import support.AbstractConcurrencyTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@DisplayName("대량 주문 OSIV 제외 테스트")
+class BulkOrderOpenInViewTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private OpenEntityManagerInViewFilter openEntityManagerInViewFilter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 대량 주문 요청에는 요청 단위 EntityManager가 묶이지 않고, 다른 API에는 그대로 묶임")
+    void exclude_bulk_orders_from_open_in_view() throws Exception {
+        // given : OSIV 필터 뒤에서 요청 처리 중 EntityManager가 묶여 있는지 기록
+        var name = "osiv-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = testTransactionSupport.executeWithNewTx(
+                () -> userRepository.save(new User(name, name + "@osiv.com", UserGrade.BRONZE, 1_000L)));
+        var product = testTransactionSupport.executeWithNewTx(
+                () -> productRepository.save(new Product("OSIV 상품", 1_000L, 10)));
+        var bound = new AtomicBoolean();
+        Filter probe = (request, response, chain) -> {
+            bound.set(TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            chain.doFilter(request, response);
+        };
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(openEntityManagerInViewFilter, probe)
+                .build();
+        var line = objectMapper.writeValueAsString(new OrderRequest(
+                user.getId(), List.of(new OrderItemRequest(product.getId(), 1)), null, 100L));
+
+        // when
+        var body = mockMvc.perform(post("/api/v2/orders/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .content(line))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        var boundForBulk = bound.get();
+        mockMvc.perform(get("/api/users/{userId}/point-histories", user.getId()));
+        var boundForQuery = bound.get();
+
+        // then : 포인트 100 사용 + 상품 합계 1,000원의 BRONZE 적립 10
+        awaitEarnRelayed(user.getId());
+        Assertions.assertThat(boundForBulk).isFalse();
+        Assertions.assertThat(boundForQuery).isTrue();
+        Assertions.assertThat(objectMapper.readTree(body).get("status").asText()).isEqualTo("COMPLETED");
+        Assertions.assertThat(testTransactionSupport.executeWithNewTx(
+                () -> userRepository.findById(user.getId()).orElseThrow().getPointBalance())).isEqualTo(910L);
+    }
+
+    /**
+     * 주문 적립 이벤트는 백그라운드 릴레이가 반영하므로 대기 이벤트가 없어질 때까지 기다림
+     */
+    private void awaitEarnRelayed(Long userId) throws InterruptedException {
+        for (int i = 0; i < 100 && countPendingEarns(userId) > 0; i++) {
+            Thread.sleep(100);
+        }
+    }
+
+    private long countPendingEarns(Long userId) {
+        return testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_earn_outbox WHERE user_id = ? AND status = 'PENDING'", Long.class, userId));
+    }
+}
@@ -0,0 +1,118 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.dto.OrderItemRequest;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.waitingroom.WaitingRoomService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import support.AbstractConcurrencyTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@DisplayName("대량 주문 테스트")
+class BulkOrderServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderBatchProcessor orderBatchProcessor;
+
+    @Autowired
+    private WaitingRoomService waitingRoomService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 청크 단위로 재고를 선점하고, 재고 부족/형식 오류/포인트 부족 주문은 해당 줄만 실패")
+    void process_orders_in_chunks_and_isolate_failures() throws IOException {
+        // given : 청크 4건, 재고 5개 상품에 7건 + 읽을 수 없는 줄 + 빈 줄 + 포인트가 없는 사용자의 포인트 사용 주문
+        var sut = new BulkOrderService(orderBatchProcessor, waitingRoomService, objectMapper, 4, 100);
+        var users = saveUsers(7, 0L);
+        var poorUser = saveUsers(1, 0L).get(0);
+        var product = saveProduct(5);
+        var otherProduct = saveProduct(10);
+
+        var lines = new ArrayList<String>();
+        for (User user : users) {
+            lines.add(objectMapper.writeValueAsString(orderRequest(user, product, 0L)));
+        }
+        lines.add("{\"userId\": ");
+        lines.add("");
+        lines.add(objectMapper.writeValueAsString(orderRequest(poorUser, otherProduct, 100L)));
+        var in = new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        var out = new ByteArrayOutputStream();
+
+        // when
+        int completed = sut.process(in, out);
+
+        // then : 요청 줄마다 결과 1줄 (빈 줄 제외), 줄 순서 유지
+        List<JsonNode> results = out.toString(StandardCharsets.UTF_8).lines()
+                .map(this::readTree)
+                .toList();
+        Assertions.assertThat(completed).isEqualTo(5);
+        Assertions.assertThat(results).extracting(result -> result.get("line").asInt())
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 10);
+        Assertions.assertThat(results).extracting(result -> result.get("status").asText())
+                .containsExactly("COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED", "COMPLETED",
+                        "FAILED", "FAILED", "FAILED", "FAILED");
+        Assertions.assertThat(results.get(5).get("error").asText()).contains("재고");
+        Assertions.assertThat(results.get(7).get("error").asText()).contains("읽을 수 없습니다");
+        Assertions.assertThat(results.get(8).get("error").asText()).contains("포인트");
+        Assertions.assertThat(results.get(0).get("order").get("totalAmount").asLong()).isEqualTo(1_000L);
+
+        Assertions.assertThat(stockOf(product)).isZero();
+        Assertions.assertThat(stockOf(otherProduct)).isEqualTo(10);
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<User> saveUsers(int count, long pointBalance) {
+        var prefix = "bulk-" + UUID.randomUUID().toString().substring(0, 8);
+        return testTransactionSupport.executeWithNewTx(() -> userRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(it -> new User(prefix + "-" + it, prefix + "-" + it + "@bulk.com", UserGrade.BRONZE, pointBalance))
+                .toList()));
+    }
+
+    private Product saveProduct(int stock) {
+        return testTransactionSupport.executeWithNewTx(() -> productRepository.save(new Product("대량 주문 상품", 1_000L, stock)));
+    }
+
+    private int stockOf(Product product) {
+        return testTransactionSupport.executeWithNewTx(
+                () -> productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    private OrderRequest orderRequest(User user, Product product, long pointsToUse) {
+        return new OrderRequest(user.getId(), List.of(new OrderItemRequest(product.getId(), 1)), null, pointsToUse);
+    }
+}
@@ -0,0 +1,201 @@
+package com.concurrency.shop.intake;
+
+import com.concurrency.shop.domain.order.OrderRepository;
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.dto.OrderItemRequest;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.dto.OrderTicketResponse;
+import com.concurrency.shop.service.v2.OrderServiceV2;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import support.AbstractConcurrencyTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+@DisplayName("주문 접수 대기열 동시성 테스트")
+class OrderIntakeServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private OrderTicketStore orderTicketStore;
+
+    @Autowired
+    private OrderBatchProcessor orderBatchProcessor;
+
+    @Autowired
+    private OrderServiceV2 orderServiceV2;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 재고 10개 상품에 30건을 동시에 접수하면 바로 접수증을 받고, 워커가 10건만 주문 생성")
+    void accept_orders_immediately_and_process_in_batches() {
+        // given
+        var users = saveUsers(30, 0L);
+        var product = saveProduct(10);
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // when : 접수는 DB 처리를 기다리지 않음
+        List<OrderTicketResponse> tickets;
+        try {
+            var futures = users.stream()
+                    .map(user -> CompletableFuture.supplyAsync(
+                            () -> orderIntakeService.submit(orderRequest(user, product, 0L)), executor))
+                    .toList();
+            tickets = futures.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+        var results = awaitTickets(orderIntakeService, tickets);
+
+        // then
+        Assertions.assertThat(tickets).allMatch(ticket -> ticket.getStatus() == OrderTicketStatus.QUEUED);
+        Assertions.assertThat(results).filteredOn(ticket -> ticket.getStatus() == OrderTicketStatus.COMPLETED)
+                .hasSize(10)
+                .allMatch(ticket -> ticket.getOrder().getTotalAmount() == 1_000L);
+        Assertions.assertThat(results).filteredOn(ticket -> ticket.getStatus() == OrderTicketStatus.FAILED)
+                .hasSize(20)
+                .allMatch(ticket -> ticket.getError().contains("재고"));
+        Assertions.assertThat(stockOf(product)).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[예외 케이스] - 메모리 대기열로 처리하며, 주문 생성이 실패한 요청의 선점 재고는 반환됨")
+    void release_reserved_stock_when_order_fails() throws InterruptedException {
+        // given : 포인트가 없는 사용자의 포인트 사용 주문은 2단계에서 실패
+        var sut = new OrderIntakeService(Map.of("inMemoryOrderIntakeQueue", new InMemoryOrderIntakeQueue()),
+                orderTicketStore, orderBatchProcessor, orderRepository, "inMemoryOrderIntakeQueue", 2, 50, 100, true);
+        var richUsers = saveUsers(3, 1_000L);
+        var poorUser = saveUsers(1, 0L).get(0);
+        var product = saveProduct(5);
+
+        sut.startWorkers();
+        try {
+            // when
+            var tickets = new ArrayList<OrderTicketResponse>();
+            richUsers.forEach(user -> tickets.add(sut.submit(orderRequest(user, product, 100L))));
+            tickets.add(sut.submit(orderRequest(poorUser, product, 100L)));
+            var results = awaitTickets(sut, tickets);
+
+            // then
+            Assertions.assertThat(results.subList(0, 3)).allMatch(ticket -> ticket.getStatus() == OrderTicketStatus.COMPLETED);
+            Assertions.assertThat(results.get(3).getStatus()).isEqualTo(OrderTicketStatus.FAILED);
+            Assertions.assertThat(results.get(3).getError()).contains("포인트");
+            Assertions.assertThat(stockOf(product)).isEqualTo(2);
+        } finally {
+            sut.stopWorkers();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[예외 케이스] - 재고 선점 후 주문 전에 장애가 나 재전달된 접수증은 선점을 재사용해 재고를 한 번만 차감")
+    void reuse_reservation_of_redelivered_ticket() {
+        // given : 1단계(재고 선점)만 커밋된 접수증
+        var user = saveUsers(1, 0L).get(0);
+        var product = saveProduct(5);
+        var request = orderRequest(user, product, 0L);
+        var ticketId = UUID.randomUUID().toString();
+        orderTicketStore.create(ticketId);
+        orderServiceV2.reserveStocks(Map.of(ticketId, request));
+
+        // when : 같은 메시지가 재전달됨
+        orderIntakeService.process(List.of(new OrderIntakeMessage("0-1", ticketId, request)));
+
+        // then
+        var ticket = orderIntakeService.getTicket(ticketId);
+        Assertions.assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.COMPLETED);
+        Assertions.assertThat(stockOf(product)).isEqualTo(4);
+        Assertions.assertThat(ordersOf(user)).isEqualTo(1L);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[예외 케이스] - 주문 커밋 후 접수증 기록 전에 장애가 나 재전달된 접수증은 기존 주문으로 완료")
+    void complete_redelivered_ticket_with_existing_order() {
+        // given : 주문까지 커밋됐지만 접수증은 아직 QUEUED
+        var user = saveUsers(1, 0L).get(0);
+        var product = saveProduct(5);
+        var request = orderRequest(user, product, 0L);
+        var ticketId = UUID.randomUUID().toString();
+        orderTicketStore.create(ticketId);
+        orderServiceV2.reserveStocks(Map.of(ticketId, request));
+        var order = orderServiceV2.createOrderWithReservedStock(ticketId, request);
+
+        // when : 같은 메시지가 재전달됨
+        orderIntakeService.process(List.of(new OrderIntakeMessage("0-1", ticketId, request)));
+
+        // then
+        var ticket = orderIntakeService.getTicket(ticketId);
+        Assertions.assertThat(ticket.getStatus()).isEqualTo(OrderTicketStatus.COMPLETED);
+        Assertions.assertThat(ticket.getOrder().getOrderId()).isEqualTo(order.getId());
+        Assertions.assertThat(stockOf(product)).isEqualTo(4);
+        Assertions.assertThat(ordersOf(user)).isEqualTo(1L);
+    }
+
+    private List<OrderTicketResponse> awaitTickets(OrderIntakeService service, List<OrderTicketResponse> tickets) {
+        long deadline = System.currentTimeMillis() + 30_000L;
+        while (true) {
+            var results = tickets.stream().map(ticket -> service.getTicket(ticket.getTicketId())).toList();
+            if (results.stream().noneMatch(ticket -> ticket.getStatus() == OrderTicketStatus.QUEUED)
+                    || System.currentTimeMillis() > deadline) {
+                return results;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return results;
+            }
+        }
+    }
+
+    private List<User> saveUsers(int count, long pointBalance) {
+        var prefix = "intake-" + UUID.randomUUID().toString().substring(0, 8);
+        return testTransactionSupport.executeWithNewTx(() -> userRepository.saveAll(IntStream.range(0, count)
+                .mapToObj(it -> new User(prefix + "-" + it, prefix + "-" + it + "@intake.com", UserGrade.BRONZE, pointBalance))
+                .toList()));
+    }
+
+    private Product saveProduct(int stock) {
+        return testTransactionSupport.executeWithNewTx(() -> productRepository.save(new Product("접수 대기열 상품", 1_000L, stock)));
+    }
+
+    private int stockOf(Product product) {
+        return testTransactionSupport.executeWithNewTx(
+                () -> productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    private long ordersOf(User user) {
+        return testTransactionSupport.executeWithNewTx(() -> orderRepository.findByUserId(user.getId()).size());
+    }
+
+    private OrderRequest orderRequest(User user, Product product, long pointsToUse) {
+        return new OrderRequest(user.getId(), List.of(new OrderItemRequest(product.getId(), 1)), null, pointsToUse);
+    }
+}
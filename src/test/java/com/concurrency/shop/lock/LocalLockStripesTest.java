@@ -0,0 +1,142 @@
+package com.concurrency.shop.lock;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import support.AbstractTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@DisplayName("로컬 스트라이프 락 테스트")
+class LocalLockStripesTest extends AbstractTest {
+
+    @Test
+    @DisplayName("[정상 케이스] - 같은 키는 다른 스레드가 보유 중이면 대기 시간 초과로 실패하고, 해제 후에는 획득")
+    void serialize_same_key_across_threads() {
+        // given
+        var sut = new LocalLockStripes(16);
+        sut.tryLock("user:point:1", 0, TimeUnit.MILLISECONDS);
+
+        // when
+        var whileHeld = CompletableFuture.supplyAsync(
+                () -> sut.tryLock("user:point:1", 50, TimeUnit.MILLISECONDS)).join();
+        sut.unlock("user:point:1");
+        var afterRelease = CompletableFuture.supplyAsync(() -> {
+            var locked = sut.tryLock("user:point:1", 50, TimeUnit.MILLISECONDS);
+            if (locked) {
+                sut.unlock("user:point:1");
+            }
+            return locked;
+        }).join();
+
+        // then
+        Assertions.assertThat(whileHeld).isFalse();
+        Assertions.assertThat(afterRelease).isTrue();
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 보유 여부는 스레드별로 추적되고 모두 해제하면 초기화")
+    void track_held_locks_per_thread() {
+        // given
+        var sut = new LocalLockStripes(16);
+
+        // when
+        sut.tryLock("order:1", 0, TimeUnit.MILLISECONDS);
+        sut.tryLock("order:1", 0, TimeUnit.MILLISECONDS);
+        var heldByOtherThread = CompletableFuture.supplyAsync(sut::isHeldByCurrentThread).join();
+        sut.unlock("order:1");
+        var heldAfterFirstUnlock = sut.isHeldByCurrentThread();
+        sut.unlock("order:1");
+
+        // then
+        Assertions.assertThat(heldByOtherThread).isFalse();
+        Assertions.assertThat(heldAfterFirstUnlock).isTrue();
+        Assertions.assertThat(sut.isHeldByCurrentThread()).isFalse();
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 여러 키를 반대 순서로 요청해도 스트라이프 순서로 잡으므로 교착 없이 모두 획득")
+    void lock_multiple_keys_without_deadlock() {
+        // given
+        var sut = new LocalLockStripes(4);
+        var keys = List.of("order:product:1", "order:product:2", "order:coupon:3");
+        var reversed = List.of("order:coupon:3", "order:product:2", "order:product:1");
+        var executor = Executors.newFixedThreadPool(2);
+
+        // when
+        try {
+            var futures = IntStream.range(0, 2_000)
+                    .mapToObj(it -> CompletableFuture.supplyAsync(() -> {
+                        var target = it % 2 == 0 ? keys : reversed;
+                        if (!sut.tryLockAll(target, 1, TimeUnit.SECONDS)) {
+                            return false;
+                        }
+                        sut.unlockAll(target);
+                        return !sut.isHeldByCurrentThread();
+                    }, executor))
+                    .toList();
+
+            // then
+            Assertions.assertThat(futures).allSatisfy(future -> Assertions.assertThat(future.join()).isTrue());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 서로 반대 순서로 중첩 획득하면 순서를 어긴 쪽만 즉시 실패하고, 다른 쪽은 대기 시간 초과 없이 획득")
+    void nested_locks_in_opposite_order_do_not_wait_for_each_other() {
+        // given : 서로 다른 스트라이프의 두 키를 각 스레드가 하나씩 먼저 보유
+        var sut = new LocalLockStripes(16);
+        var first = List.of("order:product:1");
+        var second = List.of("order:product:2");
+        var bothHeld = new CountDownLatch(2);
+        var executor = Executors.newFixedThreadPool(2);
+
+        // when
+        long startedAt = System.nanoTime();
+        try {
+            var futures = List.of(
+                    CompletableFuture.supplyAsync(() -> lockNested(sut, first, second, bothHeld), executor),
+                    CompletableFuture.supplyAsync(() -> lockNested(sut, second, first, bothHeld), executor));
+            var results = futures.stream().map(CompletableFuture::join).toList();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then
+            Assertions.assertThat(results).containsExactlyInAnyOrder(true, false);
+            Assertions.assertThat(elapsedMillis).isLessThan(2_000);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 스트라이프 수가 2의 거듭제곱이 아니면 예외")
+    void reject_non_power_of_two_stripes() {
+        Assertions.assertThatThrownBy(() -> new LocalLockStripes(100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private boolean lockNested(LocalLockStripes sut, List<String> outer, List<String> inner, CountDownLatch bothHeld) {
+        sut.tryLockAll(outer, 0, TimeUnit.MILLISECONDS);
+        try {
+            bothHeld.countDown();
+            bothHeld.await();
+            boolean locked = sut.tryLockAll(inner, 5, TimeUnit.SECONDS);
+            if (locked) {
+                sut.unlockAll(inner);
+            }
+            return locked;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            sut.unlockAll(outer);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.concurrency.shop.lock;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import support.AbstractTest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.List;
+
+@DisplayName("락 키 생성기 테스트")
+class LockKeyGeneratorTest extends AbstractTest {
+
+    private static final int ITERATIONS = 200_000;
+
+    private final LockKeyGenerator sut = new LockKeyGenerator();
+
+    @Test
+    @DisplayName("[정상 케이스] - 'prefix' + #arg, 'prefix' + #arg.property, 일반 SpEL 표현식 모두 기존과 같은 키 생성")
+    void generate_same_key_as_spel() throws Exception {
+        // given
+        var method = target("placeOrder");
+        Object[] args = {7L, new Request(42L, "A")};
+
+        // when
+        var simple = sut.generate(method, "'user:point:' + #userId", args);
+        var property = sut.generate(method, "'order:create:user:' + #request.userId", args);
+        var general = sut.generate(method, "'order:' + #request.grade + ':' + #userId", args);
+
+        // then
+        Assertions.assertThat(simple).isEqualTo("user:point:7");
+        Assertions.assertThat(property).isEqualTo("order:create:user:42");
+        Assertions.assertThat(general).isEqualTo("order:A:7");
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 다중 키 표현식은 중복을 제거하고 정렬된 키 목록으로 변환")
+    void generate_sorted_distinct_keys() throws Exception {
+        // given
+        var method = target("placeOrder");
+        Object[] args = {7L, new Request(42L, "A")};
+
+        // when
+        var keys = sut.generateAll(method, "#request.lockKeys()", args);
+
+        // then
+        Assertions.assertThat(keys).containsExactly("order:coupon:1", "order:product:3", "order:product:9");
+        Assertions.assertThatThrownBy(() -> sut.generateAll(method, "#userId", args))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 같은 메서드/표현식은 한 번만 컴파일하고 재사용")
+    void reuse_compiled_generator_per_method_and_key() throws Exception {
+        // given
+        var generator = new LockKeyGenerator();
+        var method = target("placeOrder");
+
+        // when
+        for (long userId = 0; userId < 100; userId++) {
+            generator.generate(method, "'user:point:' + #userId", new Object[]{userId, null});
+        }
+        var last = generator.generate(method, "'user:point:' + #userId", new Object[]{100L, null});
+
+        // then
+        Assertions.assertThat(last).isEqualTo("user:point:100");
+        Assertions.assertThat(generator.cachedSize()).isEqualTo(1);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[부하 측정] - 매 호출 파싱 vs 캐시된 키 생성기 (ns/op, bytes/op)")
+    void compare_parse_every_call_and_cached_generator() throws Exception {
+        var method = target("placeOrder");
+        Object[] args = {7L, new Request(42L, "A")};
+        var parser = new SpelExpressionParser();
+        var nameDiscoverer = new DefaultParameterNameDiscoverer();
+
+        // 변경 전 DistributedLockAop.generateLockKey와 같은 방식
+        KeySupplier legacy = key -> {
+            var parameterNames = nameDiscoverer.getParameterNames(method);
+            var context = new StandardEvaluationContext();
+            for (int i = 0; i < parameterNames.length; i++) {
+                context.setVariable(parameterNames[i], args[i]);
+            }
+            return String.valueOf(parser.parseExpression(key).getValue(context));
+        };
+        KeySupplier cached = key -> sut.generate(method, key, args);
+
+        System.out.println("=== 락 키 생성 비용 (" + ITERATIONS + "회) ===");
+        System.out.println("표현식                                  | 방식   |  ns/op | bytes/op");
+        for (String key : new String[]{
+                "'user:point:' + #userId",
+                "'order:create:user:' + #request.userId",
+                "'order:' + #request.grade + ':' + #userId"}) {
+            print(key, "legacy", measure(legacy, key));
+            print(key, "cached", measure(cached, key));
+        }
+    }
+
+    private Measurement measure(KeySupplier supplier, String key) {
+        // 워밍업 (JIT + SpEL 컴파일)
+        for (int i = 0; i < ITERATIONS; i++) {
+            supplier.get(key);
+        }
+
+        var threadMxBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadMxBean.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            supplier.get(key);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long allocated = threadMxBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement((double) elapsedNanos / ITERATIONS, (double) allocated / ITERATIONS);
+    }
+
+    private void print(String key, String mode, Measurement measurement) {
+        System.out.printf("%-39s | %-6s | %6.1f | %8.1f%n", key, mode, measurement.nanosPerOp(), measurement.bytesPerOp());
+    }
+
+    private Method target(String name) throws NoSuchMethodException {
+        return Target.class.getDeclaredMethod(name, Long.class, Request.class);
+    }
+
+    @FunctionalInterface
+    private interface KeySupplier {
+        String get(String key);
+    }
+
+    private record Measurement(double nanosPerOp, double bytesPerOp) {
+    }
+
+    public record Request(Long userId, String grade) {
+        public Long getUserId() {
+            return userId;
+        }
+
+        public String getGrade() {
+            return grade;
+        }
+
+        public List<String> lockKeys() {
+            return List.of("order:product:9", "order:coupon:1", "order:product:3", "order:product:9");
+        }
+    }
+
+    static class Target {
+        void placeOrder(Long userId, Request request) {
+        }
+    }
+}
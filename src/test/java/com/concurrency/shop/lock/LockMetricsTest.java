@@ -0,0 +1,79 @@
+package com.concurrency.shop.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import support.AbstractTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("분산 락 경합 지표 테스트")
+class LockMetricsTest extends AbstractTest {
+
+    @Test
+    @DisplayName("[정상 케이스] - 키 접두사별로 대기/점유 시간과 타임아웃을 집계하고, 오래 기다린 키만 리더보드에 누적")
+    void record_wait_hold_and_hot_keys_by_prefix() {
+        // given
+        var meterRegistry = new SimpleMeterRegistry();
+        var sut = new LockMetrics(meterRegistry, 10, 1);
+
+        // when
+        sut.recordWait(List.of("user:point:1"), LockMetrics.OUTCOME_ACQUIRED, TimeUnit.MILLISECONDS.toNanos(30));
+        sut.recordWait(List.of("user:point:2"), LockMetrics.OUTCOME_ACQUIRED, TimeUnit.MICROSECONDS.toNanos(100));
+        sut.recordWait(List.of("user:point:1"), LockMetrics.OUTCOME_TIMEOUT, TimeUnit.MILLISECONDS.toNanos(5_000));
+        sut.recordWait(List.of("order:product:9", "user:point:3"), LockMetrics.OUTCOME_ACQUIRED,
+                TimeUnit.MILLISECONDS.toNanos(2));
+        sut.recordHold(List.of("user:point:1"), TimeUnit.MILLISECONDS.toNanos(40));
+
+        // then
+        @SuppressWarnings("unchecked")
+        var userPoint = (Map<String, Object>) sut.summary().get("user:point");
+        Assertions.assertThat(sut.summary()).containsOnlyKeys("order:product", "user:point");
+        Assertions.assertThat(userPoint).containsEntry("acquired", 3L).containsEntry("timeouts", 1L);
+        Assertions.assertThat(meterRegistry.get("shop.lock.hold").tag("prefix", "user:point").timer().count())
+                .isEqualTo(1);
+
+        Assertions.assertThat(sut.hotKeys(10)).extracting(SpaceSavingTopKeys.Entry::key)
+                .containsExactly("user:point:1", "order:product:9", "user:point:3");
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 여러 키를 한 번에 획득하면 접두사별 1회로 집계하고, 리더보드에는 대기 시간을 키 수로 나눠 누적")
+    void record_multi_key_acquisition_once() {
+        // given
+        var meterRegistry = new SimpleMeterRegistry();
+        var sut = new LockMetrics(meterRegistry, 10, 1);
+
+        // when : 상품 3개 + 사용자 포인트 락을 한 번에 30ms 기다려 획득
+        var lockKeys = List.of("order:product:1", "order:product:2", "order:product:3", "user:point:7");
+        sut.recordWait(lockKeys, LockMetrics.OUTCOME_ACQUIRED, TimeUnit.MILLISECONDS.toNanos(30));
+        sut.recordHold(lockKeys, TimeUnit.MILLISECONDS.toNanos(10));
+
+        // then
+        var waitTimer = meterRegistry.get("shop.lock.wait")
+                .tags("prefix", "order:product", "outcome", LockMetrics.OUTCOME_ACQUIRED).timer();
+        Assertions.assertThat(waitTimer.count()).isEqualTo(1);
+        Assertions.assertThat(waitTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(30.0);
+        Assertions.assertThat(meterRegistry.get("shop.lock.hold").tag("prefix", "order:product").timer().count())
+                .isEqualTo(1);
+        Assertions.assertThat(sut.hotKeys(10))
+                .hasSize(4)
+                .allSatisfy(entry -> Assertions.assertThat(entry.count()).isEqualTo(7_500L));
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 엔드포인트의 top이 1 미만이면 잘못된 요청(400)으로 거절")
+    void reject_top_less_than_one() {
+        // given
+        var sut = new LockMetricsEndpoint(new LockMetrics(new SimpleMeterRegistry(), 10, 1));
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.locks(0)).isInstanceOf(InvalidEndpointRequestException.class);
+        Assertions.assertThatThrownBy(() -> sut.locks(-1)).isInstanceOf(InvalidEndpointRequestException.class);
+        Assertions.assertThat(sut.locks(null)).containsKeys("prefixes", "hotKeys");
+    }
+}
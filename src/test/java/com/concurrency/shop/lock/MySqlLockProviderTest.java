@@ -0,0 +1,81 @@
+package com.concurrency.shop.lock;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import support.AbstractConcurrencyTest;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("MySQL 네임드 락 테스트")
+class MySqlLockProviderTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[예외 케이스] - 여러 키 중 두 번째 GET_LOCK이 오류로 실패하면 먼저 잡은 키를 풀고 커넥션을 반납")
+    void release_acquired_keys_when_get_lock_fails() {
+        // given : 두 번째 GET_LOCK에서 SQLException을 던지는 커넥션
+        var firstKey = "test:mysql:" + UUID.randomUUID();
+        var secondKey = "test:mysql:" + UUID.randomUUID();
+        var closed = new AtomicInteger();
+        var sut = new MySqlLockProvider(failingOnSecondGetLock(closed));
+
+        // when
+        Assertions.assertThatThrownBy(() -> sut.tryLock(List.of(firstKey, secondKey), 1, 3, TimeUnit.SECONDS))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then : 다른 세션에서 첫 번째 키를 바로 잡을 수 있고, 빌린 커넥션은 반납됨
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT IS_FREE_LOCK(?)", Integer.class, firstKey)).isEqualTo(1);
+        Assertions.assertThat(closed).hasValue(1);
+    }
+
+    private DataSource failingOnSecondGetLock(AtomicInteger closed) {
+        var getLocks = new AtomicInteger();
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("getConnection")) {
+                        return invoke(method, dataSource, args);
+                    }
+                    Connection connection = dataSource.getConnection();
+                    return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                            (connectionProxy, connectionMethod, connectionArgs) -> {
+                                if (connectionMethod.getName().equals("prepareStatement")
+                                        && ((String) connectionArgs[0]).contains("GET_LOCK")
+                                        && getLocks.incrementAndGet() == 2) {
+                                    throw new SQLException("GET_LOCK 실패 (테스트)");
+                                }
+                                if (connectionMethod.getName().equals("close")) {
+                                    closed.incrementAndGet();
+                                }
+                                return invoke(connectionMethod, connection, connectionArgs);
+                            });
+                });
+    }
+
+    private Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
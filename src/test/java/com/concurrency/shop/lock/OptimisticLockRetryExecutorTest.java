@@ -0,0 +1,111 @@
+package com.concurrency.shop.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import support.AbstractTest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@DisplayName("낙관적 락 재시도 실행기 테스트")
+class OptimisticLockRetryExecutorTest extends AbstractTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("[정상 케이스] - 충돌이 해소되면 재시도 후 결과 반환")
+    void retry_until_success_when_conflict_resolved() {
+        // given
+        var sut = new OptimisticLockRetryExecutor(meterRegistry, 5, 1, 2, 1.0, 10);
+        var attempts = new AtomicInteger();
+
+        // when
+        var result = sut.execute("test.success", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw conflict();
+            }
+            return "ok";
+        });
+
+        // then
+        Assertions.assertThat(result).isEqualTo("ok");
+        Assertions.assertThat(attempts.get()).isEqualTo(3);
+        Assertions.assertThat(meterRegistry.counter("shop.optimistic.retries", "operation", "test.success").count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 최대 시도 횟수를 넘으면 포기")
+    void give_up_when_max_attempts_exceeded() {
+        // given
+        var sut = new OptimisticLockRetryExecutor(meterRegistry, 3, 1, 2, 1.0, 10);
+        var attempts = new AtomicInteger();
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.execute("test.max", () -> {
+                    attempts.incrementAndGet();
+                    throw conflict();
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        Assertions.assertThat(attempts.get()).isEqualTo(3);
+        Assertions.assertThat(meterRegistry.counter("shop.optimistic.give-ups",
+                "operation", "test.max", "reason", "max-attempts").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 재시도 예산이 소진되면 최대 시도 전에 포기")
+    void give_up_when_retry_budget_exhausted() {
+        // given : 토큰 1개, 적립 없음
+        var sut = new OptimisticLockRetryExecutor(meterRegistry, 10, 1, 2, 0.0, 1);
+        var attempts = new AtomicInteger();
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.execute("test.budget", () -> {
+                    attempts.incrementAndGet();
+                    throw conflict();
+                }))
+                .isInstanceOf(IllegalStateException.class);
+
+        Assertions.assertThat(attempts.get()).isEqualTo(2);
+        Assertions.assertThat(meterRegistry.counter("shop.optimistic.give-ups",
+                "operation", "test.budget", "reason", "retry-budget").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 낙관적 락 충돌이 아닌 예외는 재시도하지 않음")
+    void do_not_retry_other_exceptions() {
+        // given
+        var sut = new OptimisticLockRetryExecutor(meterRegistry, 5, 1, 2, 1.0, 10);
+        var attempts = new AtomicInteger();
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> sut.execute("test.other", () -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalStateException("재고가 부족합니다.");
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("재고가 부족합니다.");
+
+        Assertions.assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 백오프는 상한을 넘지 않음")
+    void backoff_is_capped() {
+        // given
+        var sut = new OptimisticLockRetryExecutor(meterRegistry, 5, 10, 50, 1.0, 10);
+
+        // when & then
+        for (int attempt = 1; attempt <= 30; attempt++) {
+            Assertions.assertThat(sut.backoffMillis(attempt)).isBetween(0L, 50L);
+        }
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException("Product", 1L);
+    }
+}
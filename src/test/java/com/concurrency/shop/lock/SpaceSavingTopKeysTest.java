@@ -0,0 +1,52 @@
+package com.concurrency.shop.lock;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import support.AbstractTest;
+
+import java.util.stream.IntStream;
+
+@DisplayName("Space-Saving 상위 키 추적 테스트")
+class SpaceSavingTopKeysTest extends AbstractTest {
+
+    @Test
+    @DisplayName("[정상 케이스] - 키 종류가 용량보다 많아도 가중치가 큰 키는 남고 내림차순으로 반환")
+    void keep_heavy_hitters_within_capacity() {
+        // given
+        var sut = new SpaceSavingTopKeys(4);
+
+        // when : 1,000개의 긴 꼬리 키 사이에 핫 키 2개
+        IntStream.range(0, 1_000).forEach(it -> {
+            sut.add("order:product:" + (1_000 + it), 1);
+            sut.add("order:product:1", 5);
+            if (it % 2 == 0) {
+                sut.add("user:point:7", 3);
+            }
+        });
+        var top = sut.top(2);
+
+        // then
+        Assertions.assertThat(top).extracting(SpaceSavingTopKeys.Entry::key)
+                .containsExactly("order:product:1", "user:point:7");
+        Assertions.assertThat(top.get(0).count()).isEqualTo(5_000);
+        Assertions.assertThat(sut.top(10)).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 가득 찬 상태의 새 키는 최소 카운터를 물려받고 그 값을 오차로 기록")
+    void inherit_min_counter_as_error_when_full() {
+        // given
+        var sut = new SpaceSavingTopKeys(2);
+        sut.add("a", 10);
+        sut.add("b", 3);
+
+        // when
+        sut.add("c", 1);
+
+        // then
+        Assertions.assertThat(sut.top(2)).containsExactly(
+                new SpaceSavingTopKeys.Entry("a", 10, 0),
+                new SpaceSavingTopKeys.Entry("c", 4, 3));
+    }
+}
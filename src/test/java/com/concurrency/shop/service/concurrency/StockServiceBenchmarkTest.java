@@ -0,0 +1,100 @@
+package com.concurrency.shop.service.concurrency;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.service.StockService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import support.AbstractConcurrencyTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 재고 서비스 구현별 처리량 비교 (StockService 빈 이름으로 교체)
+ *  - V1 : 락 없음 → 빠르지만 Lost Update 발생
+ *  - V2 : 상품 행 비관적 락 (SELECT FOR UPDATE)
+ *  - V4 : 파티션 단일 쓰기 스레드 + 그룹 커밋
+ */
+@Tag("benchmark")
+@DisplayName("재고 서비스 구현별 처리량 비교 테스트")
+class StockServiceBenchmarkTest extends AbstractConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int REQUEST_COUNT = 800;
+    private static final int PRODUCT_COUNT = 4;
+    private static final int INITIAL_STOCK = 10_000;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private Map<String, StockService> stockServices;
+
+    @Test
+    @DisplayName("[부하 측정] - V1 / V2 / V4 재고 차감 처리량과 정합성 비교")
+    void compare_stock_services() {
+        System.out.println("=== 재고 차감 처리량 (요청 " + REQUEST_COUNT + "건, 스레드 " + THREAD_COUNT + "개, 상품 " + PRODUCT_COUNT + "개) ===");
+        System.out.println("구현           | 처리량 (req/s) | 성공 | 실제 차감 | Lost Update");
+
+        for (String name : List.of("stockServiceV1", "stockServiceV2", "stockServiceV4")) {
+            var result = run(stockServices.get(name));
+
+            System.out.printf("%-14s | %14.1f | %4d | %9d | %d%n",
+                    name, result.throughput(), result.successes(), result.decreased(), result.successes() - result.decreased());
+
+            if (!name.equals("stockServiceV1")) {
+                Assertions.assertThat(result.decreased()).isEqualTo(result.successes());
+            }
+        }
+    }
+
+    private Result run(StockService stockService) {
+        // given
+        var products = IntStream.range(0, PRODUCT_COUNT)
+                .mapToObj(it -> testTransactionSupport.executeWithNewTx(
+                        () -> productRepository.save(new Product("처리량 측정 상품 " + it, 1_000L, INITIAL_STOCK))))
+                .toList();
+
+        var successes = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // when
+        long startedAt = System.nanoTime();
+        try {
+            var futures = IntStream.range(0, REQUEST_COUNT)
+                    .mapToObj(it -> CompletableFuture.runAsync(() -> {
+                        try {
+                            stockService.decreaseStock(products.get(it % PRODUCT_COUNT).getId(), 1);
+                            successes.incrementAndGet();
+                        } catch (RuntimeException ignored) {
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // then : V4는 커밋 후 반환하므로 이 시점에 MySQL 재고가 확정되어 있어야 함
+        var remainingStock = products.stream()
+                .mapToInt(product -> testTransactionSupport.executeWithNewTx(
+                        () -> productRepository.findById(product.getId()).orElseThrow().getStockQuantity()))
+                .sum();
+
+        return new Result(REQUEST_COUNT / (elapsedNanos / 1_000_000_000.0),
+                successes.get(), INITIAL_STOCK * PRODUCT_COUNT - remainingStock);
+    }
+
+    private record Result(double throughput, int successes, int decreased) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.coupon.Coupon;
+import com.concurrency.shop.domain.coupon.CouponRepository;
+import com.concurrency.shop.domain.coupon.CouponType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import support.AbstractIntegrationServiceTest;
+
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("Redis 쿠폰 카운터 통합 테스트")
+class CouponClaimServiceTest extends AbstractIntegrationServiceTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponClaimService couponClaimService;
+
+    @Test
+    @DisplayName("[정상 케이스] - 기동 시 재구성은 카운터가 없는 쿠폰만 적재하고, 다른 노드가 쓰고 있는 카운터는 덮지 않음")
+    void rebuild_keeps_existing_counter() {
+        // given : 카운터에 MySQL보다 많은 사용 횟수가 남아 있는 쿠폰(다른 노드의 미반영 사용분) + 카운터가 없는 쿠폰
+        var cached = couponRepository.save(new Coupon("카운터 쿠폰", CouponType.PERCENTAGE, 10L, 20));
+        var missing = couponRepository.save(new Coupon("미적재 쿠폰", CouponType.PERCENTAGE, 10L, 20));
+        em.flush();
+        counter(cached).putAll(Map.of("total", "20", "used", "7"));
+        counter(missing).delete();
+
+        // when
+        var loaded = couponClaimService.rebuildCounters(List.of(cached, missing));
+
+        // then
+        Assertions.assertThat(loaded).isEqualTo(1);
+        Assertions.assertThat(counter(cached).get("used")).isEqualTo("7");
+        Assertions.assertThat(counter(missing).readAllMap()).containsEntry("total", "20").containsEntry("used", "0");
+    }
+
+    private RMap<String, String> counter(Coupon coupon) {
+        return redissonClient.getMap("coupon:counter:" + coupon.getId(), StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,113 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.point.PointHistory;
+import com.concurrency.shop.domain.point.PointHistoryJdbcRepository;
+import com.concurrency.shop.domain.point.PointHistoryRepository;
+import com.concurrency.shop.domain.point.PointType;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import support.AbstractTest;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.ArgumentMatchers.anyList;
+
+@DisplayName("포인트 이력 기록기 테스트")
+class PointHistoryWriterTest extends AbstractTest {
+
+    private final User user = new User("history-writer", "history@writer.com", UserGrade.BRONZE, 0L);
+
+    @Test
+    @DisplayName("[정상 케이스] - ASYNC 모드는 배치 크기 이하로 묶어 기록하고, 종료 시 남은 이력을 모두 기록")
+    void write_in_batches_and_flush_on_shutdown_when_async() {
+        // given
+        var jdbcRepository = Mockito.mock(PointHistoryJdbcRepository.class);
+        var batchSizes = recordBatchSizes(jdbcRepository);
+        var sut = new PointHistoryWriter(Mockito.mock(PointHistoryRepository.class), jdbcRepository,
+                PointHistoryWriter.Mode.ASYNC, 1_000, 50, 20, 50);
+        sut.start();
+
+        // when
+        for (int i = 0; i < 520; i++) {
+            sut.write(history());
+        }
+        sut.shutdown();
+
+        // then
+        Assertions.assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(520);
+        Assertions.assertThat(batchSizes).allMatch(size -> size <= 50);
+        Assertions.assertThat(sut.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 버퍼가 가득 차면 유실하지 않고 호출 스레드가 직접 기록")
+    void write_on_caller_thread_when_buffer_is_full() {
+        // given : 기록 스레드를 시작하지 않아 버퍼가 비워지지 않는 상황
+        var jdbcRepository = Mockito.mock(PointHistoryJdbcRepository.class);
+        var batchSizes = recordBatchSizes(jdbcRepository);
+        var sut = new PointHistoryWriter(Mockito.mock(PointHistoryRepository.class), jdbcRepository,
+                PointHistoryWriter.Mode.ASYNC, 3, 50, 20, 1);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            sut.write(history());
+        }
+
+        // then : 3건은 버퍼, 2건은 호출 스레드에서 즉시 기록
+        Assertions.assertThat(sut.pendingCount()).isEqualTo(3);
+        Assertions.assertThat(batchSizes).containsExactly(1, 1);
+
+        sut.flush();
+        Assertions.assertThat(sut.pendingCount()).isZero();
+        Assertions.assertThat(batchSizes).containsExactly(1, 1, 3);
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - TRANSACTIONAL 모드는 트랜잭션 동안 모은 이력을 커밋 직전에 한 번에 기록")
+    void write_once_before_commit_when_transactional() {
+        // given
+        var jdbcRepository = Mockito.mock(PointHistoryJdbcRepository.class);
+        var batchSizes = recordBatchSizes(jdbcRepository);
+        var sut = new PointHistoryWriter(Mockito.mock(PointHistoryRepository.class), jdbcRepository,
+                PointHistoryWriter.Mode.TRANSACTIONAL, 1_000, 50, 20, 50);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            sut.write(history());
+            sut.write(history());
+            sut.write(history());
+            Assertions.assertThat(batchSizes).isEmpty();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        Assertions.assertThat(batchSizes).containsExactly(3);
+    }
+
+    private PointHistory history() {
+        return new PointHistory(user, PointType.EARN, 100L, 100L, null);
+    }
+
+    private List<Integer> recordBatchSizes(PointHistoryJdbcRepository jdbcRepository) {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            batchSizes.add(((List<?>) invocation.getArgument(0)).size());
+            return null;
+        }).when(jdbcRepository).insertAll(anyList());
+        return batchSizes;
+    }
+}
@@ -33,11 +33,14 @@ class PointServiceV2Test extends AbstractTest {
     @Mock
     private PointHistoryRepository pointHistoryRepository;
 
+    @Mock
+    private PointHistoryWriter pointHistoryWriter;
+
     @Test
     void usePointsWithException() {
         // given
         BDDMockito.given(
-                userRepository.findById(anyLong())
+                userRepository.findByIdWithPessimisticLock(anyLong())
         ).willReturn(Optional.empty());
 
         var targetUserId = 1L;
@@ -49,18 +52,18 @@ class PointServiceV2Test extends AbstractTest {
 
         BDDMockito.then(userRepository)
                 .should()
-                .findById(anyLong());
+                .findByIdWithPessimisticLock(anyLong());
 
-        BDDMockito.then(pointHistoryRepository)
+        BDDMockito.then(pointHistoryWriter)
                 .should(never())
-                .save(any(PointHistory.class));
+                .write(any(PointHistory.class));
     }
 
     @Test
     void usePoints() {
         // given
         BDDMockito.given(
-                userRepository.findById(anyLong())
+                userRepository.findByIdWithPessimisticLock(anyLong())
         ).willReturn(Optional.of(fixture.giveMeOne(User.class)));
 
         // when
@@ -69,10 +72,10 @@ class PointServiceV2Test extends AbstractTest {
         // then
         BDDMockito.then(userRepository)
                 .should()
-                .findById(anyLong());
+                .findByIdWithPessimisticLock(anyLong());
 
-        BDDMockito.then(pointHistoryRepository)
+        BDDMockito.then(pointHistoryWriter)
                 .should()
-                .save(any(PointHistory.class));
+                .write(any(PointHistory.class));
     }
 }
\ No newline at end of file
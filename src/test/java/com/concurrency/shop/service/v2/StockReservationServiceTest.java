@@ -0,0 +1,132 @@
+package com.concurrency.shop.service.v2;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.reservation.ReservationStatus;
+import com.concurrency.shop.domain.reservation.StockReservation;
+import com.concurrency.shop.domain.reservation.StockReservationRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.service.StockService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import support.AbstractIntegrationServiceTest;
+
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+@DisplayName("재고 예약 서비스 통합 테스트")
+class StockReservationServiceTest extends AbstractIntegrationServiceTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Test
+    @DisplayName("[정상 케이스] - 만료된 예약만 한 번에 만료 처리하고 재고를 합산 복구")
+    void expire_batch_restores_stock_of_expired_reservations_only() {
+        // given : 전체 10개 중 만료 예약 3건(2개씩) + 유효 예약 1건(3개)이 확보되어 상품에 남은 재고는 1개
+        var user = userRepository.save(new User("예약자", "reserve@test.com", UserGrade.BRONZE, 0L));
+        var product = productRepository.save(new Product("예약 상품", 1_000L, 1));
+
+        var expired = IntStream.range(0, 3)
+                .mapToObj(it -> stockReservationRepository.save(
+                        new StockReservation(user, product, 2, LocalDateTime.now().minusMinutes(1))))
+                .toList();
+        var active = stockReservationRepository.save(
+                new StockReservation(user, product, 3, LocalDateTime.now().plusMinutes(10)));
+        em.flush();
+        em.clear();
+
+        // when
+        var expiredCount = stockReservationService.expireBatch(100);
+
+        // then
+        em.clear();
+        Assertions.assertThat(expiredCount).isEqualTo(3);
+        Assertions.assertThat(stockOf(product)).isEqualTo(1 + 3 * 2);
+        Assertions.assertThat(expired)
+                .extracting(it -> stockReservationRepository.findById(it.getId()).orElseThrow().getStatus())
+                .containsOnly(ReservationStatus.EXPIRED);
+        Assertions.assertThat(stockReservationRepository.findById(active.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.RESERVED);
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 만료된 접수증 선점은 products 행이 아니라 주문 재고 서비스로 반환")
+    void expire_batch_restores_ticket_reservations_through_order_stock_service() {
+        // given : 주문 재고 서비스(V3/V4 등)가 차감한 접수증 선점 2건 + 예약 API 예약 1건
+        var user = userRepository.save(new User("선점자", "ticket@test.com", UserGrade.BRONZE, 0L));
+        var product = productRepository.save(new Product("선점 상품", 1_000L, 5));
+        stockReservationRepository.save(new StockReservation(user, product, 2, LocalDateTime.now().minusMinutes(1), "ticket-1"));
+        stockReservationRepository.save(new StockReservation(user, product, 1, LocalDateTime.now().minusMinutes(1), "ticket-2"));
+        stockReservationRepository.save(new StockReservation(user, product, 4, LocalDateTime.now().minusMinutes(1)));
+        em.flush();
+        em.clear();
+
+        var orderStockService = Mockito.mock(StockService.class);
+        var previous = ReflectionTestUtils.getField(stockReservationService, "orderStockService");
+        ReflectionTestUtils.setField(stockReservationService, "orderStockService", orderStockService);
+
+        // when
+        try {
+            Assertions.assertThat(stockReservationService.expireBatch(100)).isEqualTo(3);
+        } finally {
+            ReflectionTestUtils.setField(stockReservationService, "orderStockService", previous);
+        }
+
+        // then : 접수증 선점 3개는 주문 재고 서비스로, 예약 API 예약 4개만 products 행으로
+        Mockito.verify(orderStockService).increaseStock(product.getId(), 3);
+        Mockito.verifyNoMoreInteractions(orderStockService);
+        Assertions.assertThat(stockOf(product)).isEqualTo(5 + 4);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 만료 시각이 지난 예약은 확정 불가, 만료 전 예약은 확정")
+    void confirm_only_before_expiration() {
+        // given
+        var user = userRepository.save(new User("확정자", "confirm@test.com", UserGrade.BRONZE, 0L));
+        var product = productRepository.save(new Product("확정 상품", 1_000L, 10));
+        var expired = stockReservationRepository.save(
+                new StockReservation(user, product, 1, LocalDateTime.now().minusSeconds(1)));
+        var active = stockReservationRepository.save(
+                new StockReservation(user, product, 1, LocalDateTime.now().plusMinutes(10)));
+        em.flush();
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> stockReservationService.confirm(expired.getId()))
+                .isInstanceOf(IllegalStateException.class);
+
+        stockReservationService.confirm(active.getId());
+        em.clear();
+        Assertions.assertThat(stockReservationRepository.findById(active.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    private Integer stockOf(Product product) {
+        return jdbcTemplate.queryForObject(
+                "SELECT stock_quantity FROM products WHERE id = ?", Integer.class, product.getId());
+    }
+}
@@ -0,0 +1,140 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.dto.OrderItemRequest;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.lock.LockMetrics;
+import com.concurrency.shop.service.v2.AsyncOrderService;
+import com.concurrency.shop.service.v2.OrderServiceV2;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import support.AbstractConcurrencyTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@DisplayName("비동기 주문 서비스 동시성 테스트")
+class AsyncOrderServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private AsyncOrderService asyncOrderService;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderServiceV2 orderServiceV2;
+
+    @Autowired
+    private LockMetrics lockMetrics;
+
+    @Test
+    @DisplayName("[정상 케이스] - 호출 스레드 하나로 주문 30건을 동시에 걸어도 재고 10개만 판매되고, 포인트 락은 중첩 호출에서 재사용되며 모두 해제됨")
+    void create_orders_without_blocking_caller() throws InterruptedException {
+        // given
+        var username = "async-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = testTransactionSupport.executeWithNewTx(() ->
+                userRepository.save(new User(username, username + "@async.com", UserGrade.BRONZE, 100_000L)));
+        var product = testTransactionSupport.executeWithNewTx(() ->
+                productRepository.save(new Product("비동기 주문 상품", 1_000L, 10)));
+        var request = new OrderRequest(user.getId(), List.of(new OrderItemRequest(product.getId(), 1)), null, 100L);
+
+        var successes = new AtomicInteger();
+        var failures = new AtomicInteger();
+
+        // when : 락 대기가 호출 스레드를 막지 않으므로 30건을 바로 요청
+        var futures = IntStream.range(0, 30)
+                .mapToObj(it -> asyncOrderService.createOrder(request)
+                        .handle((order, e) -> {
+                            if (e == null) {
+                                successes.incrementAndGet();
+                            } else {
+                                Assertions.assertThat(e).isInstanceOf(CompletionException.class);
+                                failures.incrementAndGet();
+                            }
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        // then
+        awaitEarnRelayed(user.getId());
+        var remainingStock = testTransactionSupport.executeWithNewTx(
+                () -> productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+        var pointBalance = testTransactionSupport.executeWithNewTx(
+                () -> userRepository.findById(user.getId()).orElseThrow().getPointBalance());
+
+        Assertions.assertThat(successes.get()).isEqualTo(10);
+        Assertions.assertThat(failures.get()).isEqualTo(20);
+        Assertions.assertThat(remainingStock).isZero();
+        Assertions.assertThat(pointBalance).isEqualTo(100_000L - 10 * 100L + 10 * 10L);
+        Assertions.assertThat(request.lockKeys())
+                .allSatisfy(key -> Assertions.assertThat(redissonClient.getLock(key).isLocked()).isFalse());
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 기본 락 구현체가 Redis가 아니면 Redis 락을 먼저 잡지 않고 주문의 @DistributedLock이 직접 락을 획득")
+    void acquire_order_lock_through_provider_when_not_redis() {
+        // given
+        var username = "async-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = testTransactionSupport.executeWithNewTx(() ->
+                userRepository.save(new User(username, username + "@async.com", UserGrade.BRONZE, 0L)));
+        var product = testTransactionSupport.executeWithNewTx(() ->
+                productRepository.save(new Product("비동기 주문 상품", 1_000L, 10)));
+        var request = new OrderRequest(user.getId(), List.of(new OrderItemRequest(product.getId(), 1)), null, 0L);
+        var sut = new AsyncOrderService(redissonClient, orderServiceV2, lockMetrics,
+                2, 10, 10_000L, 10_000L, false, "mysqlLockProvider");
+        var acquiredBefore = lockCount("acquired");
+        var elidedBefore = lockCount("elided");
+
+        // when
+        var order = sut.createOrder(request).join();
+
+        // then : 호출자가 잡아 둔 락이 없으므로 안쪽 획득이 생략되지 않음
+        Assertions.assertThat(order.getId()).isNotNull();
+        Assertions.assertThat(lockCount("acquired") - acquiredBefore).isEqualTo(1);
+        Assertions.assertThat(lockCount("elided")).isEqualTo(elidedBefore);
+    }
+
+    @SuppressWarnings("unchecked")
+    private long lockCount(String name) {
+        var stats = (Map<String, Object>) lockMetrics.summary().get("order:product");
+        return stats != null ? (Long) stats.get(name) : 0L;
+    }
+
+    /**
+     * 주문 적립 이벤트는 백그라운드 릴레이가 반영하므로 대기 이벤트가 없어질 때까지 기다림
+     */
+    private void awaitEarnRelayed(Long userId) throws InterruptedException {
+        for (int i = 0; i < 100 && countPendingEarns(userId) > 0; i++) {
+            Thread.sleep(100);
+        }
+    }
+
+    private long countPendingEarns(Long userId) {
+        return testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_earn_outbox WHERE user_id = ? AND status = 'PENDING'", Long.class, userId));
+    }
+}
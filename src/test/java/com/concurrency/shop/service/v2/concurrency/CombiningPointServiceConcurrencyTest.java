@@ -0,0 +1,90 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.controller.v2.PointControllerV2;
+import com.concurrency.shop.domain.point.PointType;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import support.AbstractConcurrencyTest;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@DisplayName("포인트 작업 결합 서비스 동시성 테스트")
+class CombiningPointServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointControllerV2 pointControllerV2;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 포인트 API로 들어온 같은 사용자의 사용 50건을 묶어서 반영하고, 잔액이 부족한 작업만 거절")
+    void combine_same_user_operations_and_reject_only_insufficient() {
+        // given : 10,000 포인트로 300 포인트씩 50건 → 33건만 가능
+        var username = "combine-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = userRepository.save(new User(username, username + "@combine.com", UserGrade.BRONZE, 10_000L));
+        var batchesBefore = batchCount();
+
+        var successes = new AtomicInteger();
+        var rejections = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // when
+        try {
+            var futures = IntStream.range(0, REQUEST_COUNT)
+                    .mapToObj(it -> CompletableFuture.runAsync(() -> {
+                        try {
+                            pointControllerV2.use(user.getId(), 300L);
+                            successes.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            Assertions.assertThat(e).hasMessageContaining("포인트가 부족합니다");
+                            rejections.incrementAndGet();
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        var balance = userRepository.findById(user.getId()).orElseThrow().getPointBalance();
+        var histories = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_histories WHERE user_id = ? AND type = ?",
+                Long.class, user.getId(), PointType.USE.name());
+
+        Assertions.assertThat(successes.get()).isEqualTo(33);
+        Assertions.assertThat(rejections.get()).isEqualTo(17);
+        Assertions.assertThat(balance).isEqualTo(100L);
+        Assertions.assertThat(histories).isEqualTo(33);
+        Assertions.assertThat(batchCount() - batchesBefore).isLessThan(REQUEST_COUNT);
+    }
+
+    private long batchCount() {
+        var summary = meterRegistry.find("shop.point.combining.batch-size").summary();
+        return summary != null ? summary.count() : 0;
+    }
+}
@@ -0,0 +1,77 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.coupon.Coupon;
+import com.concurrency.shop.domain.coupon.CouponRepository;
+import com.concurrency.shop.domain.coupon.CouponType;
+import com.concurrency.shop.service.v2.CouponClaimService;
+import com.concurrency.shop.service.v2.CouponUsageWriteBehindFlusher;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import support.AbstractConcurrencyTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@DisplayName("Redis 선착순 쿠폰 차감 동시성 테스트")
+class CouponClaimServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponClaimService couponClaimService;
+
+    @Autowired
+    private CouponUsageWriteBehindFlusher couponUsageWriteBehindFlusher;
+
+    @Test
+    @DisplayName("[정상 케이스] - 한정수량 20개 쿠폰에 50명이 동시에 요청하면 20명만 성공하고 MySQL에 20회 반영")
+    void claim_coupon_when_request_concurrently() {
+        // given
+        var coupon = testTransactionSupport.executeWithNewTx(
+                () -> couponRepository.save(new Coupon("선착순 테스트 쿠폰", CouponType.PERCENTAGE, 20L, 20)));
+        // 재구성은 남아 있는 카운터를 유지하므로 이전 실행에서 같은 ID로 남은 카운터를 지우고 적재
+        redissonClient.getKeys().delete("coupon:counter:" + coupon.getId());
+        couponClaimService.rebuildCounters(List.of(coupon));
+
+        var successes = new AtomicInteger();
+        var soldOut = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // when
+        try {
+            var futures = IntStream.range(0, 50)
+                    .mapToObj(it -> CompletableFuture.runAsync(() -> {
+                        try {
+                            couponClaimService.claim(coupon.getId());
+                            successes.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            soldOut.incrementAndGet();
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
+        }
+        testTransactionSupport.executeWithNewTx(() -> couponUsageWriteBehindFlusher.flush());
+
+        // then
+        var usedCount = testTransactionSupport.executeWithNewTx(
+                () -> couponRepository.findById(coupon.getId()).orElseThrow().getUsedCount());
+
+        Assertions.assertThat(successes.get()).isEqualTo(20);
+        Assertions.assertThat(soldOut.get()).isEqualTo(30);
+        Assertions.assertThat(usedCount).isEqualTo(20);
+    }
+}
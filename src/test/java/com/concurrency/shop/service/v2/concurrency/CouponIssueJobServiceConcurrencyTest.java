@@ -0,0 +1,121 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.coupon.Coupon;
+import com.concurrency.shop.domain.coupon.CouponIssueJob;
+import com.concurrency.shop.domain.coupon.CouponIssueJobRepository;
+import com.concurrency.shop.domain.coupon.CouponIssueJobStatus;
+import com.concurrency.shop.domain.coupon.CouponRepository;
+import com.concurrency.shop.domain.coupon.CouponType;
+import com.concurrency.shop.domain.coupon.UserCouponJdbcRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.service.v2.CouponIssueJobService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import support.AbstractConcurrencyTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+@DisplayName("쿠폰 대량 발급 작업 테스트")
+class CouponIssueJobServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponIssueJobRepository couponIssueJobRepository;
+
+    @Autowired
+    private CouponIssueJobService couponIssueJobService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 병렬 청크로 전체 사용자에게 1장씩 발급하고, 다시 실행해도 중복 발급하지 않음")
+    void issue_coupon_to_all_users_once() {
+        // given
+        var prefix = UUID.randomUUID().toString().substring(0, 8);
+        userRepository.saveAll(IntStream.range(0, 250)
+                .mapToObj(it -> new User(prefix + "-" + it, prefix + "-" + it + "@bulk.com", UserGrade.BRONZE, 0L))
+                .toList());
+        var coupon = couponRepository.save(new Coupon("대량 발급 쿠폰", CouponType.FIXED_AMOUNT, 1_000L, 1_000_000));
+        var userCount = userRepository.count();
+
+        // when
+        var first = couponIssueJobService.run(
+                couponIssueJobRepository.save(new CouponIssueJob(coupon.getId(), 37, 4)).getId());
+        var second = couponIssueJobService.run(
+                couponIssueJobRepository.save(new CouponIssueJob(coupon.getId(), 64, 2)).getId());
+
+        // then
+        var issuedRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_coupons WHERE coupon_id = ?", Long.class, coupon.getId());
+
+        Assertions.assertThat(first.getStatus()).isEqualTo(CouponIssueJobStatus.COMPLETED);
+        Assertions.assertThat(first.getProcessedCount()).isEqualTo(userCount);
+        Assertions.assertThat(first.getIssuedCount()).isEqualTo(userCount);
+        Assertions.assertThat(second.getProcessedCount()).isEqualTo(userCount);
+        Assertions.assertThat(second.getIssuedCount()).isZero();
+        Assertions.assertThat(issuedRows).isEqualTo(userCount);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[예외 케이스] - 중간 청크가 실패하면 그 앞까지만 체크포인트가 전진하고, 재개하면 실패한 청크의 사용자까지 모두 발급")
+    void resume_from_chunk_before_failed_middle_chunk() {
+        // given : 새로 만든 사용자 중 가운데 사용자가 든 청크만 실패 (뒤 청크들은 성공)
+        var prefix = UUID.randomUUID().toString().substring(0, 8);
+        var users = userRepository.saveAll(IntStream.range(0, 250)
+                .mapToObj(it -> new User(prefix + "-" + it, prefix + "-" + it + "@resume.com", UserGrade.BRONZE, 0L))
+                .toList());
+        var failingUserId = users.get(100).getId();
+        var coupon = couponRepository.save(new Coupon("재개 발급 쿠폰", CouponType.FIXED_AMOUNT, 1_000L, 1_000_000));
+        var userCount = userRepository.count();
+
+        var failingRepository = new UserCouponJdbcRepository(jdbcTemplate) {
+            @Override
+            public int insertIgnore(Long couponId, List<Long> userIds) {
+                if (userIds.contains(failingUserId)) {
+                    throw new IllegalStateException("청크 발급 실패");
+                }
+                return super.insertIgnore(couponId, userIds);
+            }
+        };
+        var failingService = new CouponIssueJobService(couponIssueJobRepository, couponRepository, userRepository,
+                failingRepository, transactionTemplate, 37, 4);
+        var jobId = couponIssueJobRepository.save(new CouponIssueJob(coupon.getId(), 37, 4)).getId();
+
+        // when
+        var failed = failingService.run(jobId);
+        var resumed = couponIssueJobService.run(jobId);
+
+        // then
+        var issuedRows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_coupons WHERE coupon_id = ?", Long.class, coupon.getId());
+
+        Assertions.assertThat(failed.getStatus()).isEqualTo(CouponIssueJobStatus.FAILED);
+        Assertions.assertThat(failed.getLastUserId()).isLessThan(failingUserId);
+        Assertions.assertThat(resumed.getStatus()).isEqualTo(CouponIssueJobStatus.COMPLETED);
+        Assertions.assertThat(issuedRows).isEqualTo(userCount);
+        Assertions.assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_coupons WHERE coupon_id = ? AND user_id = ?", Long.class, coupon.getId(), failingUserId))
+                .isEqualTo(1L);
+    }
+}
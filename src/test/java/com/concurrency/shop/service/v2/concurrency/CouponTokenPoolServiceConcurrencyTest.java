@@ -0,0 +1,112 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.coupon.Coupon;
+import com.concurrency.shop.domain.coupon.CouponRepository;
+import com.concurrency.shop.domain.coupon.CouponType;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.service.v2.CouponTokenPoolService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import support.AbstractConcurrencyTest;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@DisplayName("선착순 쿠폰 토큰 풀 동시성 테스트")
+class CouponTokenPoolServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponTokenPoolService couponTokenPoolService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[정상 케이스] - 토큰 10개에 50명이 동시에 요청하면 10명만 발급되고, 같은 사용자가 다시 요청하면 토큰이 반납됨")
+    void claim_token_when_request_concurrently() {
+        // given
+        var prefix = UUID.randomUUID().toString().substring(0, 8);
+        var users = testTransactionSupport.executeWithNewTx(() -> userRepository.saveAll(IntStream.range(0, 50)
+                .mapToObj(it -> new User(prefix + "-" + it, prefix + "-" + it + "@token.com", UserGrade.BRONZE, 0L))
+                .toList()));
+        // 최대 11개 중 10개만 토큰으로 적재 (남은 1개는 재요청 확인용 재적재)
+        var coupon = testTransactionSupport.executeWithNewTx(
+                () -> couponRepository.save(new Coupon("토큰 풀 쿠폰", CouponType.FIXED_AMOUNT, 1_000L, 11)));
+        couponTokenPoolService.fill(coupon.getId(), 10);
+
+        var successes = new AtomicInteger();
+        var soldOut = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // when
+        try {
+            var futures = users.stream()
+                    .map(user -> CompletableFuture.runAsync(() -> {
+                        try {
+                            couponTokenPoolService.claim(coupon.getId(), user.getId());
+                            successes.incrementAndGet();
+                        } catch (IllegalStateException e) {
+                            soldOut.incrementAndGet();
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        var issuedRows = testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_coupons WHERE coupon_id = ?", Long.class, coupon.getId()));
+        var issuedUserId = testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                "SELECT MIN(user_id) FROM user_coupons WHERE coupon_id = ?", Long.class, coupon.getId()));
+
+        Assertions.assertThat(successes.get()).isEqualTo(10);
+        Assertions.assertThat(soldOut.get()).isEqualTo(40);
+        Assertions.assertThat(issuedRows).isEqualTo(10);
+        Assertions.assertThat(couponTokenPoolService.remaining(coupon.getId())).isZero();
+
+        // 이미 발급받은 사용자의 재요청은 실패하고 토큰은 풀로 돌아감
+        couponTokenPoolService.fill(coupon.getId(), 1);
+        Assertions.assertThatThrownBy(() -> couponTokenPoolService.claim(coupon.getId(), issuedUserId))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 발급받은");
+        Assertions.assertThat(couponTokenPoolService.remaining(coupon.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 이미 발급된 수량을 빼고 남은 발급 가능 수량보다 많은 토큰은 적재하지 않음")
+    void reject_fill_over_issuable_count() {
+        // given : 최대 3개 중 2개 발급
+        var prefix = UUID.randomUUID().toString().substring(0, 8);
+        var users = testTransactionSupport.executeWithNewTx(() -> userRepository.saveAll(IntStream.range(0, 2)
+                .mapToObj(it -> new User(prefix + "-" + it, prefix + "-" + it + "@token.com", UserGrade.BRONZE, 0L))
+                .toList()));
+        var coupon = testTransactionSupport.executeWithNewTx(
+                () -> couponRepository.save(new Coupon("재적재 쿠폰", CouponType.FIXED_AMOUNT, 1_000L, 3)));
+        couponTokenPoolService.fill(coupon.getId(), 3);
+        users.forEach(user -> couponTokenPoolService.claim(coupon.getId(), user.getId()));
+
+        // when & then : 기존 풀은 그대로 두고 거절, 남은 수량만큼은 교체 적재
+        Assertions.assertThatThrownBy(() -> couponTokenPoolService.fill(coupon.getId(), 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("발급 가능: 1");
+        Assertions.assertThat(couponTokenPoolService.remaining(coupon.getId())).isEqualTo(1);
+        Assertions.assertThat(couponTokenPoolService.fill(coupon.getId(), 1)).isEqualTo(1);
+    }
+}
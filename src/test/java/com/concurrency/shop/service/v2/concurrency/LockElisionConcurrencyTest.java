@@ -0,0 +1,198 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.dto.OrderItemRequest;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.lock.DistributedLockAop;
+import com.concurrency.shop.lock.LockMetrics;
+import com.concurrency.shop.service.v2.OrderServiceV2;
+import com.concurrency.shop.service.v3.OrderServiceV3;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.redisnode.RedisNode;
+import org.redisson.api.redisnode.RedisNodes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import support.AbstractConcurrencyTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 중첩 @DistributedLock 락 생략 효과 측정
+ *
+ * 같은 주문을 락 생략 on/off로 순차 실행하고 Redis INFO commandstats 증가분을 주문 수로 나눔
+ *  - V2 : 주문 락 키에 user:point 포함 (포인트 사용 시) → 안쪽 usePoints 락 생략
+ *  - V3 : 주문 락이 user:point를 함께 잡음 (포인트 사용 시) → 안쪽 usePoints (적립 시 earnPoints도) 락 생략
+ * commandstats는 Lua 스크립트 안의 명령도 집계하고 다른 스케줄러(아웃박스 릴레이 등)의 명령도 섞이므로 값은 근사치
+ */
+@DisplayName("중첩 분산 락 생략 테스트")
+class LockElisionConcurrencyTest extends AbstractConcurrencyTest {
+
+    private static final int ORDER_COUNT = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderServiceV2 orderServiceV2;
+
+    @Autowired
+    private OrderServiceV3 orderServiceV3;
+
+    @Autowired
+    private DistributedLockAop distributedLockAop;
+
+    @Autowired
+    private LockMetrics lockMetrics;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void enableElision() {
+        ReflectionTestUtils.setField(distributedLockAop, "elisionEnabled", true);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 주문 락이 포인트 키를 보유하면 안쪽 포인트 서비스의 락 획득은 생략되고, 주문이 끝나면 락이 모두 해제됨")
+    void elide_nested_point_lock_inside_order() throws InterruptedException {
+        // given
+        var user = saveUser(100_000L);
+        var product = saveProduct();
+        var elidedBefore = elidedCount("user:point");
+
+        // when
+        orderServiceV2.createOrder(orderRequest(user, product));
+        orderServiceV3.createOrder(orderRequest(user, product));
+
+        // then : V2 / V3 주문 안쪽 usePoints + V3 주문 안쪽 earnPoints의 user:point 락 획득이 생략됨
+        //        (V2 적립은 아웃박스 릴레이가 user:point 락을 따로 잡으므로 반영이 끝난 뒤 해제 여부 확인)
+        awaitEarnRelayed(user.getId());
+        Assertions.assertThat(elidedCount("user:point") - elidedBefore).isEqualTo(3);
+        Assertions.assertThat(redissonClient.getLock("user:point:" + user.getId()).isLocked()).isFalse();
+        Assertions.assertThat(redissonClient.getLock("order:create:user:" + user.getId()).isLocked()).isFalse();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 포인트를 쓰지도 적립하지도 않는 V3 주문은 사용자 포인트 락을 잡지 않음")
+    void skip_point_lock_for_v3_order_without_points() {
+        // given : BRONZE(1%) 적립이 0이 되는 99원 상품
+        var user = saveUser(0L);
+        var product = testTransactionSupport.executeWithNewTx(() ->
+                productRepository.save(new Product("적립 없는 상품", 99L, 10_000)));
+        var acquiredBefore = lockCount("user:point", "acquired");
+        var elidedBefore = lockCount("user:point", "elided");
+
+        // when
+        orderServiceV3.createOrder(new OrderRequest(user.getId(), List.of(new OrderItemRequest(product.getId(), 1)), null, 0L));
+
+        // then
+        Assertions.assertThat(lockCount("user:point", "acquired")).isEqualTo(acquiredBefore);
+        Assertions.assertThat(lockCount("user:point", "elided")).isEqualTo(elidedBefore);
+        Assertions.assertThat(lockCount("order:create:user", "acquired")).isPositive();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[부하 측정] - 락 생략 on/off별 주문당 Redis 명령 수 비교")
+    void compare_redis_commands_per_order() {
+        System.out.println("=== 주문당 Redis 명령 수 (포인트 사용 주문 " + ORDER_COUNT + "건, 순차 실행) ===");
+        System.out.println("서비스 | 락 생략 off | 락 생략 on | 감소");
+
+        var v2Off = measure(false, request -> orderServiceV2.createOrder(request));
+        var v2On = measure(true, request -> orderServiceV2.createOrder(request));
+        var v3Off = measure(false, request -> orderServiceV3.createOrder(request));
+        var v3On = measure(true, request -> orderServiceV3.createOrder(request));
+
+        System.out.printf("V2     | %11.1f | %10.1f | %4.1f%n", v2Off, v2On, v2Off - v2On);
+        System.out.printf("V3     | %11.1f | %10.1f | %4.1f%n", v3Off, v3On, v3Off - v3On);
+    }
+
+    private double measure(boolean elisionEnabled, Consumer<OrderRequest> createOrder) {
+        // given
+        ReflectionTestUtils.setField(distributedLockAop, "elisionEnabled", elisionEnabled);
+        var user = saveUser(ORDER_COUNT * 100L);
+        var product = saveProduct();
+        var request = orderRequest(user, product);
+        createOrder.accept(request);
+
+        // when
+        long before = redisCommandCount();
+        for (int i = 1; i < ORDER_COUNT; i++) {
+            createOrder.accept(request);
+        }
+        long after = redisCommandCount();
+
+        // then
+        return (double) (after - before) / (ORDER_COUNT - 1);
+    }
+
+    private User saveUser(long pointBalance) {
+        var username = "elide-" + UUID.randomUUID().toString().substring(0, 8);
+        return testTransactionSupport.executeWithNewTx(() ->
+                userRepository.save(new User(username, username + "@elide.com", UserGrade.BRONZE, pointBalance)));
+    }
+
+    private Product saveProduct() {
+        return testTransactionSupport.executeWithNewTx(() ->
+                productRepository.save(new Product("락 생략 측정 상품", 1_000L, 10_000)));
+    }
+
+    private OrderRequest orderRequest(User user, Product product) {
+        return new OrderRequest(user.getId(), List.of(new OrderItemRequest(product.getId(), 1)), null, 100L);
+    }
+
+    private long elidedCount(String prefix) {
+        return lockCount(prefix, "elided");
+    }
+
+    @SuppressWarnings("unchecked")
+    private long lockCount(String prefix, String name) {
+        var stats = (Map<String, Object>) lockMetrics.summary().get(prefix);
+        return stats != null ? (Long) stats.get(name) : 0L;
+    }
+
+    /**
+     * INFO commandstats의 calls 합계 (INFO 자신도 1회 포함)
+     */
+    private long redisCommandCount() {
+        RedisNode node = redissonClient.getRedisNodes(RedisNodes.SINGLE).getInstance();
+        return node.info(RedisNode.InfoSection.COMMANDSTATS).values().stream()
+                .mapToLong(stats -> Long.parseLong(stats.substring("calls=".length(), stats.indexOf(','))))
+                .sum();
+    }
+
+    private void awaitEarnRelayed(Long userId) throws InterruptedException {
+        for (int i = 0; i < 100 && countPendingEarns(userId) > 0; i++) {
+            Thread.sleep(100);
+        }
+    }
+
+    private long countPendingEarns(Long userId) {
+        return testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_earn_outbox WHERE user_id = ? AND status = 'PENDING'", Long.class, userId));
+    }
+}
@@ -0,0 +1,123 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.lock.DistributedLockAop;
+import com.concurrency.shop.lock.LockProvider;
+import com.concurrency.shop.service.v2.PointServiceV2;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import support.AbstractConcurrencyTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * 락 구현체별 포인트 사용 처리량/지연 비교 (PointServiceV2.usePoints 시나리오)
+ *
+ * 사용자 수(= 경합 정도)를 바꿔가며 같은 요청 수를 실행
+ *  - redisLockProvider  : Redisson (네트워크 왕복 + Pub/Sub 대기)
+ *  - mysqlLockProvider  : GET_LOCK (전용 커넥션 풀, 세션당 락)
+ *  - localLockProvider  : JVM 내부 스트라이프 락 (단일 노드 전용)
+ */
+@Tag("benchmark")
+@DisplayName("락 구현체 비교 테스트")
+class LockProviderBenchmarkTest extends AbstractConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int REQUEST_COUNT = 400;
+    private static final long POINTS_PER_REQUEST = 10L;
+    private static final List<String> PROVIDERS = List.of("redisLockProvider", "mysqlLockProvider", "localLockProvider");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointServiceV2 pointServiceV2;
+
+    @Autowired
+    private DistributedLockAop distributedLockAop;
+
+    @Autowired
+    private Map<String, LockProvider> lockProviders;
+
+    @AfterEach
+    void restoreDefaultProvider() {
+        ReflectionTestUtils.setField(distributedLockAop, "defaultProvider", lockProviders.get("redisLockProvider"));
+    }
+
+    @Test
+    @DisplayName("[부하 측정] - 경합 정도별 Redisson / MySQL GET_LOCK / 로컬 락 처리량과 지연 비교")
+    void compare_lock_providers_by_contention() {
+        System.out.println("=== 포인트 사용 처리량 (요청 " + REQUEST_COUNT + "건, 스레드 " + THREAD_COUNT + "개) ===");
+        System.out.println("사용자 수 | 구현체            | 처리량 (req/s) | p50 (ms) | p99 (ms)");
+
+        for (int userCount : List.of(1, 16)) {
+            for (String provider : PROVIDERS) {
+                var result = run(userCount, provider);
+                System.out.printf("%8d | %-17s | %14.1f | %8.2f | %8.2f%n",
+                        userCount, provider, result.throughput(), result.p50Millis(), result.p99Millis());
+            }
+        }
+    }
+
+    private Result run(int userCount, String provider) {
+        // given
+        ReflectionTestUtils.setField(distributedLockAop, "defaultProvider", lockProviders.get(provider));
+        var initialBalance = REQUEST_COUNT * POINTS_PER_REQUEST;
+        var users = IntStream.range(0, userCount)
+                .mapToObj(it -> {
+                    var username = "lock-" + UUID.randomUUID().toString().substring(0, 8);
+                    return testTransactionSupport.executeWithNewTx(() -> userRepository.save(
+                            new User(username, username + "@lock.com", UserGrade.BRONZE, initialBalance)));
+                })
+                .toList();
+
+        var latencies = new long[REQUEST_COUNT];
+        final var executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // when
+        long startedAt = System.nanoTime();
+        try {
+            var futures = IntStream.range(0, REQUEST_COUNT)
+                    .mapToObj(it -> CompletableFuture.runAsync(() -> {
+                        long requestedAt = System.nanoTime();
+                        pointServiceV2.usePoints(users.get(it % userCount).getId(), POINTS_PER_REQUEST, null);
+                        latencies[it] = System.nanoTime() - requestedAt;
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // then : 모든 구현체에서 사용한 만큼 정확히 차감 (Lost Update 없음)
+        var usedPoints = users.stream()
+                .mapToLong(user -> initialBalance - testTransactionSupport.executeWithNewTx(
+                        () -> userRepository.findById(user.getId()).orElseThrow().getPointBalance()))
+                .sum();
+        Assertions.assertThat(usedPoints).isEqualTo(REQUEST_COUNT * POINTS_PER_REQUEST);
+
+        Arrays.sort(latencies);
+        return new Result(
+                REQUEST_COUNT / (elapsedNanos / 1_000_000_000.0),
+                latencies[REQUEST_COUNT / 2] / 1_000_000.0,
+                latencies[REQUEST_COUNT * 99 / 100] / 1_000_000.0);
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.order.Order;
+import com.concurrency.shop.domain.order.OrderItem;
+import com.concurrency.shop.domain.order.OrderRepository;
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.service.v2.OrderServiceV2;
+import com.concurrency.shop.service.v2.PointServiceV2;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import support.AbstractConcurrencyTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+@DisplayName("주문 취소 + 포인트 사용 동시성 테스트")
+class OrderCancelPointConcurrencyTest extends AbstractConcurrencyTest {
+
+    private static final int ORDER_COUNT = 20;
+    private static final long REWARDED = 100L;
+    private static final long USED = 100L;
+    private static final long INITIAL_BALANCE = 100_000L;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderServiceV2 orderServiceV2;
+
+    @Autowired
+    private PointServiceV2 pointServiceV2;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 적립 포인트 회수(주문 취소)와 포인트 사용이 동시에 일어나도 잔액 갱신이 유실되지 않음")
+    void cancel_orders_and_use_points_concurrently() {
+        // given : 적립 포인트가 이미 반영된(아웃박스 대기 이벤트 없음) 주문 20건
+        var name = "cancel-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = testTransactionSupport.executeWithNewTx(
+                () -> userRepository.save(new User(name, name + "@cancel.com", UserGrade.BRONZE, INITIAL_BALANCE)));
+        var product = testTransactionSupport.executeWithNewTx(
+                () -> productRepository.save(new Product("취소 상품", 1_000L, 100)));
+        var orderIds = testTransactionSupport.executeWithNewTx(() -> IntStream.range(0, ORDER_COUNT)
+                .mapToObj(it -> {
+                    var order = new Order(user, null);
+                    order.addOrderItem(new OrderItem(product, 1));
+                    order.calculateAmounts(0L, 0L, REWARDED);
+                    order.confirm();
+                    return orderRepository.save(order).getId();
+                })
+                .toList());
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // when : 취소 20건과 포인트 사용 20건을 섞어서 동시에 실행
+        try {
+            var futures = new ArrayList<CompletableFuture<Void>>();
+            for (Long orderId : orderIds) {
+                futures.add(CompletableFuture.runAsync(() -> orderServiceV2.cancelOrder(orderId), executor));
+                futures.add(CompletableFuture.runAsync(() -> pointServiceV2.usePoints(user.getId(), USED, null), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        var balance = testTransactionSupport.executeWithNewTx(
+                () -> userRepository.findById(user.getId()).orElseThrow().getPointBalance());
+        Assertions.assertThat(balance).isEqualTo(INITIAL_BALANCE - ORDER_COUNT * REWARDED - ORDER_COUNT * USED);
+    }
+}
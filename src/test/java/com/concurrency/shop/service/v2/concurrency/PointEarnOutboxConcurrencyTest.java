@@ -0,0 +1,146 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.dto.OrderItemRequest;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.service.v2.OrderServiceV2;
+import com.concurrency.shop.service.v2.PointEarnOutboxService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import support.AbstractConcurrencyTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+@DisplayName("포인트 적립 아웃박스 동시성 테스트")
+class PointEarnOutboxConcurrencyTest extends AbstractConcurrencyTest {
+
+    private static final int EVENTS_PER_USER = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointEarnOutboxService pointEarnOutboxService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderServiceV2 orderServiceV2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[정상 케이스] - 주문 V2는 상품 합계 기준 등급별 적립 포인트를 주문과 함께 아웃박스에 기록")
+    void record_reward_points_with_order() {
+        // given : GOLD(3%) 사용자가 10,000원 상품 2개 주문
+        var username = "reward-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = testTransactionSupport.executeWithNewTx(
+                () -> userRepository.save(new User(username, username + "@outbox.com", UserGrade.GOLD, 0L)));
+        var product = testTransactionSupport.executeWithNewTx(
+                () -> productRepository.save(new Product("적립 상품", 10_000L, 10)));
+
+        // when
+        var order = orderServiceV2.createOrder(
+                new OrderRequest(user.getId(), List.of(new OrderItemRequest(product.getId(), 2)), null, 0L));
+
+        // then : 주문과 같은 (테스트) 트랜잭션에서 조회
+        var points = jdbcTemplate.queryForObject(
+                "SELECT points FROM point_earn_outbox WHERE order_id = ?", Long.class, order.getId());
+
+        Assertions.assertThat(order.getTotalAmount()).isEqualTo(20_000L);
+        Assertions.assertThat(order.getPointRewarded()).isEqualTo(600L);
+        Assertions.assertThat(points).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 릴레이 여러 개가 동시에 실행되고 같은 이벤트를 다시 처리해도 주문당 한 번만 적립")
+    void relay_earn_events_once_per_order() {
+        // given : 사용자 3명 x 적립 이벤트 20건 (100 포인트)
+        var users = IntStream.range(0, 3)
+                .mapToObj(it -> {
+                    var username = "outbox-" + UUID.randomUUID().toString().substring(0, 8);
+                    return testTransactionSupport.executeWithNewTx(() ->
+                            userRepository.save(new User(username, username + "@outbox.com", UserGrade.BRONZE, 0L)));
+                })
+                .toList();
+        var baseOrderId = System.nanoTime();
+        var cancelledOrderId = baseOrderId - 1;
+        testTransactionSupport.executeWithNewTx(() -> {
+            for (int i = 0; i < EVENTS_PER_USER * users.size(); i++) {
+                pointEarnOutboxService.record(users.get(i % users.size()).getId(), baseOrderId + i, 100L);
+            }
+        });
+
+        // 반영 전 취소된 주문은 적립되지 않음 (백그라운드 릴레이보다 먼저 취소되도록 같은 트랜잭션에서 기록 후 취소)
+        Assertions.assertThat(testTransactionSupport.executeWithNewTx(() -> {
+            pointEarnOutboxService.record(users.get(0).getId(), cancelledOrderId, 100L);
+            return pointEarnOutboxService.cancelPending(cancelledOrderId);
+        })).isTrue();
+
+        // when : 릴레이 4개 동시 실행 (배치 7건씩)
+        relayConcurrently(cancelledOrderId, baseOrderId + EVENTS_PER_USER * users.size());
+
+        // 같은 이벤트를 다시 PENDING으로 돌려 재처리 (릴레이 장애 후 재시도 상황)
+        for (int i = 0; i < EVENTS_PER_USER * users.size(); i++) {
+            var orderId = baseOrderId + i;
+            testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.update(
+                    "UPDATE point_earn_outbox SET status = 'PENDING' WHERE order_id = ?", orderId));
+        }
+        relayConcurrently(cancelledOrderId, baseOrderId + EVENTS_PER_USER * users.size());
+
+        // then
+        for (User user : users) {
+            var balance = testTransactionSupport.executeWithNewTx(
+                    () -> userRepository.findById(user.getId()).orElseThrow().getPointBalance());
+            Assertions.assertThat(balance).isEqualTo(EVENTS_PER_USER * 100L);
+        }
+        var pending = testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_earn_outbox WHERE status = 'PENDING' AND order_id BETWEEN ? AND ?",
+                Long.class, cancelledOrderId, baseOrderId + EVENTS_PER_USER * users.size()));
+        Assertions.assertThat(pending).isZero();
+
+        // 이미 적립된 주문은 취소할 이벤트가 없음 → 호출자가 회수해야 함
+        Assertions.assertThat(testTransactionSupport.executeWithNewTx(
+                () -> pointEarnOutboxService.cancelPending(baseOrderId))).isFalse();
+    }
+
+    private void relayConcurrently(long fromOrderId, long toOrderId) {
+        final var executor = Executors.newFixedThreadPool(4);
+        try {
+            // SKIP LOCKED로 빈 결과를 본 릴레이가 먼저 끝나거나, 사용자 락 경합으로 건너뛴 이벤트가 남을 수 있으므로
+            // 대상 범위의 PENDING이 사라질 때까지 반복
+            for (int round = 0; round < 10 && countPending(fromOrderId, toOrderId) > 0; round++) {
+                var futures = IntStream.range(0, 4)
+                        .mapToObj(it -> CompletableFuture.runAsync(() -> {
+                            while (pointEarnOutboxService.relayBatch(7) > 0) {
+                                // 반영할 이벤트가 없을 때까지 반복 (보류된 이벤트는 다음 라운드에서 재시도)
+                            }
+                        }, executor))
+                        .toArray(CompletableFuture[]::new);
+
+                CompletableFuture.allOf(futures).join();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private long countPending(long fromOrderId, long toOrderId) {
+        return testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_earn_outbox WHERE status = 'PENDING' AND order_id BETWEEN ? AND ?",
+                Long.class, fromOrderId, toOrderId));
+    }
+}
@@ -0,0 +1,185 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.point.PointLedgerJdbcRepository;
+import com.concurrency.shop.domain.point.PointType;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.service.v2.PointLedgerService;
+import com.concurrency.shop.service.v2.PointSnapshotCompactor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import support.AbstractConcurrencyTest;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@DisplayName("포인트 원장 서비스 동시성 테스트")
+class PointLedgerServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+
+    @Autowired
+    private PointSnapshotCompactor pointSnapshotCompactor;
+
+    @Autowired
+    private PointLedgerJdbcRepository pointLedgerJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("[정상 케이스] - 동시 적립은 모두 반영되고, 동시 사용은 잔액만큼만 성공하며, 압축 후에도 잔액이 같음")
+    void earn_and_use_points_when_request_concurrently() {
+        // given
+        var username = "ledger-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = testTransactionSupport.executeWithNewTx(
+                () -> userRepository.save(new User(username, username + "@ledger.com", UserGrade.BRONZE, 10_000L)));
+        var userId = user.getId();
+
+        // when : 100 포인트 100회 동시 적립 → 20,000
+        runConcurrently(100, () -> pointLedgerService.earnPoints(userId, 100L, null));
+
+        // when : 500 포인트 50회 동시 사용 → 40회만 성공
+        var successes = new AtomicInteger();
+        var failures = new AtomicInteger();
+        runConcurrently(50, () -> {
+            try {
+                pointLedgerService.usePoints(userId, 500L, null);
+                successes.incrementAndGet();
+            } catch (IllegalStateException e) {
+                failures.incrementAndGet();
+            }
+        });
+
+        // then
+        Assertions.assertThat(successes.get()).isEqualTo(40);
+        Assertions.assertThat(failures.get()).isEqualTo(10);
+        Assertions.assertThat(balanceOf(userId)).isZero();
+
+        // 압축 후에는 스냅샷이 원장 끝까지 전진하고, 이후 증감만 더해짐
+        testTransactionSupport.executeWithNewTx(() -> pointSnapshotCompactor.compactBefore(LocalDateTime.now().plusSeconds(1)));
+        testTransactionSupport.executeWithNewTx(() -> pointLedgerService.refundPoints(userId, 300L, null));
+
+        var snapshotBalance = testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                "SELECT balance FROM point_balance_snapshots WHERE user_id = ?", Long.class, userId));
+
+        Assertions.assertThat(snapshotBalance).isZero();
+        Assertions.assertThat(balanceOf(userId)).isEqualTo(300L);
+        Assertions.assertThat(testTransactionSupport.executeWithNewTx(
+                () -> userRepository.findById(userId).orElseThrow().getPointBalance())).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 작은 ID의 원장이 큰 ID보다 늦게 커밋되어도 압축이 커밋을 기다렸다가 함께 반영")
+    void compact_waits_for_entry_committed_after_larger_id() throws Exception {
+        // given : 먼저 ID를 받은 적립(100)은 커밋 전에 멈추고, 나중 적립(200)은 먼저 커밋
+        var username = "late-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = testTransactionSupport.executeWithNewTx(
+                () -> userRepository.save(new User(username, username + "@ledger.com", UserGrade.BRONZE, 0L)));
+        var userId = user.getId();
+        var appended = new CountDownLatch(1);
+        var commit = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            var lateEarn = CompletableFuture.runAsync(() -> testTransactionSupport.executeWithNewTx(() -> {
+                pointLedgerJdbcRepository.append(userId, PointType.EARN, 100L, null);
+                appended.countDown();
+                await(commit);
+            }), executor);
+            await(appended);
+            testTransactionSupport.executeWithNewTx(() -> pointLedgerJdbcRepository.append(userId, PointType.EARN, 200L, null));
+
+            // when : 두 원장이 모두 상한 안에 들어오도록 압축 → 늦은 커밋을 기다리는 동안 끝나지 않음
+            var compaction = CompletableFuture.runAsync(() -> testTransactionSupport.executeWithNewTx(
+                    () -> pointSnapshotCompactor.compactBefore(LocalDateTime.now().plusSeconds(1))), executor);
+            Thread.sleep(300);
+            var finishedBeforeCommit = compaction.isDone();
+            commit.countDown();
+            CompletableFuture.allOf(lateEarn, compaction).get(10, TimeUnit.SECONDS);
+
+            // then
+            var snapshotBalance = testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                    "SELECT balance FROM point_balance_snapshots WHERE user_id = ?", Long.class, userId));
+
+            Assertions.assertThat(finishedBeforeCommit).isFalse();
+            Assertions.assertThat(snapshotBalance).isEqualTo(300L);
+            Assertions.assertThat(balanceOf(userId)).isEqualTo(300L);
+        } finally {
+            commit.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 압축이 끝나면 워터마크가 원장 끝으로 전진하고, 다음 압축은 그 이후 원장만 반영")
+    void compact_only_entries_after_watermark() {
+        // given : 지금까지의 원장을 모두 압축
+        var username = "mark-" + UUID.randomUUID().toString().substring(0, 8);
+        var user = testTransactionSupport.executeWithNewTx(
+                () -> userRepository.save(new User(username, username + "@ledger.com", UserGrade.BRONZE, 0L)));
+        var userId = user.getId();
+        testTransactionSupport.executeWithNewTx(() -> pointLedgerService.earnPoints(userId, 100L, null));
+        testTransactionSupport.executeWithNewTx(() -> pointSnapshotCompactor.compactBefore(LocalDateTime.now().plusSeconds(1)));
+        var firstWatermark = testTransactionSupport.executeWithNewTx(() -> pointLedgerJdbcRepository.findCompactionWatermark());
+
+        // when
+        testTransactionSupport.executeWithNewTx(() -> pointLedgerService.earnPoints(userId, 200L, null));
+        var advanced = testTransactionSupport.executeWithNewTx(
+                () -> pointSnapshotCompactor.compactBefore(LocalDateTime.now().plusSeconds(1)));
+
+        // then
+        var lastEntryId = testTransactionSupport.executeWithNewTx(
+                () -> jdbcTemplate.queryForObject("SELECT MAX(id) FROM point_ledger", Long.class));
+        var snapshotBalance = testTransactionSupport.executeWithNewTx(() -> jdbcTemplate.queryForObject(
+                "SELECT balance FROM point_balance_snapshots WHERE user_id = ?", Long.class, userId));
+
+        Assertions.assertThat(firstWatermark).isEqualTo(lastEntryId - 1);
+        Assertions.assertThat(advanced).isEqualTo(1);
+        Assertions.assertThat(testTransactionSupport.executeWithNewTx(() -> pointLedgerJdbcRepository.findCompactionWatermark()))
+                .isEqualTo(lastEntryId);
+        Assertions.assertThat(snapshotBalance).isEqualTo(300L);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long balanceOf(Long userId) {
+        return testTransactionSupport.executeWithNewTx(() -> pointLedgerService.getBalance(userId));
+    }
+
+    private void runConcurrently(int requestCount, Runnable task) {
+        final var executor = Executors.newFixedThreadPool(16);
+        try {
+            var futures = IntStream.range(0, requestCount)
+                    .mapToObj(it -> CompletableFuture.runAsync(task, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
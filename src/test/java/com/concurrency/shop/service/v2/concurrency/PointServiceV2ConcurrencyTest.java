@@ -58,7 +58,8 @@ class PointServiceV2ConcurrencyTest extends AbstractConcurrencyTest {
         testTransactionSupport.executeWithNewTx(() -> userRepository.save(userEntity));
 
         var targetUsePont = 1_000L;
-        var targetOrderId = 1L;
+        // 다른 테스트의 주문 적립 이력과 겹치지 않는 주문 ID
+        var targetOrderId = System.nanoTime();
         final var executor = Executors.newFixedThreadPool(10);;
 
         // when
@@ -0,0 +1,105 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.service.v2.ConcurrencyMode;
+import com.concurrency.shop.service.v2.StockServiceV2;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import support.AbstractConcurrencyTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 비관적 락 vs 낙관적 락 재고 차감 교차점 측정
+ *
+ * 같은 요청 수를 상품 수(= 경합 정도)만 바꿔가며 실행
+ *  - 상품 1개 : 모든 요청이 한 행에 몰림 → 낙관적 락은 충돌/재시도가 폭증
+ *  - 상품이 늘어날수록 충돌이 줄어 낙관적 락이 SELECT FOR UPDATE보다 유리해짐
+ */
+@Tag("benchmark")
+@DisplayName("재고 서비스 V2 동시성 모드 비교 테스트")
+class StockServiceV2ConcurrencyTest extends AbstractConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int REQUEST_COUNT = 400;
+    private static final int INITIAL_STOCK = 10_000;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockServiceV2 stockServiceV2;
+
+    @Test
+    @DisplayName("[부하 측정] - 경합 정도별 비관적 락 / 낙관적 락 처리량 비교")
+    void compare_pessimistic_and_optimistic_by_contention() {
+        System.out.println("=== 재고 차감 처리량 (요청 " + REQUEST_COUNT + "건, 스레드 " + THREAD_COUNT + "개) ===");
+        System.out.println("상품 수 | 비관적 락 (req/s) | 낙관적 락 (req/s) | 낙관적 락 실패");
+
+        for (int productCount : List.of(1, 4, 16, 64)) {
+            var pessimistic = run(productCount, ConcurrencyMode.PESSIMISTIC);
+            var optimistic = run(productCount, ConcurrencyMode.OPTIMISTIC);
+
+            System.out.printf("%7d | %17.1f | %17.1f | %d%n",
+                    productCount, pessimistic.throughput(), optimistic.throughput(), optimistic.failures());
+        }
+    }
+
+    private Result run(int productCount, ConcurrencyMode mode) {
+        // given
+        var products = IntStream.range(0, productCount)
+                .mapToObj(it -> testTransactionSupport.executeWithNewTx(
+                        () -> productRepository.save(new Product("교차점 측정 상품 " + it, 1_000L, INITIAL_STOCK))))
+                .toList();
+
+        var successes = new AtomicInteger();
+        var failures = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        // when
+        long startedAt = System.nanoTime();
+        try {
+            var futures = IntStream.range(0, REQUEST_COUNT)
+                    .mapToObj(it -> CompletableFuture.runAsync(() -> {
+                        var productId = products.get(it % productCount).getId();
+                        try {
+                            if (mode == ConcurrencyMode.OPTIMISTIC) {
+                                stockServiceV2.decreaseStockWithRetry(productId, 1);
+                            } else {
+                                stockServiceV2.decreaseStock(productId, 1);
+                            }
+                            successes.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            failures.incrementAndGet();
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // then : 성공한 차감 수만큼만 재고가 줄어야 함 (Lost Update 없음)
+        var remainingStock = products.stream()
+                .mapToInt(product -> testTransactionSupport.executeWithNewTx(
+                        () -> productRepository.findById(product.getId()).orElseThrow().getStockQuantity()))
+                .sum();
+
+        Assertions.assertThat(INITIAL_STOCK * productCount - remainingStock).isEqualTo(successes.get());
+
+        return new Result(REQUEST_COUNT / (elapsedNanos / 1_000_000_000.0), failures.get());
+    }
+
+    private record Result(double throughput, int failures) {
+    }
+}
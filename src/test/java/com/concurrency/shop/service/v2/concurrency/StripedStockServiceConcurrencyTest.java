@@ -0,0 +1,80 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.service.v2.StripedStockService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import support.AbstractConcurrencyTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@DisplayName("재고 분할 동시성 테스트")
+class StripedStockServiceConcurrencyTest extends AbstractConcurrencyTest {
+
+    private static final int SHARD_COUNT = 4;
+    private static final int STOCK = 12;
+    private static final int QUANTITY = 2;
+    private static final int REQUEST_COUNT = 40;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StripedStockService stripedStockService;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[정상 케이스] - 샤드마다 재고가 모자라 여러 샤드 차감이 몰려도 교착 없이 재고를 넘지 않게 차감")
+    void decrease_low_stock_shards_without_deadlock() {
+        // given : 샤드 4개에 3개씩 → 2개씩 차감하면 곧 어느 샤드도 단독으로 부족해짐
+        var product = testTransactionSupport.executeWithNewTx(
+                () -> productRepository.save(new Product("분할 재고 상품", 1_000L, STOCK)));
+        testTransactionSupport.executeWithNewTx(() -> stripedStockService.changeShardCount(product.getId(), SHARD_COUNT));
+        var succeeded = new AtomicInteger();
+        var errors = new ConcurrentLinkedQueue<String>();
+        final var executor = Executors.newFixedThreadPool(16);
+
+        // when
+        try {
+            List<CompletableFuture<Void>> futures = IntStream.range(0, REQUEST_COUNT)
+                    .mapToObj(it -> CompletableFuture.runAsync(() -> {
+                        try {
+                            testTransactionSupport.executeWithNewTx(
+                                    () -> stripedStockService.decreaseStock(product.getId(), QUANTITY));
+                            succeeded.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            errors.add(String.valueOf(e.getMessage()));
+                        }
+                    }, executor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then : 교착으로 롤백된 주문 없이 재고 부족만 실패, 남은 재고는 이후 주문으로 모두 판매 가능
+        Assertions.assertThat(errors).allMatch(message -> message.contains("재고가 부족합니다"));
+        int remaining = totalStock(product);
+        Assertions.assertThat(succeeded.get() * QUANTITY + remaining).isEqualTo(STOCK);
+        while (remaining >= QUANTITY) {
+            testTransactionSupport.executeWithNewTx(() -> stripedStockService.decreaseStock(product.getId(), QUANTITY));
+            remaining -= QUANTITY;
+        }
+        Assertions.assertThat(totalStock(product)).isEqualTo(remaining);
+    }
+
+    private int totalStock(Product product) {
+        return testTransactionSupport.executeWithNewTx(
+                () -> stripedStockService.getTotalStock(productRepository.findById(product.getId()).orElseThrow()));
+    }
+}
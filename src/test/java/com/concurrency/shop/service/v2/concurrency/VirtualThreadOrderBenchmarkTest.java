@@ -0,0 +1,138 @@
+package com.concurrency.shop.service.v2.concurrency;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.user.User;
+import com.concurrency.shop.domain.user.UserGrade;
+import com.concurrency.shop.domain.user.UserRepository;
+import com.concurrency.shop.dto.OrderItemRequest;
+import com.concurrency.shop.dto.OrderRequest;
+import com.concurrency.shop.service.v2.OrderServiceV2;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import support.AbstractConcurrencyTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 주문 처리 비교 (OrderServiceV2.createOrder)
+ *
+ * 동시 클라이언트 수만큼 주문을 한꺼번에 요청하고, 요청 시점부터 완료까지의 지연을 측정
+ *  - 플랫폼 : Tomcat 기본 최대 스레드 수(200) 고정 풀 → 나머지 클라이언트는 스레드를 기다림
+ *  - 가상   : 클라이언트마다 가상 스레드 1개 (Java 21에서만 실행, 17에서는 건너뜀)
+ * 두 방식 모두 실제 동시 처리 상한은 Hikari maximum-pool-size(20)와 상품별 분산 락
+ * 실행 시간이 길어 기본 test 태스크에서 제외 → ./gradlew benchmark -PjavaVersion=21
+ */
+@Tag("benchmark")
+@DisplayName("가상 스레드 주문 처리 비교 테스트")
+class VirtualThreadOrderBenchmarkTest extends AbstractConcurrencyTest {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final int PRODUCT_COUNT = 50;
+    private static final List<Integer> CLIENT_COUNTS = List.of(1_000, 10_000);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderServiceV2 orderServiceV2;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[부하 측정] - 동시 클라이언트 1천/1만 명에서 플랫폼 스레드와 가상 스레드의 주문 처리량과 지연 비교")
+    void compare_platform_and_virtual_threads() {
+        boolean virtualSupported = Runtime.version().feature() >= 21;
+
+        System.out.println("=== 주문 처리 (상품 " + PRODUCT_COUNT + "개, 플랫폼 스레드 " + PLATFORM_THREADS + "개, Java " + Runtime.version().feature() + ") ===");
+        System.out.println("클라이언트 | 스레드   | 처리량 (req/s) | p50 (ms) | p99 (ms) | 실패");
+
+        for (int clients : CLIENT_COUNTS) {
+            var platform = run(clients, false);
+            System.out.printf("%10d | 플랫폼   | %14.1f | %8d | %8d | %d%n",
+                    clients, platform.throughput(), platform.p50Millis(), platform.p99Millis(), platform.failures());
+
+            if (!virtualSupported) {
+                System.out.printf("%10d | 가상     | Java 21 필요 (-PjavaVersion=21)%n", clients);
+                continue;
+            }
+            var virtual = run(clients, true);
+            System.out.printf("%10d | 가상     | %14.1f | %8d | %8d | %d%n",
+                    clients, virtual.throughput(), virtual.p50Millis(), virtual.p99Millis(), virtual.failures());
+        }
+    }
+
+    private Result run(int clients, boolean virtualThreads) {
+        // given
+        var prefix = "vt-" + UUID.randomUUID().toString().substring(0, 8);
+        var users = testTransactionSupport.executeWithNewTx(() -> userRepository.saveAll(IntStream.range(0, PRODUCT_COUNT)
+                .mapToObj(it -> new User(prefix + "-" + it, prefix + "-" + it + "@vt.com", UserGrade.BRONZE, 0L))
+                .toList()));
+        var products = testTransactionSupport.executeWithNewTx(() -> productRepository.saveAll(IntStream.range(0, PRODUCT_COUNT)
+                .mapToObj(it -> new Product("가상 스레드 측정 상품 " + it, 1_000L, clients))
+                .toList()));
+
+        var failures = new AtomicInteger();
+        var latencies = new long[clients];
+        ExecutorService platformExecutor = virtualThreads ? null : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        Executor executor = virtualThreads ? new VirtualThreadTaskExecutor("order-vt-") : platformExecutor;
+
+        // when : 모든 클라이언트가 동시에 요청
+        long startedAt = System.nanoTime();
+        try {
+            var futures = IntStream.range(0, clients)
+                    .mapToObj(it -> CompletableFuture.runAsync(() -> {
+                        var request = new OrderRequest(users.get(it % PRODUCT_COUNT).getId(),
+                                List.of(new OrderItemRequest(products.get(it % PRODUCT_COUNT).getId(), 1)), null, 0L);
+                        try {
+                            orderServiceV2.createOrder(request);
+                        } catch (RuntimeException e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[it] = System.nanoTime() - startedAt;
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            if (platformExecutor != null) {
+                platformExecutor.shutdown();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // then : 성공한 주문 수만큼만 재고가 줄어야 함
+        var sold = products.stream()
+                .mapToLong(product -> clients - testTransactionSupport.executeWithNewTx(
+                        () -> productRepository.findById(product.getId()).orElseThrow().getStockQuantity()))
+                .sum();
+        Assertions.assertThat(sold).isEqualTo(clients - failures.get());
+
+        Arrays.sort(latencies);
+        return new Result(
+                clients / (elapsedNanos / 1_000_000_000.0),
+                latencies[(int) (clients * 0.50)] / 1_000_000,
+                latencies[Math.min(clients - 1, (int) (clients * 0.99))] / 1_000_000,
+                failures.get()
+        );
+    }
+
+    private record Result(double throughput, long p50Millis, long p99Millis, int failures) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.concurrency.shop.service.v3;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import com.concurrency.shop.domain.product.ProductStockJdbcRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import support.AbstractIntegrationServiceTest;
+
+import java.util.List;
+import java.util.Map;
+
+@DisplayName("V3 재고 캐시 통합 테스트")
+class StockServiceV3Test extends AbstractIntegrationServiceTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private RedissonClient redissonClient;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockJdbcRepository productStockJdbcRepository;
+
+    @Autowired
+    private StockServiceV3 stockServiceV3;
+
+    @Test
+    @DisplayName("[정상 케이스] - 기동 시 재구성은 캐시가 없는 상품만 적재하고, 다른 노드가 쓰고 있는 캐시는 덮지 않음")
+    void rebuild_keeps_existing_cache() {
+        // given : 캐시에 MySQL보다 적은 재고가 남아 있는 상품(다른 노드의 미반영 차감) + 캐시가 없는 상품
+        var cached = productRepository.save(new Product("캐시 상품", 1_000L, 10));
+        var missing = productRepository.save(new Product("미적재 상품", 1_000L, 10));
+        em.flush();
+        stockBucket(cached).set("7");
+        stockBucket(missing).delete();
+
+        // when
+        var loaded = stockServiceV3.rebuildStock(List.of(cached, missing));
+
+        // then
+        Assertions.assertThat(loaded).isEqualTo(1);
+        Assertions.assertThat(stockServiceV3.getCachedStock(cached.getId())).isEqualTo(7L);
+        Assertions.assertThat(stockServiceV3.getCachedStock(missing.getId())).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 재고가 음수가 되는 변경분은 반영하지 않고 배치 전체를 거부")
+    void reject_delta_that_makes_stock_negative() {
+        // given
+        var product = productRepository.save(new Product("음수 방지 상품", 1_000L, 3));
+        var other = productRepository.save(new Product("같은 배치 상품", 1_000L, 3));
+        em.flush();
+
+        // when & then
+        Assertions.assertThatThrownBy(() -> productStockJdbcRepository.applyStockDeltas(
+                        Map.of(product.getId(), -4L, other.getId(), -1L)))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .hasMessageContaining("음수");
+        em.clear();
+        Assertions.assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+    }
+
+    private RBucket<String> stockBucket(Product product) {
+        return redissonClient.getBucket("stock:product:" + product.getId(), StringCodec.INSTANCE);
+    }
+}
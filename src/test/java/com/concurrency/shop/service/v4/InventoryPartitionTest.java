@@ -0,0 +1,33 @@
+package com.concurrency.shop.service.v4;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import support.AbstractTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("재고 엔진 파티션 테스트")
+class InventoryPartitionTest extends AbstractTest {
+
+    @Test
+    @DisplayName("[예외 케이스] - 종료된 파티션에 들어온 명령은 처리되지 않고 즉시 실패")
+    void reject_command_offered_after_stop() throws InterruptedException {
+        // given
+        var sut = new InventoryPartition(0, 8, null, null, 10, 10);
+        sut.start();
+        sut.stop(1_000);
+
+        // when
+        var command = new StockCommand(StockCommand.Type.DECREASE, 1L, 1, new CompletableFuture<>());
+        var offered = sut.offer(command);
+
+        // then
+        Assertions.assertThat(offered).isTrue();
+        Assertions.assertThatThrownBy(() -> command.future().get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasMessageContaining("재고 엔진이 종료되었습니다");
+    }
+}
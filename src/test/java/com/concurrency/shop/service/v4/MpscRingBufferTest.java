@@ -0,0 +1,78 @@
+package com.concurrency.shop.service.v4;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import support.AbstractTest;
+
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+@DisplayName("MPSC 링 버퍼 테스트")
+class MpscRingBufferTest extends AbstractTest {
+
+    @Test
+    @DisplayName("[정상 케이스] - 넣은 순서대로 꺼내고, 가득 차면 offer 실패")
+    void poll_in_fifo_order_and_reject_when_full() {
+        // given
+        var sut = new MpscRingBuffer<Integer>(4);
+
+        // when
+        var offered = IntStream.range(0, 5).mapToObj(sut::offer).toList();
+
+        // then
+        Assertions.assertThat(offered).containsExactly(true, true, true, true, false);
+        Assertions.assertThat(sut.poll()).isEqualTo(0);
+        Assertions.assertThat(sut.offer(4)).isTrue();
+        Assertions.assertThat(IntStream.range(0, 4).mapToObj(it -> sut.poll()).toList()).containsExactly(1, 2, 3, 4);
+        Assertions.assertThat(sut.poll()).isNull();
+        Assertions.assertThat(sut.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 2의 거듭제곱이 아닌 크기는 생성 불가")
+    void create_with_non_power_of_two_capacity_is_fail() {
+        Assertions.assertThatThrownBy(() -> new MpscRingBuffer<Integer>(6))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("[동시성 케이스] - 여러 생산자가 동시에 넣어도 유실/중복 없이 단일 소비자가 모두 꺼냄")
+    void concurrent_producers_lose_nothing() {
+        // given
+        final int producerCount = 8;
+        final int perProducer = 10_000;
+        var sut = new MpscRingBuffer<Integer>(1024);
+        final var executor = Executors.newFixedThreadPool(producerCount);
+
+        // when
+        var consumed = new HashSet<Integer>();
+        try {
+            var producers = IntStream.range(0, producerCount)
+                    .mapToObj(producer -> CompletableFuture.runAsync(() -> {
+                        for (int i = 0; i < perProducer; i++) {
+                            while (!sut.offer(producer * perProducer + i)) {
+                                Thread.onSpinWait();
+                            }
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+
+            while (consumed.size() < producerCount * perProducer) {
+                var element = sut.poll();
+                if (element != null) {
+                    Assertions.assertThat(consumed.add(element)).isTrue();
+                }
+            }
+            CompletableFuture.allOf(producers).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        Assertions.assertThat(consumed).hasSize(producerCount * perProducer);
+        Assertions.assertThat(sut.poll()).isNull();
+    }
+}
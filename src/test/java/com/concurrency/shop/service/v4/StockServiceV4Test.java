@@ -0,0 +1,50 @@
+package com.concurrency.shop.service.v4;
+
+import com.concurrency.shop.domain.product.Product;
+import com.concurrency.shop.domain.product.ProductRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import support.AbstractConcurrencyTest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@DisplayName("V4 재고 엔진 통합 테스트")
+class StockServiceV4Test extends AbstractConcurrencyTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockServiceV4 stockServiceV4;
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("[예외 케이스] - 일괄 차감 중 한 상품이 실패하면 커밋된 다른 상품의 차감분을 한 번만 복구")
+    void restore_committed_decrease_once_when_batch_fails() {
+        // given
+        var enough = testTransactionSupport.executeWithNewTx(
+                () -> productRepository.save(new Product("재고 충분 상품", 1_000L, 5)));
+        var scarce = testTransactionSupport.executeWithNewTx(
+                () -> productRepository.save(new Product("재고 부족 상품", 1_000L, 1)));
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(enough.getId(), 2);
+        quantities.put(scarce.getId(), 3);
+
+        // when
+        Assertions.assertThatThrownBy(() -> stockServiceV4.decreaseStocks(quantities))
+                .hasMessageContaining("재고가 부족합니다");
+
+        // then : 같은 파티션이 복구 명령을 먼저 처리하므로 원래 재고만큼 차감되고, 그 이상은 차감되지 않음
+        stockServiceV4.decreaseStock(enough.getId(), 5);
+        Assertions.assertThatThrownBy(() -> stockServiceV4.decreaseStock(enough.getId(), 1))
+                .hasMessageContaining("재고가 부족합니다");
+        Assertions.assertThat(testTransactionSupport.executeWithNewTx(
+                () -> productRepository.findById(enough.getId()).orElseThrow().getStockQuantity()))
+                .isZero();
+    }
+}
@@ -0,0 +1,67 @@
+package com.concurrency.shop.waitingroom;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import support.AbstractIntegrationServiceTest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+@DisplayName("대기열 입장 허용량(Redis 토큰 버킷) 테스트")
+class AdmissionBudgetTest extends AbstractIntegrationServiceTest {
+
+    private static final double RATE = 100;
+    private static final double CAPACITY = 10;
+    private static final int INSTANCE_COUNT = 3;
+    private static final long DURATION_MS = 1_000;
+    private static final long TICK_MS = 50;
+
+    @Autowired
+    private AdmissionBudget admissionBudget;
+
+    @Test
+    @DisplayName("[정상 케이스] - 여러 인스턴스가 동시에 tick을 돌려도 전체 입장 인원은 초당 입장 인원을 넘지 않음")
+    void share_admission_rate_across_instances() {
+        // given
+        var bucketKey = "waiting-room:admission-bucket:test:" + UUID.randomUUID();
+        var admitted = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(INSTANCE_COUNT);
+        long startedAt = System.nanoTime();
+
+        // when : 인스턴스마다 TICK_MS 간격으로 허용량을 꺼냄
+        try {
+            List<CompletableFuture<Void>> futures = IntStream.range(0, INSTANCE_COUNT)
+                    .mapToObj(it -> CompletableFuture.runAsync(() -> {
+                        while (System.nanoTime() - startedAt < TimeUnit.MILLISECONDS.toNanos(DURATION_MS)) {
+                            admitted.addAndGet(admissionBudget.acquire(bucketKey, RATE, CAPACITY));
+                            sleep(TICK_MS);
+                        }
+                    }, executor))
+                    .toList();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        // then : 인스턴스별로 허용량을 계산했다면 RATE × INSTANCE_COUNT에 가까움
+        Assertions.assertThat(admitted.get()).isLessThanOrEqualTo((int) (RATE * elapsedSeconds + CAPACITY));
+        Assertions.assertThat(admitted.get()).isGreaterThanOrEqualTo((int) (RATE * DURATION_MS / 1000.0 * 0.7));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
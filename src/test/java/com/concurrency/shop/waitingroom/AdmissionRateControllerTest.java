@@ -0,0 +1,63 @@
+package com.concurrency.shop.waitingroom;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import support.AbstractTest;
+
+@DisplayName("대기열 입장 속도 조절기(AIMD) 테스트")
+class AdmissionRateControllerTest extends AbstractTest {
+
+    @Test
+    @DisplayName("[정상 케이스] - 지연이 목표 이하면 입장 속도를 일정량씩 증가 (최대값 제한)")
+    void increase_rate_additively_when_latency_is_low() {
+        // given
+        var sut = new AdmissionRateController(50, 5, 60, 5, 0.5, 500, 0.2);
+
+        // when
+        sut.recordLatency(100);
+        var first = sut.adjust();
+        sut.recordLatency(100);
+        var second = sut.adjust();
+        sut.recordLatency(100);
+        var third = sut.adjust();
+
+        // then
+        Assertions.assertThat(first).isEqualTo(55);
+        Assertions.assertThat(second).isEqualTo(60);
+        Assertions.assertThat(third).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("[예외 케이스] - 지연 EWMA가 목표를 넘으면 입장 속도를 절반으로 감소 (최소값 제한)")
+    void decrease_rate_multiplicatively_when_latency_is_high() {
+        // given
+        var sut = new AdmissionRateController(40, 15, 500, 5, 0.5, 500, 1.0);
+
+        // when
+        sut.recordLatency(2_000);
+        var first = sut.adjust();
+        sut.recordLatency(2_000);
+        var second = sut.adjust();
+
+        // then
+        Assertions.assertThat(first).isEqualTo(20);
+        Assertions.assertThat(second).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("[정상 케이스] - 조정 주기 동안 완료된 주문이 없으면 속도 유지, EWMA는 최근 값에 가중")
+    void keep_rate_without_samples_and_smooth_latency() {
+        // given
+        var sut = new AdmissionRateController(50, 5, 500, 5, 0.5, 500, 0.5);
+
+        // when
+        var unchanged = sut.adjust();
+        sut.recordLatency(100);
+        sut.recordLatency(300);
+
+        // then
+        Assertions.assertThat(unchanged).isEqualTo(50);
+        Assertions.assertThat(sut.getLatencyEwma()).isEqualTo(200);
+    }
+}